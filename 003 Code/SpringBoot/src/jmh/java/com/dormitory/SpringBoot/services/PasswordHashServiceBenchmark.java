@@ -0,0 +1,117 @@
+package com.dormitory.SpringBoot.services;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordHashService 처리량 (전용 스레드 풀 + 제한 대기열)
+ * ✅ 요청 스레드 16개가 동시에 로그인하는 상황에서 풀 크기별 검증 처리량과 과부하 거절 수 측정
+ * ✅ direct: 풀을 거치지 않고 요청 스레드에서 바로 BCrypt 검증 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class PasswordHashServiceBenchmark {
+
+    private static final String PASSWORD = "password1234!";
+
+    /**
+     * 해시 풀 스레드 수 (운영 기본값은 코어 수의 절반)
+     */
+    @Param({"1", "2", "4"})
+    public int threads;
+
+    @Param({"64"})
+    public int queueCapacity;
+
+    @Param({"10"})
+    public int strength;
+
+    private PasswordHashService passwordHashService;
+    private BCryptPasswordEncoder passwordEncoder;
+    private ThreadPoolTaskExecutor executor;
+    private String encodedPassword;
+
+    /**
+     * 스레드별 결과 수 (JMH 결과에 accepted/rejected 로 함께 출력)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long accepted;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        // AsyncConfig.passwordHashExecutor와 같은 구성
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        passwordHashService = new PasswordHashService();
+        setField(passwordHashService, "passwordEncoder", passwordEncoder);
+        setField(passwordHashService, "passwordHashExecutor", executor);
+        setField(passwordHashService, "bcryptStrength", strength);
+        setField(passwordHashService, "timeoutMillis", 5000L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches(Outcome outcome) {
+        try {
+            boolean matched = passwordHashService.matches(PASSWORD, encodedPassword);
+            outcome.accepted++;
+            return matched;
+        } catch (PasswordHashService.OverloadedException e) {
+            outcome.rejected++;
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
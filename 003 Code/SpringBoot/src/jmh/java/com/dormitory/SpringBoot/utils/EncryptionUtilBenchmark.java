@@ -0,0 +1,111 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptionUtil 암복호화 처리량
+ * ✅ 단건 encrypt/decrypt (GCM, 기존 ECB 형식)
+ * ✅ 목록 화면 크기의 decryptAll (중복 값 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EncryptionUtilBenchmark {
+
+    private static final String SECRET_KEY = "aBcDeFgHiJkLmNoPqRsTuVwXyZ123456";
+
+    /**
+     * 저장 형식 - gcm: "v1:" + Base64, legacy: 접두사 없는 AES/ECB
+     */
+    @Param({"gcm", "legacy"})
+    public String format;
+
+    /**
+     * 일괄 복호화 목록 크기 (사용자 목록 한 페이지 ~ 출석 테이블 한 동)
+     */
+    @Param({"50", "500"})
+    public int listSize;
+
+    private EncryptionUtil encryptionUtil;
+    private String plainText;
+    private String cipherText;
+    private List<String> cipherTexts;
+
+    @Setup
+    public void setUp() throws Exception {
+        encryptionUtil = new EncryptionUtil();
+        setField(encryptionUtil, "secretKey", SECRET_KEY);
+        setField(encryptionUtil, "gcmKeysConfig", "");
+        setField(encryptionUtil, "activeKeyVersion", 1);
+        encryptionUtil.init();
+
+        plainText = "홍길동";
+        cipherText = encode(plainText);
+
+        // 암호문 목록 - 같은 값(같은 사용자의 여러 기록)이 섞인 실제 목록처럼 약 10% 중복
+        int distinctCount = Math.max(1, listSize - listSize / 10);
+        List<String> distinct = new ArrayList<>(distinctCount);
+        for (int i = 0; i < distinctCount; i++) {
+            distinct.add(encode("사용자" + i));
+        }
+        cipherTexts = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            cipherTexts.add(distinct.get(i % distinctCount));
+        }
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public Map<String, String> decryptAll() {
+        return encryptionUtil.decryptAll(cipherTexts);
+    }
+
+    private String encode(String value) throws Exception {
+        return "legacy".equals(format) ? encryptLegacy(value) : encryptionUtil.encrypt(value);
+    }
+
+    /**
+     * 기존 형식 암호문 (EncryptionUtil의 ECB 키와 같은 32바이트 키)
+     */
+    private static String encryptLegacy(String value) throws Exception {
+        byte[] key = new byte[32];
+        byte[] secret = SECRET_KEY.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(secret, 0, key, 0, Math.min(secret.length, key.length));
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
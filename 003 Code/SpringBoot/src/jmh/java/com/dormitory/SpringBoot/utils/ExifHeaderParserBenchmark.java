@@ -0,0 +1,147 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EXIF 추출 비용 비교
+ * ✅ headerParser: ExifHeaderParser로 앞부분(64KB)만 읽어 태그 해석
+ * ✅ imageIoMetadata: 이전 방식 - 파일 전체를 바이트 배열로 읽은 뒤 ImageIO JPEG 리더로 전체 메타데이터 트리 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExifHeaderParserBenchmark {
+
+    /**
+     * 사진 긴 변 픽셀 (휴대폰 원본 4032 기준)
+     */
+    @Param({"1024", "4032"})
+    public int longSide;
+
+    private byte[] jpeg;
+
+    @Setup
+    public void setUp() throws IOException {
+        jpeg = jpegWithExif(photo(longSide, longSide * 3 / 4), exifBlock());
+    }
+
+    @Benchmark
+    public ExifHeaderParser.ExifMetadata headerParser() throws IOException {
+        try (InputStream in = new ByteArrayInputStream(jpeg)) {
+            return ExifHeaderParser.parse(in, ExifHeaderParser.DEFAULT_WINDOW_BYTES);
+        }
+    }
+
+    @Benchmark
+    public IIOMetadata imageIoMetadata() throws IOException {
+        byte[] imageBytes = Arrays.copyOf(jpeg, jpeg.length);  // MultipartFile.getBytes()
+        try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("jpeg");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true);
+                return reader.getImageMetadata(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 압축률이 실제 사진과 비슷하도록 잡음을 섞은 이미지
+     */
+    private static BufferedImage photo(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        Random random = new Random(42);
+        try {
+            for (int i = 0; i < 400; i++) {
+                g.setColor(new Color(random.nextInt(0xFFFFFF)));
+                g.fillRect(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(width / 4), 20 + random.nextInt(height / 4));
+            }
+        } finally {
+            g.dispose();
+        }
+        for (int i = 0; i < width * height / 8; i++) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt(0xFFFFFF));
+        }
+        return image;
+    }
+
+    /**
+     * TIFF 블록 (big-endian) - IFD0: Make, Model, Exif IFD 포인터 / Exif IFD: DateTimeOriginal, OffsetTimeOriginal
+     */
+    private static byte[] exifBlock() {
+        byte[] make = "samsung\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] model = "SM-S918N\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] dateTime = "2026:03:02 21:15:30\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] offset = "+09:00\0".getBytes(StandardCharsets.US_ASCII);
+
+        int ifd0 = 8;
+        int ifd0Data = ifd0 + 2 + 3 * 12 + 4;
+        int exifIfd = ifd0Data + make.length + model.length;
+        int exifData = exifIfd + 2 + 2 * 12 + 4;
+
+        ByteBuffer buf = ByteBuffer.allocate(exifData + dateTime.length + offset.length);
+        buf.put(new byte[]{'M', 'M'}).putShort((short) 42).putInt(ifd0);
+        buf.putShort((short) 3);
+        entry(buf, 0x010F, 2, make.length, ifd0Data);
+        entry(buf, 0x0110, 2, model.length, ifd0Data + make.length);
+        entry(buf, 0x8769, 4, 1, exifIfd);
+        buf.putInt(0).put(make).put(model);
+        buf.putShort((short) 2);
+        entry(buf, 0x9003, 2, dateTime.length, exifData);
+        entry(buf, 0x9011, 2, offset.length, exifData + dateTime.length);
+        buf.putInt(0).put(dateTime).put(offset);
+        return buf.array();
+    }
+
+    private static void entry(ByteBuffer buf, int tag, int type, int count, int valueOffset) {
+        buf.putShort((short) tag).putShort((short) type).putInt(count).putInt(valueOffset);
+    }
+
+    /**
+     * ImageIO로 인코딩한 JPEG의 APP0(JFIF) 바로 뒤에 APP1(Exif) 삽입
+     * ImageIO 메타데이터 리더는 JFIF가 SOI 다음 첫 마커가 아니면 실패하므로 양쪽 모두 읽을 수 있는 배치 사용
+     */
+    private static byte[] jpegWithExif(BufferedImage image, byte[] tiff) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", encoded);
+        byte[] body = encoded.toByteArray();
+        int app0End = 4 + ((body[4] & 0xFF) << 8 | (body[5] & 0xFF));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(body, 0, app0End);
+        int length = 2 + 6 + tiff.length;
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff);
+        out.write(body, app0End, body.length - app0End);
+        return out.toByteArray();
+    }
+}
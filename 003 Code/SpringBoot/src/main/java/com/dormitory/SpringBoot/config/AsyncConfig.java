@@ -0,0 +1,109 @@
+package com.dormitory.SpringBoot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 처리 설정
+ * ✅ 점호 AI 평가 전용 스레드 풀 (Tomcat 요청 스레드와 분리)
+ * ✅ 재암호화 등 장시간 유지보수 작업용 단일 스레드 실행기
+ * ✅ 비밀번호 해시(BCrypt) 전용 스레드 풀 - CPU 사용을 제한하여 다른 API 응답성 유지
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${inspection.async.core-size:4}")
+    private int inspectionCoreSize;
+
+    @Value("${inspection.async.max-size:8}")
+    private int inspectionMaxSize;
+
+    @Value("${inspection.async.queue-capacity:500}")
+    private int inspectionQueueCapacity;
+
+    @Value("${app.security.password-hash.threads:0}")
+    private int passwordHashThreads;
+
+    @Value("${app.security.password-hash.queue-capacity:64}")
+    private int passwordHashQueueCapacity;
+
+    /**
+     * 비밀번호 해시 실행기 (스레드 수 0이면 코어 수의 절반)
+     * 대기열이 가득 차면 거절 - 호출 측(PasswordHashService)에서 부하 차단 응답으로 변환
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int threads = passwordHashThreads > 0
+                ? passwordHashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 유지보수 작업 실행기 (한 번에 하나씩 순차 실행, 대기 작업이 넘치면 거절)
+     */
+    @Bean(name = "maintenanceTaskExecutor")
+    public ThreadPoolTaskExecutor maintenanceTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("maintenance-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 파일 정리 실행기 (커밋/롤백 후 콜백에서 넘겨받아 별도 트랜잭션으로 참조 해제)
+     * 대기열이 넘치면 거절하고 남은 파일은 업로드 정리 작업이 고아 파일로 회수
+     */
+    @Bean(name = "fileCleanupExecutor")
+    public ThreadPoolTaskExecutor fileCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 점호 AI 평가 작업 실행기
+     * 큐가 가득 차면 제출 단계에서 거절하며, 경합으로 넘친 작업도 거절 (InspectionJobWorker에서 FAIL 처리)
+     * 요청 스레드에서 AI 호출을 실행하지 않도록 CallerRuns를 사용하지 않음
+     */
+    @Bean(name = "inspectionTaskExecutor")
+    public ThreadPoolTaskExecutor inspectionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(inspectionCoreSize);
+        executor.setMaxPoolSize(inspectionMaxSize);
+        executor.setQueueCapacity(inspectionQueueCapacity);
+        executor.setThreadNamePrefix("inspection-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dormitory.SpringBoot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정
+ * ✅ 토큰 폐기 목록 정리 등 @Scheduled 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.dto.AllowedUserRequest;
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.services.AllowedUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 허용된 사용자 관리 컨트롤러
  * ✅ 수정: CRUD 완전 지원 (Update 기능 추가)
@@ -57,9 +61,11 @@ public class AllowedUserController {
             AllowedUserRequest.UploadResponse response =
                     allowedUserService.uploadAllowedUsersFromExcel(file);
 
-            String message = String.format("업로드 완료 - 전체: %d, 성공: %d, 실패: %d",
+            String message = String.format("업로드 완료 - 전체: %d, 성공: %d (추가: %d, 변경: %d), 실패: %d",
                     response.getTotalCount(),
                     response.getSuccessCount(),
+                    response.getInsertedCount(),
+                    response.getUpdatedCount(),
                     response.getFailCount());
 
             return ResponseEntity.ok(ApiResponse.success(message, response));
@@ -105,15 +111,33 @@ public class AllowedUserController {
     @GetMapping("/list")
     @Operation(summary = "허용 사용자 목록 조회", description = "모든 허용 사용자 목록을 조회합니다. (관리자 전용)")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<?>> getAllAllowedUsers() {
+    public ResponseEntity<ApiResponse<?>> getAllAllowedUsers(
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(required = false) Integer size) {
         try {
             logger.info("허용 사용자 목록 조회 요청");
 
+            // ✅ cursor 또는 size 지정 시 키셋 페이지 조회
+            if (cursor != null || size != null) {
+                CursorPage<AllowedUserRequest.AllowedUserResponse> page =
+                        allowedUserService.getAllowedUsersPage(cursor, size);
+
+                Map<String, Object> data = new HashMap<>();
+                data.put("users", page.getContent());
+                data.put("count", page.getContent().size());
+                data.put("nextCursor", page.getNextCursor());
+                data.put("hasNext", page.isHasNext());
+
+                return ResponseEntity.ok(ApiResponse.success("허용 사용자 목록 조회 성공", data));
+            }
+
             AllowedUserRequest.AllowedUserListResponse response =
                     allowedUserService.getAllAllowedUsers();
 
             return ResponseEntity.ok(ApiResponse.success("허용 사용자 목록 조회 성공", response));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             logger.error("허용 사용자 목록 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -3,13 +3,18 @@ package com.dormitory.SpringBoot.controller;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.dto.ApiResponse;
 import com.dormitory.SpringBoot.dto.LoginRequest;
+import com.dormitory.SpringBoot.dto.RefreshTokenRequest;
 import com.dormitory.SpringBoot.dto.RegisterRequest;
 import com.dormitory.SpringBoot.dto.UserResponse;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import com.dormitory.SpringBoot.services.AdminCodeService;
 import com.dormitory.SpringBoot.services.AllowedUserService;
+import com.dormitory.SpringBoot.services.PasswordHashService;
+import com.dormitory.SpringBoot.services.RefreshTokenService;
+import com.dormitory.SpringBoot.services.TokenRevocationService;
 import com.dormitory.SpringBoot.services.UserService;
 import com.dormitory.SpringBoot.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -18,7 +23,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +34,7 @@ import java.util.Optional;
 /**
  * 인증 관련 API 컨트롤러
  * ✅ 수정: 관리자 코드 검증 기능 추가
+ * ✅ 짧은 수명의 액세스 토큰 + 회전 리프레시 토큰 (/refresh), 로그아웃 시 토큰 폐기
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -50,6 +55,12 @@ public class AuthController {
     @Autowired
     private AdminCodeService adminCodeService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     public AuthController(UserService userService, JwtUtil jwtUtil, UserRepository userRepository) {
         this.userService = userService;
@@ -168,14 +179,24 @@ public class AuthController {
             String token = userService.login(request);
             UserResponse userInfo = userService.getUserById(request.getId());
 
+            String refreshToken = refreshTokenService.issue(request.getId());
+
             Map<String, Object> data = new HashMap<>();
             data.put("token", token);
+            data.put("refreshToken", refreshToken);
+            data.put("expiresIn", jwtUtil.getExpirationMs() / 1000);
             data.put("user", userInfo);
             ApiResponse<?> response = ApiResponse.success("로그인이 성공적으로 완료되었습니다.", data);
 
             logger.info("=== 로그인 요청 완료 ===");
             return ResponseEntity.ok(response);
 
+        } catch (PasswordHashService.OverloadedException e) {
+            logger.warn("로그인 과부하로 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(ApiResponse.error("SERVICE_UNAVAILABLE", e.getMessage()));
+
         } catch (RuntimeException e) {
             logger.warn("로그인 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.unauthorized(e.getMessage()));
@@ -187,17 +208,57 @@ public class AuthController {
         }
     }
 
+    /**
+     * ✅ 토큰 재발급 - 리프레시 토큰 회전 (사용한 리프레시 토큰은 더 이상 사용 불가)
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.")
+    public ResponseEntity<ApiResponse<?>> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            RefreshTokenService.TokenPair tokens = refreshTokenService.rotate(request.getRefreshToken());
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("token", tokens.getAccessToken());
+            data.put("refreshToken", tokens.getRefreshToken());
+            data.put("expiresIn", tokens.getExpiresIn());
+
+            return ResponseEntity.ok(ApiResponse.success("토큰이 재발급되었습니다.", data));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+
+        } catch (RuntimeException e) {
+            logger.warn("토큰 재발급 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.unauthorized(e.getMessage()));
+
+        } catch (Exception e) {
+            logger.error("토큰 재발급 중 예기치 않은 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("서버 내부 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 사용자 로그아웃
+     * ✅ 현재 액세스 토큰과 전달된 리프레시 토큰(계열) 폐기
      */
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다.")
-    public ResponseEntity<ApiResponse<?>> logout() {
+    public ResponseEntity<ApiResponse<?>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null) {
-                String userId = authentication.getName();
-                logger.info("로그아웃 시도: 사용자ID={}", userId);
+            // /api/auth 경로는 JWT 필터를 거치지 않으므로 헤더에서 직접 확인
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                Claims claims = jwtUtil.parseValidClaims(authHeader.substring(7));
+                if (claims != null) {
+                    logger.info("로그아웃 시도: 사용자ID={}", claims.getSubject());
+                    tokenRevocationService.revoke(claims);
+                }
+            }
+
+            if (request != null) {
+                refreshTokenService.revoke(request.getRefreshToken());
             }
 
             SecurityContextHolder.clearContext();
@@ -225,12 +286,13 @@ public class AuthController {
 
             String token = authHeader.substring(7);
 
-            if (!jwtUtil.isTokenValid(token)) {
+            Claims claims = jwtUtil.parseValidClaims(token);
+            if (claims == null || tokenRevocationService.isRevoked(claims)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.unauthorized("유효하지 않은 토큰입니다."));
             }
 
-            String userId = jwtUtil.getUserIdFromToken(token);
+            String userId = claims.getSubject();
             Optional<User> userOpt = userRepository.findById(userId);
 
             if (userOpt.isEmpty()) {
@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Complaint;
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.services.ComplaintService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,8 +38,23 @@ public class ComplaintController {
      * 모든 민원 조회 (관리자용)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<?>> getAllComplaints() {
+    public ResponseEntity<ApiResponse<?>> getAllComplaints(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
+            // ✅ cursor 또는 size 지정 시 키셋 페이지 조회
+            if (cursor != null || size != null) {
+                CursorPage<Complaint> page = complaintService.getComplaintsPage(cursor, size);
+
+                Map<String, Object> data = new HashMap<>();
+                data.put("complaints", page.getContent());
+                data.put("count", page.getContent().size());
+                data.put("nextCursor", page.getNextCursor());
+                data.put("hasNext", page.isHasNext());
+
+                return ResponseEntity.ok(ApiResponse.success("민원 목록 조회 성공", data));
+            }
+
             List<Complaint> complaints = complaintService.getAllComplaints();
 
             Map<String, Object> data = new HashMap<>();
@@ -46,6 +62,8 @@ public class ComplaintController {
             data.put("count", complaints.size());
 
             return ResponseEntity.ok(ApiResponse.success("민원 목록 조회 성공", data));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.internalServerError("민원 목록 조회 실패: " + e.getMessage()));
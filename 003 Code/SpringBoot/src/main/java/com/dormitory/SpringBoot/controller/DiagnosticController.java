@@ -64,12 +64,15 @@ public class DiagnosticController {
                        imageFile.getOriginalFilename(), imageFile.getSize());
             
             // 이미지 분석 테스트
-            int score = geminiService.evaluateInspection(imageFile);
-            String feedback = geminiService.getInspectionFeedback(imageFile);
+            GeminiService.AnalysisResult analysis = geminiService.analyzeInspection(imageFile);
+            int score = analysis.getScore();
+            String feedback = analysis.getFeedback();
             
             result.put("status", "SUCCESS");
             result.put("score", score);
             result.put("feedback", feedback);
+            result.put("aiSuccess", analysis.isSuccess());
+            result.put("notRoomPhoto", analysis.isNotRoomPhoto());
             result.put("fileName", imageFile.getOriginalFilename());
             result.put("fileSize", imageFile.getSize());
             
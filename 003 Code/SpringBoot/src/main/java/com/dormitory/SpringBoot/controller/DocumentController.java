@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Document;
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.services.DocumentService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,8 +38,24 @@ public class DocumentController {
      * 모든 서류 조회 (관리자용)
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllDocuments() {
+    public ResponseEntity<Map<String, Object>> getAllDocuments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
+            // ✅ cursor 또는 size 지정 시 키셋 페이지 조회
+            if (cursor != null || size != null) {
+                CursorPage<Document> page = documentService.getDocumentsPage(cursor, size);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("documents", page.getContent());
+                response.put("count", page.getContent().size());
+                response.put("nextCursor", page.getNextCursor());
+                response.put("hasNext", page.isHasNext());
+
+                return ResponseEntity.ok(response);
+            }
+
             List<Document> documents = documentService.getAllDocuments();
 
             Map<String, Object> response = new HashMap<>();
@@ -47,6 +64,12 @@ public class DocumentController {
             response.put("count", documents.size());
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             logger.error("서류 목록 조회 실패", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -1,8 +1,11 @@
 package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.dto.InspectionRequest;
 import com.dormitory.SpringBoot.services.InspectionService;
+import com.dormitory.SpringBoot.services.PhotoHashIndexService;
+import com.dormitory.SpringBoot.services.UploadCleanupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,6 +39,12 @@ public class InspectionController {
     @Autowired
     private InspectionService inspectionService;
 
+    @Autowired
+    private PhotoHashIndexService photoHashIndexService;
+
+    @Autowired
+    private UploadCleanupService uploadCleanupService;
+
     @PostMapping("/submit")
     @Operation(summary = "점호 제출", description = "사용자가 방 사진을 업로드하여 점호를 제출합니다.")
     public ResponseEntity<ApiResponse<InspectionRequest.Response>> submitInspection(
@@ -51,6 +60,49 @@ public class InspectionController {
         }
     }
 
+    /**
+     * ✅ 비동기 점호 제출 - 즉시 작업 ID(점호 ID)와 PENDING 상태 반환
+     */
+    @PostMapping("/submit-async")
+    @Operation(summary = "비동기 점호 제출", description = "방 사진을 업로드하고 AI 평가는 백그라운드에서 진행합니다. 반환된 작업 ID로 결과를 조회합니다.")
+    public ResponseEntity<ApiResponse<InspectionRequest.Response>> submitInspectionAsync(
+            @AuthenticationPrincipal String userId,
+            @Parameter(description = "방 번호", required = true) @RequestParam String roomNumber,
+            @Parameter(description = "업로드할 방 사진", required = true) @RequestParam("image") MultipartFile imageFile) {
+        try {
+            InspectionRequest.Response result = inspectionService.submitInspectionAsync(userId, roomNumber, imageFile);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("점호가 접수되었습니다. 평가 결과를 확인해주세요.", result));
+        } catch (Exception e) {
+            logger.error("비동기 점호 제출 중 오류 발생 - 사용자: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * ✅ 비동기 점호 작업 상태/결과 조회
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "점호 평가 상태 조회", description = "비동기 제출한 점호의 평가 상태와 결과를 조회합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getInspectionJob(
+            @AuthenticationPrincipal String userId,
+            @Parameter(description = "작업 ID (점호 ID)", required = true) @PathVariable Long jobId) {
+        try {
+            InspectionRequest.Response inspection = inspectionService.getInspectionJob(jobId, userId);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobId", jobId);
+            data.put("status", inspection.getStatus());
+            data.put("completed", !"PENDING".equals(inspection.getStatus()));
+            data.put("inspection", inspection);
+
+            return ResponseEntity.ok(ApiResponse.success("점호 평가 상태 조회 성공", data));
+        } catch (RuntimeException e) {
+            logger.warn("점호 평가 상태 조회 실패 - 작업 ID: {}, 사유: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.notFound(e.getMessage()));
+        }
+    }
+
     @GetMapping("/my")
     @Operation(summary = "내 점호 기록 조회", description = "로그인한 사용자의 점호 기록을 조회합니다.")
     public ResponseEntity<ApiResponse<List<InspectionRequest.AdminResponse>>> getMyInspections(@AuthenticationPrincipal String userId) {
@@ -86,8 +138,23 @@ public class InspectionController {
     @GetMapping("/admin/all")
     @Operation(summary = "모든 점호 기록 조회", description = "관리자가 모든 점호 기록을 조회합니다.")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<?>> getAllInspections() {
+    public ResponseEntity<ApiResponse<?>> getAllInspections(
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(required = false) Integer size) {
         try {
+            // ✅ cursor 또는 size 지정 시 키셋 페이지 조회
+            if (cursor != null || size != null) {
+                CursorPage<InspectionRequest.AdminResponse> page = inspectionService.getInspectionsPage(cursor, size);
+
+                Map<String, Object> data = new HashMap<>();
+                data.put("inspections", page.getContent());
+                data.put("count", page.getContent().size());
+                data.put("nextCursor", page.getNextCursor());
+                data.put("hasNext", page.isHasNext());
+
+                return ResponseEntity.ok(ApiResponse.success("점호 기록 페이지 조회 성공", data));
+            }
+
             List<InspectionRequest.AdminResponse> inspections = inspectionService.getAllInspections();
 
             Map<String, Object> data = new HashMap<>();
@@ -96,6 +163,8 @@ public class InspectionController {
 
             return ResponseEntity.ok(ApiResponse.success("전체 점호 기록 조회 성공", data));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             logger.error("전체 점호 기록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -159,15 +228,19 @@ public class InspectionController {
      * 점호 통계 조회
      */
     @GetMapping("/statistics")
-    @Operation(summary = "점호 통계 조회", description = "전체 또는 특정 날짜의 점호 통계를 조회합니다.")
+    @Operation(summary = "점호 통계 조회", description = "전체, 특정 날짜 또는 특정 동의 점호 통계를 조회합니다.")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<?>> getInspectionStatistics(
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd), 없으면 전체 통계")
-            @RequestParam(required = false) String date) {
+            @RequestParam(required = false) String date,
+            @Parameter(description = "조회할 동, 없으면 전체 동")
+            @RequestParam(required = false) String building) {
         try {
             InspectionRequest.Statistics statistics;
 
-            if (date != null && !date.isEmpty()) {
+            if (building != null && !building.isEmpty()) {
+                statistics = inspectionService.getStatisticsByBuilding(building, date);
+            } else if (date != null && !date.isEmpty()) {
                 statistics = inspectionService.getStatisticsByDate(date);
             } else {
                 statistics = inspectionService.getTotalStatistics();
@@ -332,6 +405,68 @@ public class InspectionController {
         }
     }
 
+    /**
+     * ✅ 점호 사진 해시 색인 상태 조회 (관리자 전용)
+     */
+    @GetMapping("/admin/photo-index")
+    @Operation(summary = "사진 해시 색인 상태 조회", description = "재사용 사진 탐지용 해시 색인의 크기와 재구성 상태를 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getPhotoIndexStatus() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("사진 해시 색인 상태 조회 성공", photoHashIndexService.getStatus()));
+        } catch (Exception e) {
+            logger.error("사진 해시 색인 상태 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("사진 해시 색인 상태를 조회할 수 없습니다."));
+        }
+    }
+
+    /**
+     * ✅ 점호 사진 해시 색인 재구성 (관리자 전용)
+     */
+    @PostMapping("/admin/photo-index/rebuild")
+    @Operation(summary = "사진 해시 색인 재구성", description = "DB의 사진 해시로 색인을 다시 만들고 해시가 없는 사진을 백그라운드에서 채웁니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> rebuildPhotoIndex() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("사진 해시 색인 재구성을 시작했습니다.", photoHashIndexService.rebuild()));
+        } catch (RuntimeException e) {
+            logger.warn("사진 해시 색인 재구성 시작 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * ✅ 업로드 정리 작업 상태 조회 (관리자 전용)
+     */
+    @GetMapping("/admin/upload-cleanup")
+    @Operation(summary = "업로드 정리 작업 상태 조회", description = "보관 기간 정리/고아 파일 회수 작업의 마지막 실행 결과를 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getUploadCleanupStatus() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("업로드 정리 작업 상태 조회 성공", uploadCleanupService.getStatus()));
+        } catch (Exception e) {
+            logger.error("업로드 정리 작업 상태 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("업로드 정리 작업 상태를 조회할 수 없습니다."));
+        }
+    }
+
+    /**
+     * ✅ 업로드 정리 작업 즉시 실행 (관리자 전용)
+     */
+    @PostMapping("/admin/upload-cleanup/run")
+    @Operation(summary = "업로드 정리 작업 실행", description = "보관 기간이 지난 점호 사진과 참조되지 않는 업로드 파일을 백그라운드에서 정리합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> runUploadCleanup() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("업로드 정리 작업을 시작했습니다.", uploadCleanupService.start()));
+        } catch (RuntimeException e) {
+            logger.warn("업로드 정리 작업 시작 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     /**
      * ✅ 전체 기숙사 목록 조회
      * 등록된 사용자들의 기숙사 동 목록을 반환
@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.services.NoticeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,8 +34,24 @@ public class NoticeController {
      * 모든 공지사항 조회 (모든 사용자)
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllNotices() {
+    public ResponseEntity<Map<String, Object>> getAllNotices(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
+            // ✅ cursor 또는 size 지정 시 키셋 페이지 조회
+            if (cursor != null || size != null) {
+                CursorPage<Notice> page = noticeService.getNoticesPage(cursor, size);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("notices", page.getContent());
+                response.put("count", page.getContent().size());
+                response.put("nextCursor", page.getNextCursor());
+                response.put("hasNext", page.isHasNext());
+
+                return ResponseEntity.ok(response);
+            }
+
             List<Notice> notices = noticeService.getAllNotices();
 
             Map<String, Object> response = new HashMap<>();
@@ -43,6 +60,12 @@ public class NoticeController {
             response.put("count", notices.size());
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             logger.error("공지사항 목록 조회 실패", e);
             Map<String, Object> errorResponse = new HashMap<>();
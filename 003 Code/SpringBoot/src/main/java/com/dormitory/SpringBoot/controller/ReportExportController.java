@@ -0,0 +1,135 @@
+package com.dormitory.SpringBoot.controller;
+
+import com.dormitory.SpringBoot.dto.ApiResponse;
+import com.dormitory.SpringBoot.services.ReportExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 관리자 보고서 내보내기 컨트롤러 (XLSX/CSV)
+ * ✅ 요청 검증 후 응답 스트림에 직접 기록 (성공 시 ResponseEntity 없이 반환)
+ * ✅ 응답을 보내기 시작한 뒤 실패하면 예외를 다시 던져 컨테이너가 연결을 끊게 함 (클라이언트는 잘린 파일 대신 다운로드 실패로 인식)
+ */
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Report Export", description = "보고서 내보내기 API")
+public class ReportExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportController.class);
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @FunctionalInterface
+    private interface ExportTask {
+        void writeTo(ReportExportService.Format format, OutputStream out) throws IOException;
+    }
+
+    /**
+     * 출석 테이블 내보내기 (관리자 전용)
+     */
+    @GetMapping("/attendance")
+    @Operation(summary = "출석 테이블 내보내기", description = "기간 내 출석 테이블을 XLSX 또는 CSV로 내려받습니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportAttendance(
+            @Parameter(description = "시작일 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "형식 (xlsx, csv)")
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) {
+
+        return export("attendance", from, to, format, response,
+                (f, out) -> reportExportService.exportAttendance(from, to, f, out));
+    }
+
+    /**
+     * 점호 기록 내보내기 (관리자 전용)
+     */
+    @GetMapping("/inspections")
+    @Operation(summary = "점호 기록 내보내기", description = "기간 내 점호 기록을 XLSX 또는 CSV로 내려받습니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportInspections(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "기숙사 동 필터")
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) {
+
+        return export("inspections", from, to, format, response,
+                (f, out) -> reportExportService.exportInspections(from, to, building, f, out));
+    }
+
+    /**
+     * 민원 목록 내보내기 (관리자 전용)
+     */
+    @GetMapping("/complaints")
+    @Operation(summary = "민원 목록 내보내기", description = "기간 내 접수된 민원을 XLSX 또는 CSV로 내려받습니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportComplaints(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "민원 상태 필터")
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) {
+
+        return export("complaints", from, to, format, response,
+                (f, out) -> reportExportService.exportComplaints(from, to, status, f, out));
+    }
+
+    private ResponseEntity<?> export(String name, LocalDate from, LocalDate to, String formatParam,
+                                     HttpServletResponse response, ExportTask task) {
+        ReportExportService.Format format;
+        try {
+            format = ReportExportService.Format.from(formatParam);
+            reportExportService.validateRange(from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+
+        String filename = String.format("%s_%s_%s.%s", name, from, to, format.getExtension());
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString());
+
+        try {
+            task.writeTo(format, response.getOutputStream());
+            return null;
+
+        } catch (Exception e) {
+            if (e instanceof IOException) {
+                // 다운로드 중 클라이언트 연결 종료, 임시 파일 기록 실패 등
+                logger.warn("보고서 내보내기 중단 - {}: {}", name, e.getMessage());
+            } else {
+                logger.error("보고서 내보내기 중 오류 발생 - {}", name, e);
+            }
+            if (response.isCommitted()) {
+                // 상태 코드를 바꿀 수 없으므로 정상 종료하지 않고 연결을 끊어 불완전한 응답임을 알림
+                throw new IllegalStateException("보고서 내보내기 중단 - " + name, e);
+            }
+            response.reset();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("보고서를 내보낼 수 없습니다."));
+        }
+    }
+}
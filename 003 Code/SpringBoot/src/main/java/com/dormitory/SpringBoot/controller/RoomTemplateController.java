@@ -276,6 +276,8 @@ public class RoomTemplateController {
         response.put("roomType", template.getRoomType().name());
         response.put("roomTypeDisplay", template.getRoomType().getDisplayName());
         response.put("imagePath", template.getImagePath());
+        response.put("imageHash", template.getImageHash());
+        response.put("imageSize", template.getImageSize());
         response.put("description", template.getDescription());
         response.put("buildingName", template.getBuildingName());
         response.put("isActive", template.getIsActive());
@@ -283,7 +285,6 @@ public class RoomTemplateController {
         response.put("createdBy", template.getCreatedBy());
         response.put("createdAt", template.getCreatedAt() != null ? template.getCreatedAt().toString() : null);
         response.put("updatedAt", template.getUpdatedAt() != null ? template.getUpdatedAt().toString() : null);
-        // Base64는 용량이 크므로 목록에서는 제외
         return response;
     }
 }
\ No newline at end of file
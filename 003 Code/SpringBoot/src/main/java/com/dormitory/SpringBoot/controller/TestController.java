@@ -2,6 +2,8 @@ package com.dormitory.SpringBoot.controller;
 
 import com.dormitory.SpringBoot.repository.UserRepository;
 import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.services.UserSearchIndexService;
+import com.dormitory.SpringBoot.services.UserStatusCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +28,12 @@ public class TestController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserStatusCacheService userStatusCacheService;
+
+    @Autowired
+    private UserSearchIndexService userSearchIndexService;
+
     /**
      * 데이터베이스 연결 테스트
      */
@@ -138,6 +146,8 @@ public class TestController {
             }
 
             userRepository.deleteById(id);
+            userSearchIndexService.removeUser(id);
+            userStatusCacheService.invalidate(id);
 
             // 삭제 확인
             boolean exists = userRepository.existsById(id);
@@ -169,6 +179,8 @@ public class TestController {
 
             long beforeCount = userRepository.count();
             userRepository.deleteAll();
+            userSearchIndexService.removeAllUsers();
+            userStatusCacheService.invalidateAll();
             long afterCount = userRepository.count();
 
             result.put("status", "SUCCESS");
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.BindingResult;
@@ -30,10 +31,110 @@ public class UserController {
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     private final UserService userService;
+    private final ReEncryptionJobService reEncryptionJobService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ReEncryptionJobService reEncryptionJobService) {
         this.userService = userService;
+        this.reEncryptionJobService = reEncryptionJobService;
+    }
+
+    /**
+     * ✅ 전체 사용자 목록 키셋 페이지 조회 (관리자 전용)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<UserResponse> page = userService.getUsersPage(cursor, size);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("users", page.getContent());
+            data.put("count", page.getContent().size());
+            data.put("nextCursor", page.getNextCursor());
+            data.put("hasNext", page.isHasNext());
+
+            return ResponseEntity.ok(ApiResponse.success("사용자 목록 조회 성공", data));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("사용자 목록 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("사용자 목록을 조회할 수 없습니다."));
+        }
+    }
+
+    /**
+     * ✅ 사용자 검색 (관리자 전용) - 이름/전화번호 앞부분 일치
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> searchUsers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String phoneNumber) {
+        try {
+            List<UserResponse> users = userService.searchUsers(name, phoneNumber);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("users", users);
+            data.put("count", users.size());
+
+            return ResponseEntity.ok(ApiResponse.success("사용자 검색 성공", data));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("사용자 검색 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("사용자를 검색할 수 없습니다."));
+        }
+    }
+
+    /**
+     * ✅ 개인정보 재암호화 작업 상태 조회 (관리자 전용)
+     */
+    @GetMapping("/admin/reencryption")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> getReEncryptionStatus() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("재암호화 작업 상태 조회 성공", reEncryptionJobService.getStatus()));
+        } catch (Exception e) {
+            logger.error("재암호화 작업 상태 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("재암호화 작업 상태를 조회할 수 없습니다."));
+        }
+    }
+
+    /**
+     * ✅ 개인정보 재암호화 작업 시작/재개 (관리자 전용)
+     */
+    @PostMapping("/admin/reencryption/start")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> startReEncryption() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("재암호화 작업을 시작했습니다.", reEncryptionJobService.start()));
+        } catch (RuntimeException e) {
+            logger.warn("재암호화 작업 시작 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * ✅ 개인정보 재암호화 작업 일시 중지 (관리자 전용)
+     */
+    @PostMapping("/admin/reencryption/pause")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> pauseReEncryption() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("재암호화 작업 일시 중지를 요청했습니다.", reEncryptionJobService.pause()));
+        } catch (Exception e) {
+            logger.error("재암호화 작업 일시 중지 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.internalServerError("재암호화 작업을 일시 중지할 수 없습니다."));
+        }
     }
 
     /**
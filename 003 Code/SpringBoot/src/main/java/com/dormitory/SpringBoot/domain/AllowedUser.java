@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * 관리자가 엑셀 파일 등으로 등록한 사용자만 회원가입 가능
  */
 @Entity
-@Table(name = "allowed_users")
+@Table(name = "allowed_users", indexes = {
+        @Index(name = "idx_allowed_users_created_at", columnList = "created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class AllowedUser {
 
@@ -11,10 +11,11 @@ import java.time.LocalDateTime;
 /**
  * 점호 제출 상태 테이블을 관리하는 엔티티
  * 관리자가 특정 날짜의 각 호실별 점호 제출 상태를 테이블로 확인
+ * ✅ 한 호실에 여러 명이 거주하므로 (날짜, 사용자) 단위로 유일 - 테이블 생성 재실행 시 중복 방지 기준
  */
 @Entity
-@Table(name = "attendance_table", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"inspection_date", "room_number"}))
+@Table(name = "attendance_table",
+       uniqueConstraints = @UniqueConstraint(name = "uk_attendance_date_user", columnNames = {"inspection_date", "user_id"}))
 @EntityListeners(AuditingEntityListener.class)
 public class AttendanceTable {
 
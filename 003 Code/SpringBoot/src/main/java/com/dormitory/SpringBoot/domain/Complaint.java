@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
  * 민원 정보를 저장하는 엔티티 - 거주 동/방 번호 자동 기입 기능 포함
  */
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_submitted_at", columnList = "submitted_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Complaint {
 
@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
  * 점호 정보를 저장하는 엔티티 - DB 스키마 동기화 최종 버전
  */
 @Entity
-@Table(name = "inspections")
+@Table(name = "inspections", indexes = {
+        @Index(name = "idx_inspections_user_date", columnList = "user_id, inspection_date"),
+        @Index(name = "idx_inspections_date", columnList = "inspection_date"),
+        @Index(name = "idx_inspections_created_at", columnList = "created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Inspection {
 
@@ -25,14 +29,15 @@ public class Inspection {
     @Column(name = "room_number", length = 20)
     private String roomNumber;
 
-    @Column(name = "image_path", nullable = false, length = 500)
+    // 보관 기간(inspection.auto-cleanup.days)이 지나 사진을 정리하면 null (점수/상태 기록은 유지)
+    @Column(name = "image_path", length = 500)
     private String imagePath;
 
     @Column(name = "score", nullable = false)
     private Integer score;
 
     @Column(name = "status", nullable = false, length = 20)
-    private String status; // PASS, FAIL
+    private String status; // PASS, FAIL, PENDING
 
     @Column(name = "gemini_feedback", columnDefinition = "TEXT")
     private String geminiFeedback;
@@ -54,6 +59,14 @@ public class Inspection {
     @Column(name = "inspection_date", nullable = false)
     private LocalDateTime inspectionDate;
 
+    // 사진 지각 해시 (dHash 64비트, 재사용 사진 탐지용)
+    @Column(name = "image_hash")
+    private Long imageHash;
+
+    // 제출 시점의 거주 동 (이후 사용자가 동을 옮겨도 통계는 제출 당시 동 기준)
+    @Column(name = "dormitory_building", length = 50)
+    private String dormitoryBuilding;
+
     // ... (이하 Getter, Setter 및 다른 메서드들은 변경 없음) ...
 
     // 기본 생성자
@@ -161,6 +174,22 @@ public class Inspection {
         this.updatedAt = updatedAt;
     }
 
+    public Long getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(Long imageHash) {
+        this.imageHash = imageHash;
+    }
+
+    public String getDormitoryBuilding() {
+        return dormitoryBuilding;
+    }
+
+    public void setDormitoryBuilding(String dormitoryBuilding) {
+        this.dormitoryBuilding = dormitoryBuilding;
+    }
+
     public LocalDateTime getInspectionDate() {
         return inspectionDate;
     }
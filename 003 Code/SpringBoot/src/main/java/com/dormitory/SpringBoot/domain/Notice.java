@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
  * 공지사항 정보를 저장하는 엔티티 - DB 스키마 동기화 버전
  */
 @Entity
-@Table(name = "notices")
+@Table(name = "notices", indexes = {
+        @Index(name = "idx_notices_created_at", columnList = "created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Notice {
 
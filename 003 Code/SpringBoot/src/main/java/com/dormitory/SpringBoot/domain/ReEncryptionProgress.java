@@ -0,0 +1,148 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인정보 재암호화 작업 진행 상태 (대상 테이블별, 재시작 시 이어서 진행)
+ */
+@Entity
+@Table(name = "reencryption_progress")
+public class ReEncryptionProgress {
+
+    @Id
+    @Column(name = "target", nullable = false, length = 50)
+    private String target;
+
+    @Column(name = "key_version", nullable = false)
+    private Integer keyVersion;
+
+    @Column(name = "last_id", length = 50)
+    private String lastId = "";
+
+    @Column(name = "scanned_count", nullable = false)
+    private Long scannedCount = 0L;
+
+    @Column(name = "updated_count", nullable = false)
+    private Long updatedCount = 0L;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status; // RUNNING, PAUSED, COMPLETED, FAILED
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public ReEncryptionProgress() {}
+
+    public ReEncryptionProgress(String target, Integer keyVersion) {
+        this.target = target;
+        this.keyVersion = keyVersion;
+        this.status = "RUNNING";
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처음부터 다시 진행 (활성 키 버전 변경 시)
+     */
+    public void restart(Integer keyVersion) {
+        this.keyVersion = keyVersion;
+        this.lastId = "";
+        this.scannedCount = 0L;
+        this.updatedCount = 0L;
+        this.startedAt = LocalDateTime.now();
+        this.completedAt = null;
+    }
+
+    // Getters and Setters
+    public String getTarget() {
+        return target;
+    }
+
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    public Integer getKeyVersion() {
+        return keyVersion;
+    }
+
+    public void setKeyVersion(Integer keyVersion) {
+        this.keyVersion = keyVersion;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(String lastId) {
+        this.lastId = lastId;
+    }
+
+    public Long getScannedCount() {
+        return scannedCount;
+    }
+
+    public void setScannedCount(Long scannedCount) {
+        this.scannedCount = scannedCount;
+    }
+
+    public Long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(Long updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 액세스 토큰 (재시작 시 메모리 폐기 목록 복원용, 만료 후 삭제)
+ */
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_access_tokens_expires", columnList = "expires_at")
+})
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 기본 생성자
+    public RevokedAccessToken() {}
+
+    public RevokedAccessToken(String jti, String userId, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
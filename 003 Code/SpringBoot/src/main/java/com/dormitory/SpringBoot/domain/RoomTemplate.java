@@ -36,10 +36,16 @@ public class RoomTemplate {
     private String imagePath;
 
     /**
-     * 기준 사진 Base64 데이터 (Gemini API 호출용 캐시)
+     * 기준 사진 SHA-256 해시 (이미지 원본은 image_path 파일로만 보관)
      */
-    @Column(name = "image_base64", columnDefinition = "LONGTEXT")
-    private String imageBase64;
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
+    /**
+     * 기준 사진 파일 크기 (bytes)
+     */
+    @Column(name = "image_size")
+    private Long imageSize;
 
     /**
      * 설명
@@ -144,12 +150,20 @@ public class RoomTemplate {
         this.imagePath = imagePath;
     }
 
-    public String getImageBase64() {
-        return imageBase64;
+    public String getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(String imageHash) {
+        this.imageHash = imageHash;
+    }
+
+    public Long getImageSize() {
+        return imageSize;
     }
 
-    public void setImageBase64(String imageBase64) {
-        this.imageBase64 = imageBase64;
+    public void setImageSize(Long imageSize) {
+        this.imageSize = imageSize;
     }
 
     public String getDescription() {
@@ -11,7 +11,12 @@ import java.time.LocalDateTime;
  * 사용자 정보를 저장하는 엔티티 - 거주 동 필드 추가
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_building_room", columnList = "dormitory_building, room_number"),
+        @Index(name = "idx_users_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_users_name_index", columnList = "name_index"),
+        @Index(name = "idx_users_phone_index", columnList = "phone_index")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class User {
 
@@ -34,6 +39,13 @@ public class User {
     @Column(name = "phone_encrypted", length = 255)
     private String phoneNumber;
 
+    // 블라인드 인덱스 (암호화된 이름/전화번호 일치 검색용 HMAC 토큰)
+    @Column(name = "name_index", length = 32)
+    private String nameIndex;
+
+    @Column(name = "phone_index", length = 32)
+    private String phoneIndex;
+
     @Column(name = "dormitory_building", length = 50)
     private String dormitoryBuilding;
 
@@ -152,6 +164,22 @@ public class User {
         this.emailHash = emailHash;
     }
 
+    public String getNameIndex() {
+        return nameIndex;
+    }
+
+    public void setNameIndex(String nameIndex) {
+        this.nameIndex = nameIndex;
+    }
+
+    public String getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public void setPhoneIndex(String phoneIndex) {
+        this.phoneIndex = phoneIndex;
+    }
+
     public String getPhoneNumber() {
         return phoneNumber;
     }
@@ -0,0 +1,70 @@
+package com.dormitory.SpringBoot.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * 사용자 개인정보 접두사 검색용 블라인드 인덱스 토큰
+ * 평문 대신 HMAC 토큰만 저장 (BlindIndexUtil)
+ */
+@Entity
+@Table(name = "user_search_tokens", indexes = {
+        @Index(name = "idx_user_search_tokens_token", columnList = "token, user_id"),
+        @Index(name = "idx_user_search_tokens_user", columnList = "user_id, field")
+})
+public class UserSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "field", nullable = false, length = 10)
+    private String field; // NAME, PHONE
+
+    @Column(name = "token", nullable = false, length = 32)
+    private String token;
+
+    // 기본 생성자
+    public UserSearchToken() {}
+
+    public UserSearchToken(String userId, String field, String token) {
+        this.userId = userId;
+        this.field = field;
+        this.token = token;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
@@ -153,6 +153,12 @@ public class AllowedUserRequest {
         private int successCount;
         private int failCount;
         private List<String> errors;
+        private int insertedCount;
+        private int updatedCount;
+        private int unchangedCount;
+        private int chunkCount;
+        private boolean errorsTruncated;
+        private long elapsedMillis;
 
         public UploadResponse() {}
 
@@ -194,6 +200,54 @@ public class AllowedUserRequest {
         public void setErrors(List<String> errors) {
             this.errors = errors;
         }
+
+        public int getInsertedCount() {
+            return insertedCount;
+        }
+
+        public void setInsertedCount(int insertedCount) {
+            this.insertedCount = insertedCount;
+        }
+
+        public int getUpdatedCount() {
+            return updatedCount;
+        }
+
+        public void setUpdatedCount(int updatedCount) {
+            this.updatedCount = updatedCount;
+        }
+
+        public int getUnchangedCount() {
+            return unchangedCount;
+        }
+
+        public void setUnchangedCount(int unchangedCount) {
+            this.unchangedCount = unchangedCount;
+        }
+
+        public int getChunkCount() {
+            return chunkCount;
+        }
+
+        public void setChunkCount(int chunkCount) {
+            this.chunkCount = chunkCount;
+        }
+
+        public boolean isErrorsTruncated() {
+            return errorsTruncated;
+        }
+
+        public void setErrorsTruncated(boolean errorsTruncated) {
+            this.errorsTruncated = errorsTruncated;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public void setElapsedMillis(long elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+        }
     }
 
     /**
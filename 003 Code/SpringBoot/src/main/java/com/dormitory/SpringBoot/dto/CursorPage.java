@@ -0,0 +1,136 @@
+package com.dormitory.SpringBoot.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션 응답
+ * - 정렬 기준: (시각 DESC, ID DESC)
+ * - 커서는 마지막 항목의 (시각, ID)를 Base64URL로 인코딩한 불투명 문자열
+ * - 시각이 없는 항목(이전 데이터)은 시각 부분을 비워 인코딩 - 해석 시 time이 null (조회 쿼리에서 NULL 구간으로 처리)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    @JsonProperty("content")
+    private final List<T> content;
+
+    @JsonProperty("size")
+    private final int size;
+
+    @JsonProperty("nextCursor")
+    private final String nextCursor;
+
+    @JsonProperty("hasNext")
+    private final boolean hasNext;
+
+    public CursorPage(List<T> content, int size, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size+1개 조회 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size,
+                                         Function<E, LocalDateTime> timeOf,
+                                         Function<E, ?> idOf,
+                                         Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> pageItems = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageItems.get(pageItems.size() - 1);
+            nextCursor = encode(timeOf.apply(last), String.valueOf(idOf.apply(last)));
+        }
+
+        return new CursorPage<>(pageItems.stream().map(mapper).toList(), size, nextCursor, hasNext);
+    }
+
+    /**
+     * 같은 커서 정보로 내용만 교체 (일괄 변환용)
+     */
+    public <R> CursorPage<R> withContent(List<R> newContent) {
+        return new CursorPage<>(newContent, size, nextCursor, hasNext);
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (기본 20, 최대 100)
+     */
+    public static int clampSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    public static String encode(LocalDateTime time, String id) {
+        String raw = (time != null ? time.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @return 커서가 없으면 null
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime time = separator > 0 ? LocalDateTime.parse(raw.substring(0, separator)) : null;
+            return new Cursor(time, raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 해석된 커서 (마지막 항목의 시각 + ID, 시각이 없던 항목이면 time은 null)
+     */
+    public static class Cursor {
+        private final LocalDateTime time;
+        private final String id;
+
+        public Cursor(LocalDateTime time, String id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        public LocalDateTime getTime() { return time; }
+        public String getId() { return id; }
+
+        public Long getLongId() {
+            try {
+                return Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+
+    public List<T> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
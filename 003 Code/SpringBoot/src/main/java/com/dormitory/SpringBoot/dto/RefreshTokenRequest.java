@@ -0,0 +1,33 @@
+package com.dormitory.SpringBoot.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 토큰 재발급/로그아웃 요청 DTO
+ */
+public class RefreshTokenRequest {
+
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+
+    // 기본 생성자
+    public RefreshTokenRequest() {}
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getter/Setter
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest{refreshToken='[PROTECTED]'}";
+    }
+}
@@ -1,8 +1,9 @@
 package com.dormitory.SpringBoot.filter;
 
-import com.dormitory.SpringBoot.domain.User;
-import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.services.TokenRevocationService;
+import com.dormitory.SpringBoot.services.UserStatusCacheService;
 import com.dormitory.SpringBoot.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +25,8 @@ import java.util.Optional;
 
 /**
  * JWT 인증 필터 - 디버깅 강화 버전
+ * ✅ 토큰은 요청당 한 번만 파싱, 사용자 상태는 UserStatusCacheService 캐시 사용
+ * ✅ 폐기된 토큰은 TokenRevocationService 메모리 폐기 목록으로 확인 (DB 조회 없음)
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -34,7 +37,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStatusCacheService userStatusCacheService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -60,36 +66,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String token = authHeader.substring(7);
                 logger.debug("JWT 토큰 추출 성공, 길이: {}", token.length());
 
-                // 토큰 유효성 검증
-                if (jwtUtil.isTokenValid(token)) {
+                // 토큰 검증 + 클레임 추출 (1회 파싱)
+                Claims claims = jwtUtil.parseValidClaims(token);
+                if (claims != null && tokenRevocationService.isRevoked(claims)) {
+                    logger.warn("폐기된 토큰으로 접근 시도 - 사용자ID: {}", claims.getSubject());
+                } else if (claims != null) {
                     logger.debug("토큰 유효성 검증 성공");
 
-                    String userId = jwtUtil.getUserIdFromToken(token);
-                    Boolean isAdmin = jwtUtil.getIsAdminFromToken(token);
+                    String userId = claims.getSubject();
+                    boolean tokenAdmin = Boolean.TRUE.equals(claims.get("isAdmin", Boolean.class));
 
-                    logger.debug("사용자 ID: {}, 관리자 여부: {}", userId, isAdmin);
+                    logger.debug("사용자 ID: {}, 관리자 여부: {}", userId, tokenAdmin);
 
-                    // 사용자 정보 조회 및 Authentication 설정
-                    Optional<User> userOptional = userRepository.findById(userId);
-                    if (userOptional.isPresent()) {
-                        User user = userOptional.get();
+                    // 사용자 상태 조회 (짧은 TTL 캐시) 및 Authentication 설정
+                    Optional<UserStatusCacheService.UserStatus> statusOptional = userStatusCacheService.getStatus(userId);
+                    if (statusOptional.isPresent()) {
+                        UserStatusCacheService.UserStatus status = statusOptional.get();
 
                         // 계정 활성화 상태 확인
-                        if (!Boolean.TRUE.equals(user.getIsActive())) {
+                        if (!status.isActive()) {
                             logger.warn("비활성화된 계정으로 접근 시도 - 사용자ID: {}", userId);
                             filterChain.doFilter(request, response);
                             return;
                         }
 
-                        // 계정 잠금 상태 확인
-                        if (user.isAccountLocked()) {
+                        // 계정 잠금 상태 확인 (잠금 만료 시각이 지났으면 해제로 판단)
+                        if (status.isAccountLocked()) {
                             logger.warn("잠긴 계정으로 접근 시도 - 사용자ID: {}", userId);
                             filterChain.doFilter(request, response);
                             return;
                         }
 
-                        // 계정 잠금이 만료된 경우 자동 해제
-                        user.unlockAccountIfNeeded();
+                        // 토큰 발급 이후 관리자 권한이 회수된 경우 일반 사용자로 처리
+                        boolean isAdmin = tokenAdmin && status.isAdmin();
 
                         SimpleGrantedAuthority authority = isAdmin ?
                                 new SimpleGrantedAuthority("ROLE_ADMIN") :
@@ -1,9 +1,14 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.AllowedUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,11 @@ public interface AllowedUserRepository extends JpaRepository<AllowedUser, Long>
      */
     boolean existsByUserId(String userId);
 
+    /**
+     * ✅ 여러 사용자 ID로 한 번에 조회 (엑셀 업로드 청크 처리용)
+     */
+    List<AllowedUser> findByUserIdIn(Collection<String> userIds);
+
     /**
      * 등록 여부로 사용자 조회
      */
@@ -62,4 +72,22 @@ public interface AllowedUserRepository extends JpaRepository<AllowedUser, Long>
      * 미등록 사용자 수
      */
     long countByIsRegisteredFalse();
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT a FROM AllowedUser a ORDER BY a.createdAt DESC, a.id DESC")
+    List<AllowedUser> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT a FROM AllowedUser a WHERE (:cursorTime IS NOT NULL AND (a.createdAt < :cursorTime " +
+            "OR (a.createdAt = :cursorTime AND a.id < :cursorId) OR a.createdAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND a.createdAt IS NULL AND a.id < :cursorId) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AllowedUser> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
 }
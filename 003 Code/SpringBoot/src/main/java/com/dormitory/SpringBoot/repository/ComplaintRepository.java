@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Complaint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -285,4 +286,22 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
             "FROM Complaint c WHERE c.submittedAt BETWEEN :startDate AND :endDate")
     List<Object[]> getResolutionRateStatistics(@Param("startDate") LocalDateTime startDate,
                                                @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (submittedAt DESC, id DESC)
+     */
+    @Query("SELECT c FROM Complaint c ORDER BY c.submittedAt DESC, c.id DESC")
+    List<Complaint> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT c FROM Complaint c WHERE (:cursorTime IS NOT NULL AND (c.submittedAt < :cursorTime " +
+            "OR (c.submittedAt = :cursorTime AND c.id < :cursorId) OR c.submittedAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND c.submittedAt IS NULL AND c.id < :cursorId) " +
+            "ORDER BY c.submittedAt DESC, c.id DESC")
+    List<Complaint> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+}
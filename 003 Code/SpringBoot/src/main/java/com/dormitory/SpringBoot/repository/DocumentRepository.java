@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Document;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -154,4 +155,22 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
      */
     @Query("SELECT d.status, COUNT(d) FROM Document d GROUP BY d.status")
     List<Object[]> getStatusStatistics();
-}
\ No newline at end of file
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (submittedAt DESC, id DESC)
+     */
+    @Query("SELECT d FROM Document d ORDER BY d.submittedAt DESC, d.id DESC")
+    List<Document> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT d FROM Document d WHERE (:cursorTime IS NOT NULL AND (d.submittedAt < :cursorTime " +
+            "OR (d.submittedAt = :cursorTime AND d.id < :cursorId) OR d.submittedAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND d.submittedAt IS NULL AND d.id < :cursorId) " +
+            "ORDER BY d.submittedAt DESC, d.id DESC")
+    List<Document> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+}
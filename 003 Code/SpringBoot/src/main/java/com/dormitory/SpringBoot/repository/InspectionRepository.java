@@ -1,7 +1,9 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Inspection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,11 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
      */
     List<Inspection> findByUserIdOrderByCreatedAtDesc(String userId);
 
+    /**
+     * 전체 점호 기록을 최신순으로 조회 (관리자용)
+     */
+    List<Inspection> findAllByOrderByCreatedAtDesc();
+
     /**
      * 특정 상태의 점호 기록 수 조회
      */
@@ -50,6 +57,17 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
     List<Inspection> findByInspectionDateBetween(@Param("startDate") LocalDateTime startDate,
                                                  @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * ✅ 특정 동 거주자(활성)의 기간 내 점호 기록 조회 (점호 현황 테이블용, 오래된 순)
+     */
+    @Query("SELECT i FROM Inspection i, User u WHERE u.id = i.userId " +
+            "AND u.dormitoryBuilding = :building AND u.isActive = true " +
+            "AND i.inspectionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY i.inspectionDate ASC")
+    List<Inspection> findByBuildingAndInspectionDateBetween(@Param("building") String building,
+                                                            @Param("startDate") LocalDateTime startDate,
+                                                            @Param("endDate") LocalDateTime endDate);
+
     /**
      * 특정 상태의 점호 기록을 조회
      */
@@ -159,6 +177,23 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
             "ORDER BY YEAR(i.inspectionDate) DESC, MONTH(i.inspectionDate) DESC")
     List<Object[]> getMonthlyStatistics();
 
+    /**
+     * ✅ 통계 집계 초기 적재용 (날짜 + 동 + 상태 + 재검 여부별 건수, 단일 쿼리)
+     */
+    @Query("SELECT DATE(i.inspectionDate), i.dormitoryBuilding, i.status, i.isReInspection, COUNT(i) " +
+            "FROM Inspection i " +
+            "GROUP BY DATE(i.inspectionDate), i.dormitoryBuilding, i.status, i.isReInspection")
+    List<Object[]> countGroupedByDateBuildingAndStatus();
+
+    /**
+     * 제출 당시 동이 없는 이전 기록에 사용자의 현재 동 기입 (통계 적재 전 1회)
+     */
+    @Modifying
+    @Query("UPDATE Inspection i SET i.dormitoryBuilding = " +
+            "(SELECT u.dormitoryBuilding FROM User u WHERE u.id = i.userId) " +
+            "WHERE i.dormitoryBuilding IS NULL")
+    int backfillDormitoryBuilding();
+
     /**
      * 일별 점호 통계
      */
@@ -263,4 +298,85 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
      * ✅ 특정 사용자의 특정 기간 내 점호 기록 조회
      */
     List<Inspection> findByUserIdAndInspectionDateBetween(String userId, LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT i FROM Inspection i ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inspection> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT i FROM Inspection i WHERE (:cursorTime IS NOT NULL AND (i.createdAt < :cursorTime " +
+            "OR (i.createdAt = :cursorTime AND i.id < :cursorId) OR i.createdAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND i.createdAt IS NULL AND i.id < :cursorId) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inspection> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 사진 해시 색인 적재용 (id, userId, roomNumber, imageHash, inspectionDate, dormitoryBuilding) - 엔티티를 만들지 않음
+     */
+    @Query("SELECT i.id, i.userId, i.roomNumber, i.imageHash, i.inspectionDate, i.dormitoryBuilding FROM Inspection i " +
+            "WHERE i.imageHash IS NOT NULL AND i.inspectionDate >= :since")
+    List<Object[]> findImageHashesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사진 해시가 없는 점호 (id, imagePath, userId, roomNumber, inspectionDate, dormitoryBuilding) - ID 순 키셋 청크
+     */
+    @Query("SELECT i.id, i.imagePath, i.userId, i.roomNumber, i.inspectionDate, i.dormitoryBuilding FROM Inspection i " +
+            "WHERE i.imageHash IS NULL AND i.imagePath IS NOT NULL AND i.id > :afterId AND i.inspectionDate >= :since " +
+            "ORDER BY i.id")
+    List<Object[]> findMissingImageHashes(@Param("afterId") Long afterId,
+                                          @Param("since") LocalDateTime since,
+                                          Pageable pageable);
+
+    /**
+     * 사진 해시 저장 (엔티티 수정 시각은 바꾸지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Inspection i SET i.imageHash = :imageHash WHERE i.id = :id")
+    int updateImageHash(@Param("id") Long id, @Param("imageHash") Long imageHash);
+
+    /**
+     * 보관 기간이 지난 점호 사진 (id, imagePath) - ID 순 키셋 청크, 평가 대기 중인 점호 제외
+     */
+    @Query("SELECT i.id, i.imagePath FROM Inspection i WHERE i.imagePath IS NOT NULL " +
+            "AND i.inspectionDate < :before AND i.status <> 'PENDING' AND i.id > :afterId ORDER BY i.id")
+    List<Object[]> findExpiredImagePaths(@Param("afterId") Long afterId,
+                                         @Param("before") LocalDateTime before,
+                                         Pageable pageable);
+
+    /**
+     * ✅ 평가 결과 기록 - PENDING인 경우에만 갱신 (평가 중 수정/반려/삭제된 기록은 건드리지 않음)
+     *
+     * clearAutomatically = true로 앞서 조회한 엔티티가 커밋 시 전체 덮어쓰기되지 않도록 분리
+     *
+     * @return 갱신된 행 수 (0이면 이미 PENDING이 아님)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inspection i SET i.score = :score, i.status = :status, i.geminiFeedback = :feedback, " +
+            "i.updatedAt = :updatedAt WHERE i.id = :id AND i.status = 'PENDING'")
+    int completePending(@Param("id") Long id,
+                        @Param("score") int score,
+                        @Param("status") String status,
+                        @Param("feedback") String feedback,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사진 경로 일괄 해제 (점호 기록은 유지)
+     */
+    @Modifying
+    @Query("UPDATE Inspection i SET i.imagePath = NULL WHERE i.id IN :ids")
+    int clearImagePaths(@Param("ids") List<Long> ids);
+
+    /**
+     * 평가 대기 중인 점호 (id, createdAt) - 복구 점검용, 오래된 순
+     */
+    @Query("SELECT i.id, i.createdAt FROM Inspection i WHERE i.status = 'PENDING' AND i.createdAt < :before " +
+            "ORDER BY i.createdAt")
+    List<Object[]> findPendingCreatedBefore(@Param("before") LocalDateTime before);
+}
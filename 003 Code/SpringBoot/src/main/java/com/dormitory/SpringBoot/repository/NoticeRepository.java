@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.Notice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -100,4 +101,22 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = "UPDATE notices SET view_count = view_count + 1 WHERE id = :id", nativeQuery = true)
     void incrementViewCountOnly(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT n FROM Notice n ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notice> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT n FROM Notice n WHERE (:cursorTime IS NOT NULL AND (n.createdAt < :cursorTime " +
+            "OR (n.createdAt = :cursorTime AND n.id < :cursorId) OR n.createdAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND n.createdAt IS NULL AND n.id < :cursorId) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notice> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+}
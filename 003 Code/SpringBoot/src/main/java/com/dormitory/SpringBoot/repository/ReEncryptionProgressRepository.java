@@ -0,0 +1,12 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.ReEncryptionProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재암호화 작업 진행 상태 데이터 액세스 인터페이스
+ */
+@Repository
+public interface ReEncryptionProgressRepository extends JpaRepository<ReEncryptionProgress, String> {
+}
@@ -1,7 +1,9 @@
 package com.dormitory.SpringBoot.repository;
 
 import com.dormitory.SpringBoot.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -125,6 +127,31 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     List<User> findByIdContainingIgnoreCase(String id);
 
+    /**
+     * ✅ 이름 블라인드 인덱스로 사용자 조회 (일치 검색)
+     */
+    List<User> findByNameIndex(String nameIndex);
+
+    /**
+     * ✅ 전화번호 블라인드 인덱스로 사용자 조회 (일치 검색)
+     */
+    List<User> findByPhoneIndex(String phoneIndex);
+
+    /**
+     * ✅ 블라인드 인덱스가 없는 사용자 조회 (ID 순 청크, 인덱스 보충용)
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :afterId " +
+            "AND ((u.name IS NOT NULL AND u.nameIndex IS NULL) " +
+            "OR (u.phoneNumber IS NOT NULL AND u.phoneIndex IS NULL)) " +
+            "ORDER BY u.id")
+    List<User> findUnindexedAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * ✅ 암호화 필드만 ID 순 청크 조회 (재암호화 작업용) - [id, name, email, phoneNumber]
+     */
+    @Query("SELECT u.id, u.name, u.email, u.phoneNumber FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findEncryptedFieldsAfter(@Param("afterId") String afterId, Pageable pageable);
+
     /**
      * 최근 로그인 순으로 사용자 조회
      */
@@ -141,6 +168,59 @@ public interface UserRepository extends JpaRepository<User, String> {
     @Query("SELECT u.isAdmin FROM User u WHERE u.id = :userId")
     Optional<Boolean> isUserAdmin(@Param("userId") String userId);
 
+    /**
+     * ✅ 로그인 실패 기록 - 시도 횟수를 DB에서 원자적으로 증가, 임계치 도달 시 잠금
+     * MySQL은 SET 절을 왼쪽부터 평가하므로 잠금 판단을 횟수 증가보다 먼저 둠
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET " +
+            "u.isLocked = CASE WHEN COALESCE(u.loginAttempts, 0) + 1 >= :maxAttempts THEN true ELSE u.isLocked END, " +
+            "u.lockedUntil = CASE WHEN COALESCE(u.loginAttempts, 0) + 1 >= :maxAttempts THEN :lockUntil ELSE u.lockedUntil END, " +
+            "u.loginAttempts = COALESCE(u.loginAttempts, 0) + 1, " +
+            "u.updatedAt = :updateTime WHERE u.id = :userId")
+    int recordLoginFailure(@Param("userId") String userId,
+                           @Param("maxAttempts") int maxAttempts,
+                           @Param("lockUntil") LocalDateTime lockUntil,
+                           @Param("updateTime") LocalDateTime updateTime);
+
+    /**
+     * ✅ 로그인 성공 기록 - 활성 상태이고 그 사이 잠기지 않은 경우에만 시도 횟수 초기화
+     *
+     * @return 0이면 검증 중 다른 요청으로 잠금/비활성화됨
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.loginAttempts = 0, u.isLocked = false, u.lockedUntil = null, " +
+            "u.lastLoginAt = :loginTime, u.updatedAt = :loginTime " +
+            "WHERE u.id = :userId AND u.isActive = true " +
+            "AND (u.isLocked IS NULL OR u.isLocked = false OR u.lockedUntil < :loginTime)")
+    int recordLoginSuccess(@Param("userId") String userId, @Param("loginTime") LocalDateTime loginTime);
+
+    /**
+     * ✅ 비밀번호 해시 교체 - 검증에 사용한 해시가 그대로일 때만 (동시 비밀번호 변경 보호)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :userId AND u.password = :oldHash")
+    int replacePasswordHash(@Param("userId") String userId,
+                            @Param("oldHash") String oldHash,
+                            @Param("newHash") String newHash);
+
+    /**
+     * ✅ 비밀번호 변경 - 현재 비밀번호 확인에 사용한 해시가 그대로일 때만
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash, u.passwordChangedAt = :changedAt, u.updatedAt = :changedAt " +
+            "WHERE u.id = :userId AND u.password = :oldHash")
+    int changePassword(@Param("userId") String userId,
+                       @Param("oldHash") String oldHash,
+                       @Param("newHash") String newHash,
+                       @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 잠금 상태만 조회 (로그인 실패 기록 직후 재확인용)
+     */
+    @Query("SELECT u.isLocked FROM User u WHERE u.id = :userId")
+    Optional<Boolean> findIsLockedById(@Param("userId") String userId);
+
     /**
      * 사용자의 마지막 로그인 시간 업데이트
      */
@@ -232,4 +312,22 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     @Query("SELECT DISTINCT u.roomNumber FROM User u WHERE u.dormitoryBuilding = :building AND u.isActive = true AND u.roomNumber IS NOT NULL ORDER BY u.roomNumber")
     List<String> findDistinctRoomNumbersByBuilding(@Param("building") String building);
-}
\ No newline at end of file
+
+    /**
+     * ✅ 키셋 페이지네이션 - 첫 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findFirstPage(Pageable pageable);
+
+    /**
+     * ✅ 키셋 페이지네이션 - 커서 이후 페이지
+     * 시각이 NULL인 행은 DESC 정렬에서 맨 뒤에 오므로 시각 커서 다음에 이어지고, NULL 커서면 그 구간만 ID로 이어감
+     */
+    @Query("SELECT u FROM User u WHERE (:cursorTime IS NOT NULL AND (u.createdAt < :cursorTime " +
+            "OR (u.createdAt = :cursorTime AND u.id < :cursorId) OR u.createdAt IS NULL)) " +
+            "OR (:cursorTime IS NULL AND u.createdAt IS NULL AND u.id < :cursorId) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageAfter(@Param("cursorTime") LocalDateTime cursorTime,
+                             @Param("cursorId") String cursorId,
+                             Pageable pageable);
+}
@@ -0,0 +1,37 @@
+package com.dormitory.SpringBoot.repository;
+
+import com.dormitory.SpringBoot.domain.UserSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자 검색 토큰 데이터 액세스 인터페이스
+ */
+@Repository
+public interface UserSearchTokenRepository extends JpaRepository<UserSearchToken, Long> {
+
+    /**
+     * 토큰과 일치하는 사용자 ID 조회
+     */
+    @Query("SELECT DISTINCT t.userId FROM UserSearchToken t WHERE t.token = :token")
+    List<String> findUserIdsByToken(@Param("token") String token);
+
+    /**
+     * 사용자의 특정 필드 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserSearchToken t WHERE t.userId = :userId AND t.field = :field")
+    int deleteByUserIdAndField(@Param("userId") String userId, @Param("field") String field);
+
+    /**
+     * 사용자의 전체 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserSearchToken t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
+}
@@ -3,22 +3,39 @@ package com.dormitory.SpringBoot.services;
 import com.dormitory.SpringBoot.domain.AllowedUser;
 import com.dormitory.SpringBoot.domain.User;
 import com.dormitory.SpringBoot.dto.AllowedUserRequest;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.repository.AllowedUserRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import com.dormitory.SpringBoot.utils.XlsxStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,110 +51,326 @@ public class AllowedUserService {
 
     private static final Logger logger = LoggerFactory.getLogger(AllowedUserService.class);
 
+    private static final String INSERT_ALLOWED_USER_SQL =
+            "INSERT INTO allowed_users (user_id, name, dormitory_building, room_number, phone_number, email, " +
+            "is_registered, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    // 빈 전화번호/이메일 셀은 기존 값 유지
+    private static final String UPDATE_ALLOWED_USER_SQL =
+            "UPDATE allowed_users SET name = ?, dormitory_building = ?, room_number = ?, " +
+            "phone_number = COALESCE(?, phone_number), email = COALESCE(?, email), updated_at = ? WHERE user_id = ?";
+
     @Autowired
     private AllowedUserRepository allowedUserRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private UserSearchIndexService userSearchIndexService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.allowed-users.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${app.allowed-users.import.max-errors:500}")
+    private int importMaxErrors;
+
     /**
      * 엑셀 파일로부터 허용 사용자 목록 업로드
      *
      * ✅ 엑셀 형식:
      * - 필수: 학번(A) | 이름(B) | 기숙사명(C) | 호실번호(D)
      * - 선택: 전화번호(E) | 이메일(F)
+     *
+     * ✅ 스트리밍 읽기(XlsxStreamReader) + 청크 단위 검증/저장 - 행 수와 관계없이 메모리 사용 일정
+     * ✅ 청크마다 기존 학번을 한 번에 조회 후 신규는 INSERT 배치, 변경분은 UPDATE 배치 (청크별 트랜잭션)
+     * ✅ 이미 있는 학번은 엑셀 내용으로 갱신 (빈 전화번호/이메일 셀은 기존 값 유지), 등록된 사용자는 User 테이블도 함께 갱신
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AllowedUserRequest.UploadResponse uploadAllowedUsersFromExcel(MultipartFile file) {
         logger.info("엑셀 파일 업로드 시작 - 파일명: {}", file.getOriginalFilename());
 
-        int totalCount = 0;
-        int successCount = 0;
-        int failCount = 0;
-        List<String> errors = new ArrayList<>();
+        long startedAt = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress(importMaxErrors);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<ImportRow> chunk = new ArrayList<>(importChunkSize);
+        Set<String> seenUserIds = new HashSet<>();
+        Path tempFile = null;
 
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+        try {
+            // OPC 패키지는 파일에서 직접 열어야 압축 해제 내용을 메모리에 올리지 않음
+            tempFile = Files.createTempFile("allowed-users-", ".xlsx");
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
 
-            // 첫 번째 행은 헤더이므로 건너뜀
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
+            XlsxStreamReader.readFirstSheet(tempFile.toFile(), (rowNumber, cells) -> {
+                // 첫 번째 행은 헤더이므로 건너뜀
+                if (rowNumber == 1 || isBlankRow(cells)) {
+                    return;
+                }
 
-                totalCount++;
+                progress.totalCount++;
+                ImportRow row = validateRow(rowNumber, cells, seenUserIds, progress);
+                if (row == null) {
+                    return;
+                }
 
-                try {
-                    // 엑셀에서 데이터 읽기 (컬럼 순서)
-                    // 필수: 학번(A), 이름(B), 기숙사명(C), 호실번호(D)
-                    // 선택: 전화번호(E), 이메일(F)
-                    String userId = getCellValueAsString(row.getCell(0));           // A: 학번 (필수)
-                    String name = getCellValueAsString(row.getCell(1));             // B: 이름 (필수)
-                    String dormitoryBuilding = getCellValueAsString(row.getCell(2)); // C: 기숙사명 (필수)
-                    String roomNumber = getCellValueAsString(row.getCell(3));       // D: 호실번호 (필수)
-                    String phoneNumber = getCellValueAsString(row.getCell(4));      // E: 전화번호 (선택)
-                    String email = getCellValueAsString(row.getCell(5));            // F: 이메일 (선택)
-
-                    // 필수 필드 검증 (4개 모두 필수)
-                    if (userId == null || userId.trim().isEmpty()) {
-                        errors.add("행 " + (i + 1) + ": 학번이 비어있습니다.");
-                        failCount++;
-                        continue;
-                    }
-
-                    if (name == null || name.trim().isEmpty()) {
-                        errors.add("행 " + (i + 1) + ": 이름이 비어있습니다.");
-                        failCount++;
-                        continue;
-                    }
-
-                    if (dormitoryBuilding == null || dormitoryBuilding.trim().isEmpty()) {
-                        errors.add("행 " + (i + 1) + ": 기숙사명이 비어있습니다.");
-                        failCount++;
-                        continue;
-                    }
-
-                    if (roomNumber == null || roomNumber.trim().isEmpty()) {
-                        errors.add("행 " + (i + 1) + ": 호실번호가 비어있습니다.");
-                        failCount++;
-                        continue;
-                    }
-
-                    // 중복 확인
-                    if (allowedUserRepository.existsByUserId(userId.trim())) {
-                        errors.add("행 " + (i + 1) + ": 이미 등록된 학번입니다 (" + userId + ")");
-                        failCount++;
-                        continue;
-                    }
-
-                    // 사용자 생성 및 저장
-                    AllowedUser allowedUser = new AllowedUser(
-                            userId.trim(),
-                            name.trim(),
-                            dormitoryBuilding.trim(),
-                            roomNumber.trim(),
-                            phoneNumber != null ? phoneNumber.trim() : null,
-                            email != null ? email.trim() : null
-                    );
-
-                    allowedUserRepository.save(allowedUser);
-                    successCount++;
-                    logger.debug("허용 사용자 추가 성공 - 학번: {}, 이름: {}, 기숙사: {}, 호실: {}",
-                            userId, name, dormitoryBuilding, roomNumber);
-
-                } catch (Exception e) {
-                    errors.add("행 " + (i + 1) + ": " + e.getMessage());
-                    failCount++;
-                    logger.error("행 {} 처리 중 오류 발생: {}", i + 1, e.getMessage());
+                chunk.add(row);
+                if (chunk.size() >= importChunkSize) {
+                    flushChunk(transactionTemplate, chunk, progress);
+                    chunk.clear();
                 }
+            });
+
+            if (!chunk.isEmpty()) {
+                flushChunk(transactionTemplate, chunk, progress);
             }
 
-            logger.info("엑셀 업로드 완료 - 전체: {}, 성공: {}, 실패: {}", totalCount, successCount, failCount);
+            logger.info("엑셀 업로드 완료 - 전체: {}, 추가: {}, 변경: {}, 동일: {}, 실패: {}, 소요: {}ms",
+                    progress.totalCount, progress.insertedCount, progress.updatedCount,
+                    progress.unchangedCount, progress.failCount, System.currentTimeMillis() - startedAt);
 
         } catch (IOException e) {
             logger.error("엑셀 파일 읽기 실패: {}", e.getMessage());
             throw new RuntimeException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    logger.warn("엑셀 임시 파일 삭제 실패: {}", tempFile);
+                }
+            }
+        }
+
+        AllowedUserRequest.UploadResponse response = new AllowedUserRequest.UploadResponse(
+                progress.totalCount,
+                progress.insertedCount + progress.updatedCount + progress.unchangedCount,
+                progress.failCount,
+                progress.errors);
+        response.setInsertedCount(progress.insertedCount);
+        response.setUpdatedCount(progress.updatedCount);
+        response.setUnchangedCount(progress.unchangedCount);
+        response.setChunkCount(progress.chunkCount);
+        response.setErrorsTruncated(progress.errorsTruncated);
+        response.setElapsedMillis(System.currentTimeMillis() - startedAt);
+        return response;
+    }
+
+    /**
+     * 엑셀 업로드 진행 상황 (행 단위 오류는 최대 개수까지만 보관)
+     */
+    private static class ImportProgress {
+        private final int maxErrors;
+        private int totalCount;
+        private int insertedCount;
+        private int updatedCount;
+        private int unchangedCount;
+        private int failCount;
+        private int chunkCount;
+        private boolean errorsTruncated;
+        private final List<String> errors = new ArrayList<>();
+
+        ImportProgress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int rowNumber, String message) {
+            failCount++;
+            if (errors.size() < maxErrors) {
+                errors.add("행 " + rowNumber + ": " + message);
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    /**
+     * 검증을 통과한 엑셀 행
+     */
+    private static class ImportRow {
+        private final int rowNumber;
+        private final String userId;
+        private final String name;
+        private final String dormitoryBuilding;
+        private final String roomNumber;
+        private final String phoneNumber;
+        private final String email;
+
+        ImportRow(int rowNumber, String userId, String name, String dormitoryBuilding,
+                  String roomNumber, String phoneNumber, String email) {
+            this.rowNumber = rowNumber;
+            this.userId = userId;
+            this.name = name;
+            this.dormitoryBuilding = dormitoryBuilding;
+            this.roomNumber = roomNumber;
+            this.phoneNumber = phoneNumber;
+            this.email = email;
+        }
+
+        /**
+         * 기존 값과 다른지 확인 (빈 전화번호/이메일은 기존 값 유지이므로 비교하지 않음)
+         */
+        boolean differsFrom(AllowedUser current) {
+            return !Objects.equals(name, current.getName())
+                    || !Objects.equals(dormitoryBuilding, current.getDormitoryBuilding())
+                    || !Objects.equals(roomNumber, current.getRoomNumber())
+                    || (phoneNumber != null && !phoneNumber.equals(current.getPhoneNumber()))
+                    || (email != null && !email.equals(current.getEmail()));
+        }
+    }
+
+    private ImportRow validateRow(int rowNumber, List<String> cells, Set<String> seenUserIds, ImportProgress progress) {
+        String userId = cellAt(cells, 0);            // A: 학번 (필수)
+        String name = cellAt(cells, 1);              // B: 이름 (필수)
+        String dormitoryBuilding = cellAt(cells, 2); // C: 기숙사명 (필수)
+        String roomNumber = cellAt(cells, 3);        // D: 호실번호 (필수)
+        String phoneNumber = cellAt(cells, 4);       // E: 전화번호 (선택)
+        String email = cellAt(cells, 5);             // F: 이메일 (선택)
+
+        // 필수 필드 검증 (4개 모두 필수)
+        if (userId == null) {
+            progress.fail(rowNumber, "학번이 비어있습니다.");
+            return null;
+        }
+        if (name == null) {
+            progress.fail(rowNumber, "이름이 비어있습니다.");
+            return null;
+        }
+        if (dormitoryBuilding == null) {
+            progress.fail(rowNumber, "기숙사명이 비어있습니다.");
+            return null;
+        }
+        if (roomNumber == null) {
+            progress.fail(rowNumber, "호실번호가 비어있습니다.");
+            return null;
+        }
+        if (userId.length() > 50 || name.length() > 100 || dormitoryBuilding.length() > 50
+                || roomNumber.length() > 20 || (phoneNumber != null && phoneNumber.length() > 20)
+                || (email != null && email.length() > 255)) {
+            progress.fail(rowNumber, "입력값이 너무 깁니다 (" + userId + ")");
+            return null;
+        }
+
+        // 파일 내 중복 확인
+        if (!seenUserIds.add(userId)) {
+            progress.fail(rowNumber, "파일 내 중복된 학번입니다 (" + userId + ")");
+            return null;
+        }
+
+        return new ImportRow(rowNumber, userId, name, dormitoryBuilding, roomNumber, phoneNumber, email);
+    }
+
+    /**
+     * 청크 저장 (청크 단위 트랜잭션, 실패 시 해당 청크 행만 실패 처리)
+     */
+    private void flushChunk(TransactionTemplate transactionTemplate, List<ImportRow> chunk, ImportProgress progress) {
+        progress.chunkCount++;
+        try {
+            int[] result = transactionTemplate.execute(status -> upsertChunk(chunk));
+            progress.insertedCount += result[0];
+            progress.updatedCount += result[1];
+            progress.unchangedCount += result[2];
+            logger.info("엑셀 업로드 진행 - 청크 {}, 처리 {}행 (추가: {}, 변경: {}, 실패: {})",
+                    progress.chunkCount, progress.totalCount, progress.insertedCount,
+                    progress.updatedCount, progress.failCount);
+        } catch (Exception e) {
+            logger.error("엑셀 업로드 청크 {} 저장 실패: {}", progress.chunkCount, e.getMessage());
+            for (ImportRow row : chunk) {
+                progress.fail(row.rowNumber, "저장 중 오류가 발생했습니다 (" + row.userId + ")");
+            }
+        }
+    }
+
+    /**
+     * @return [추가 수, 변경 수, 동일 수]
+     */
+    private int[] upsertChunk(List<ImportRow> chunk) {
+        List<String> userIds = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            userIds.add(row.userId);
+        }
+
+        Map<String, AllowedUser> existing = new HashMap<>();
+        for (AllowedUser allowedUser : allowedUserRepository.findByUserIdIn(userIds)) {
+            existing.put(allowedUser.getUserId(), allowedUser);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        Map<String, AllowedUserRequest.UpdateUserRequest> registeredChanges = new HashMap<>();
+        int unchanged = 0;
+
+        for (ImportRow row : chunk) {
+            AllowedUser current = existing.get(row.userId);
+            if (current == null) {
+                inserts.add(new Object[]{row.userId, row.name, row.dormitoryBuilding, row.roomNumber,
+                        row.phoneNumber, row.email, now, now});
+            } else if (row.differsFrom(current)) {
+                updates.add(new Object[]{row.name, row.dormitoryBuilding, row.roomNumber,
+                        row.phoneNumber, row.email, now, row.userId});
+                if (Boolean.TRUE.equals(current.getIsRegistered())) {
+                    registeredChanges.put(row.userId, new AllowedUserRequest.UpdateUserRequest(
+                            row.name, row.dormitoryBuilding, row.roomNumber, row.phoneNumber, row.email));
+                }
+            } else {
+                unchanged++;
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ALLOWED_USER_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ALLOWED_USER_SQL, updates);
+        }
+        if (!registeredChanges.isEmpty()) {
+            syncRegisteredUsers(registeredChanges);
+        }
+
+        return new int[]{inserts.size(), updates.size(), unchanged};
+    }
+
+    /**
+     * 등록된 사용자들의 User 테이블 일괄 갱신 (한 번에 조회 후 saveAll)
+     */
+    private void syncRegisteredUsers(Map<String, AllowedUserRequest.UpdateUserRequest> changes) {
+        List<User> changedUsers = new ArrayList<>();
+        for (User user : userRepository.findAllById(changes.keySet())) {
+            if (applyToRegisteredUser(user, changes.get(user.getId()))) {
+                changedUsers.add(user);
+            }
+        }
+        userRepository.saveAll(changedUsers);
+        logger.info("등록된 사용자 정보 일괄 업데이트 완료 - {}명", changedUsers.size());
+    }
+
+    private boolean isBlankRow(List<String> cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.trim().isEmpty()) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return new AllowedUserRequest.UploadResponse(totalCount, successCount, failCount, errors);
+    private String cellAt(List<String> cells, int index) {
+        if (index >= cells.size() || cells.get(index) == null) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
     }
 
     /**
@@ -235,40 +468,7 @@ public class AllowedUserService {
 
             if (userOptional.isPresent()) {
                 User user = userOptional.get();
-                boolean updated = false;
-
-                // 이름 업데이트
-                if (request.getName() != null && !request.getName().trim().isEmpty()) {
-                    user.setName(request.getName().trim());
-                    updated = true;
-                }
-
-                // 기숙사 업데이트
-                if (request.getDormitoryBuilding() != null && !request.getDormitoryBuilding().trim().isEmpty()) {
-                    user.setDormitoryBuilding(request.getDormitoryBuilding().trim());
-                    updated = true;
-                }
-
-                // 호실 업데이트
-                if (request.getRoomNumber() != null && !request.getRoomNumber().trim().isEmpty()) {
-                    user.setRoomNumber(request.getRoomNumber().trim());
-                    updated = true;
-                }
-
-                // 전화번호 업데이트
-                if (request.getPhoneNumber() != null) {
-                    user.setPhoneNumber(request.getPhoneNumber().trim().isEmpty() ? null : request.getPhoneNumber().trim());
-                    updated = true;
-                }
-
-                // 이메일 업데이트
-                if (request.getEmail() != null) {
-                    user.setEmail(request.getEmail().trim().isEmpty() ? null : request.getEmail().trim());
-                    updated = true;
-                }
-
-                if (updated) {
-                    user.setUpdatedAt(LocalDateTime.now());
+                if (applyToRegisteredUser(user, request)) {
                     userRepository.save(user);
                     logger.info("등록된 사용자 정보 자동 업데이트 완료 - 학번: {}", userId);
                 }
@@ -281,6 +481,54 @@ public class AllowedUserService {
         }
     }
 
+    /**
+     * 수정 요청을 User 엔티티에 반영 (저장은 호출 측에서)
+     *
+     * @return 변경 여부
+     */
+    private boolean applyToRegisteredUser(User user, AllowedUserRequest.UpdateUserRequest request) {
+        boolean updated = false;
+
+        // 이름 업데이트
+        if (request.getName() != null && !request.getName().trim().isEmpty()) {
+            user.setName(encryptionUtil.encrypt(request.getName().trim()));
+            userSearchIndexService.indexName(user, request.getName().trim());
+            updated = true;
+        }
+
+        // 기숙사 업데이트
+        if (request.getDormitoryBuilding() != null && !request.getDormitoryBuilding().trim().isEmpty()) {
+            user.setDormitoryBuilding(request.getDormitoryBuilding().trim());
+            updated = true;
+        }
+
+        // 호실 업데이트
+        if (request.getRoomNumber() != null && !request.getRoomNumber().trim().isEmpty()) {
+            user.setRoomNumber(request.getRoomNumber().trim());
+            updated = true;
+        }
+
+        // 전화번호 업데이트
+        if (request.getPhoneNumber() != null) {
+            String phoneNumber = request.getPhoneNumber().trim();
+            user.setPhoneNumber(phoneNumber.isEmpty() ? null : encryptionUtil.encrypt(phoneNumber));
+            userSearchIndexService.indexPhone(user, phoneNumber);
+            updated = true;
+        }
+
+        // 이메일 업데이트
+        if (request.getEmail() != null) {
+            String email = request.getEmail().trim();
+            user.setEmail(email.isEmpty() ? null : encryptionUtil.encrypt(email));
+            updated = true;
+        }
+
+        if (updated) {
+            user.setUpdatedAt(LocalDateTime.now());
+        }
+        return updated;
+    }
+
     /**
      * 허용 사용자 목록 조회
      */
@@ -309,6 +557,22 @@ public class AllowedUserService {
         );
     }
 
+    /**
+     * ✅ 허용 사용자 키셋 페이지 조회 (생성일시, ID 역순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AllowedUserRequest.AllowedUserResponse> getAllowedUsersPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<AllowedUser> fetched = after == null
+                ? allowedUserRepository.findFirstPage(limit)
+                : allowedUserRepository.findPageAfter(after.getTime(), after.getLongId(), limit);
+
+        return CursorPage.of(fetched, pageSize, AllowedUser::getCreatedAt, AllowedUser::getId, this::convertToResponse);
+    }
+
     /**
      * 특정 학번의 허용 사용자 조회
      */
@@ -379,40 +643,4 @@ public class AllowedUserService {
                 user.getCreatedAt()
         );
     }
-
-    /**
-     * 엑셀 셀 값을 문자열로 변환
-     */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return null;
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                // 숫자를 문자열로 변환 (학번, 호실번호 등)
-                double numericValue = cell.getNumericCellValue();
-                // 정수인 경우 소수점 제거
-                if (numericValue == Math.floor(numericValue)) {
-                    return String.valueOf((long) numericValue);
-                }
-                return String.valueOf(numericValue);
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                try {
-                    return cell.getStringCellValue();
-                } catch (Exception e) {
-                    try {
-                        return String.valueOf((long) cell.getNumericCellValue());
-                    } catch (Exception ex) {
-                        return null;
-                    }
-                }
-            case BLANK:
-                return null;
-            default:
-                return null;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,210 @@
+package com.dormitory.SpringBoot.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 점호 기록 → 출석 테이블 자동 동기화
+ * ✅ 점호 커밋 후 이벤트에서는 변경된 (날짜, 사용자)만 대기열에 표시 - 제출 응답 지연 없음
+ * ✅ flush-interval-ms마다 표시된 항목의 최신 점호(남아 있는 기록 중 가장 최근 ID)를 한 번의 쿼리로 읽어 JDBC 배치 UPDATE로 반영
+ * ✅ 이전 점호(예: 재검 통과 전의 FAIL)를 삭제/수정해도 최신 기록 기준으로 다시 계산하므로 출석 상태가 되돌아가지 않음
+ * ✅ 출석 테이블이 아직 없는 날짜는 갱신할 행이 없으므로 무시 (테이블 생성 시 제출 전 상태로 시작)
+ */
+@Service
+public class AttendanceSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceSyncService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private static final String SUBMIT_SQL =
+            "UPDATE attendance_table SET is_submitted = true, submission_time = ?, score = ?, status = ?, updated_at = NOW() " +
+            "WHERE inspection_date = ? AND user_id = ?";
+
+    private static final String RESET_SQL =
+            "UPDATE attendance_table SET is_submitted = false, submission_time = NULL, score = NULL, status = 'PENDING', updated_at = NOW() " +
+            "WHERE inspection_date = ? AND user_id = ?";
+
+    // 대상 사용자/날짜 범위의 점호를 ID 순으로 읽어 키별 마지막 행을 최신으로 사용
+    private static final String LATEST_SQL =
+            "SELECT i.id, i.user_id, i.inspection_date, i.score, i.status FROM inspections i " +
+            "WHERE i.user_id IN (:userIds) AND i.inspection_date >= :from AND i.inspection_date < :to ORDER BY i.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${app.attendance.sync.enabled:true}")
+    private boolean enabled;
+
+    private final Set<Key> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 출석 항목 식별자 (점호 날짜 + 사용자)
+     */
+    private static class Key {
+        private final LocalDate inspectionDate;
+        private final String userId;
+
+        Key(LocalDate inspectionDate, String userId) {
+            this.inspectionDate = inspectionDate;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return inspectionDate.equals(key.inspectionDate) && userId.equals(key.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(inspectionDate, userId);
+        }
+    }
+
+    /**
+     * 키별 최신 점호
+     */
+    private static class LatestInspection {
+        private final LocalDateTime submissionTime;
+        private final Integer score;
+        private final String status;
+
+        LatestInspection(LocalDateTime submissionTime, Integer score, String status) {
+            this.submissionTime = submissionTime;
+            this.score = score;
+            this.status = status;
+        }
+    }
+
+    /**
+     * 점호 변경 수신 (커밋 후, 트랜잭션 없으면 즉시) - 대기열에 표시만 하고 바로 반환
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInspectionChanged(InspectionChangedEvent event) {
+        if (!enabled || event.getInspectionDate() == null || event.getUserId() == null) {
+            return;
+        }
+        pending.add(new Key(event.getInspectionDate().toLocalDate(), event.getUserId()));
+    }
+
+    /**
+     * 대기 중인 항목을 최신 점호 기준으로 배치 UPDATE
+     */
+    @Scheduled(fixedDelayString = "${app.attendance.sync.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Key> drained = new ArrayList<>();
+        for (Key key : new ArrayList<>(pending)) {
+            if (pending.remove(key)) {
+                drained.add(key);
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += QUERY_CHUNK_SIZE) {
+            List<Key> chunk = drained.subList(from, Math.min(from + QUERY_CHUNK_SIZE, drained.size()));
+            try {
+                apply(chunk);
+            } catch (Exception e) {
+                // 다음 주기에 최신 상태로 다시 계산
+                pending.addAll(chunk);
+                logger.error("출석 테이블 동기화 중 오류 발생 - 대기 {}건, 다음 주기에 재시도", chunk.size(), e);
+            }
+        }
+    }
+
+    private void apply(List<Key> keys) {
+        Map<Key, LatestInspection> latest = findLatest(keys);
+
+        List<Object[]> submitArgs = new ArrayList<>();
+        List<Object[]> resetArgs = new ArrayList<>();
+        for (Key key : keys) {
+            LatestInspection inspection = latest.get(key);
+            if (inspection == null) {
+                resetArgs.add(new Object[]{Date.valueOf(key.inspectionDate), key.userId});
+            } else {
+                submitArgs.add(new Object[]{
+                        inspection.submissionTime != null ? Timestamp.valueOf(inspection.submissionTime) : null,
+                        inspection.score, inspection.status, Date.valueOf(key.inspectionDate), key.userId});
+            }
+        }
+
+        if (!submitArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(SUBMIT_SQL, submitArgs,
+                    new int[]{Types.TIMESTAMP, Types.INTEGER, Types.VARCHAR, Types.DATE, Types.VARCHAR});
+        }
+        if (!resetArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(RESET_SQL, resetArgs);
+        }
+        logger.debug("출석 테이블 동기화 - 제출 {}건, 취소 {}건", submitArgs.size(), resetArgs.size());
+    }
+
+    /**
+     * 키 묶음의 최신 점호를 한 번의 쿼리로 조회 (사용자 IN + 날짜 범위, 키에 없는 조합은 버림)
+     */
+    private Map<Key, LatestInspection> findLatest(List<Key> keys) {
+        Set<String> userIds = new HashSet<>();
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+        for (Key key : keys) {
+            userIds.add(key.userId);
+            minDate = minDate == null || key.inspectionDate.isBefore(minDate) ? key.inspectionDate : minDate;
+            maxDate = maxDate == null || key.inspectionDate.isAfter(maxDate) ? key.inspectionDate : maxDate;
+        }
+
+        Set<Key> wanted = new HashSet<>(keys);
+        Map<Key, LatestInspection> latest = new HashMap<>();
+        Map<String, Object> params = new HashMap<>();
+        params.put("userIds", userIds);
+        params.put("from", Timestamp.valueOf(minDate.atStartOfDay()));
+        params.put("to", Timestamp.valueOf(maxDate.plusDays(1).atStartOfDay()));
+
+        namedParameterJdbcTemplate.query(LATEST_SQL, params, rs -> {
+            LocalDateTime inspectionDate = rs.getTimestamp("inspection_date").toLocalDateTime();
+            Key key = new Key(inspectionDate.toLocalDate(), rs.getString("user_id"));
+            if (wanted.contains(key)) {
+                int score = rs.getInt("score");
+                latest.put(key, new LatestInspection(inspectionDate, rs.wasNull() ? null : score, rs.getString("status")));
+            }
+        });
+        return latest;
+    }
+
+    /**
+     * 종료 시 남은 변경 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
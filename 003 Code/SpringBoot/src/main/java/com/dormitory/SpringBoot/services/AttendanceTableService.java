@@ -1,18 +1,32 @@
 package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.AttendanceTable;
-import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.domain.InspectionSettings;
 import com.dormitory.SpringBoot.dto.AttendanceRequest;
 import com.dormitory.SpringBoot.repository.AttendanceTableRepository;
-import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.repository.InspectionSettingsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -24,43 +38,90 @@ public class AttendanceTableService {
 
     private static final Logger logger = LoggerFactory.getLogger(AttendanceTableService.class);
 
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 이미 제출된 점호가 있으면 그날의 최신(ID 최대) 점호로 제출 상태를 채워서 생성
+    private static final String GENERATE_SQL =
+            "INSERT INTO attendance_table " +
+            "(inspection_date, room_number, user_id, user_name, is_submitted, submission_time, score, status, created_at, updated_at) " +
+            "SELECT ?, COALESCE(u.room_number, ''), u.user_id, u.name_encrypted, " +
+            "i.id IS NOT NULL, i.inspection_date, i.score, COALESCE(i.status, 'PENDING'), NOW(), NOW() " +
+            "FROM users u " +
+            "LEFT JOIN (SELECT user_id, MAX(id) AS id FROM inspections " +
+            "WHERE inspection_date >= ? AND inspection_date < ? GROUP BY user_id) latest ON latest.user_id = u.user_id " +
+            "LEFT JOIN inspections i ON i.id = latest.id " +
+            "WHERE u.is_active = true " +
+            "AND NOT EXISTS (SELECT 1 FROM attendance_table a WHERE a.inspection_date = ? AND a.user_id = u.user_id)";
+
+    private static final String MISSING_COUNT_SQL =
+            "SELECT COUNT(*) FROM users u WHERE u.is_active = true " +
+            "AND NOT EXISTS (SELECT 1 FROM attendance_table a WHERE a.inspection_date = ? AND a.user_id = u.user_id)";
+
+    // 이전 (inspection_date, room_number) 유일 키 - 자동 생성 이름이라 컬럼 구성으로 찾음
+    private static final String UNIQUE_KEYS_SQL =
+            "SELECT INDEX_NAME, GROUP_CONCAT(COLUMN_NAME ORDER BY SEQ_IN_INDEX) AS cols " +
+            "FROM information_schema.STATISTICS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'attendance_table' " +
+            "AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY' GROUP BY INDEX_NAME";
+
+    private static final String LEGACY_KEY_COLUMNS = "inspection_date,room_number";
+
     @Autowired
     private AttendanceTableRepository attendanceTableRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private InspectionSettingsRepository inspectionSettingsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.attendance.pregenerate-lookahead-days:7}")
+    private int pregenerateLookaheadDays;
+
+    @Value("${app.attendance.drop-legacy-room-key:false}")
+    private boolean dropLegacyRoomKey;
+
+    /**
+     * ✅ 기동 시 이전 (날짜, 호실) 유일 키 확인
+     * ddl-auto=update는 기존 제약을 지우지 않으므로, 남아 있으면 룸메이트가 있는 호실 때문에 출석 테이블 생성이 실패함
+     * 기본은 제거할 DDL만 로그로 안내하고, drop-legacy-room-key=true일 때만 직접 제거
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void dropLegacyRoomUniqueKey() {
+        try {
+            List<Map<String, Object>> keys = jdbcTemplate.queryForList(UNIQUE_KEYS_SQL);
+            for (Map<String, Object> key : keys) {
+                String indexName = String.valueOf(key.get("INDEX_NAME"));
+                String columns = String.valueOf(key.get("cols"));
+                if (!LEGACY_KEY_COLUMNS.equalsIgnoreCase(columns) || !indexName.matches("[A-Za-z0-9_]+")) {
+                    continue;
+                }
+                String ddl = "ALTER TABLE attendance_table DROP INDEX `" + indexName + "`";
+                if (!dropLegacyRoomKey) {
+                    logger.error("출석 테이블에 이전 유일 키 ({})가 남아 있어 룸메이트가 있는 호실은 출석 테이블이 생성되지 않습니다. " +
+                            "{} 실행 후 재시작해주세요.", columns, ddl);
+                    continue;
+                }
+                jdbcTemplate.execute(ddl);
+                logger.info("출석 테이블 이전 유일 키 제거 - {} ({})", indexName, columns);
+            }
+        } catch (Exception e) {
+            logger.error("출석 테이블 이전 유일 키 (inspection_date, room_number) 확인/제거 실패 - " +
+                    "룸메이트가 있는 호실은 출석 테이블이 생성되지 않습니다. 수동으로 DROP INDEX 해주세요.", e);
+        }
+    }
 
     /**
      * 특정 날짜의 출석 테이블 생성
-     * 모든 활성 사용자에 대해 출석 항목 자동 생성
+     * 모든 활성 사용자에 대해 출석 항목 자동 생성 (이미 있는 사용자는 건너뛰므로 재실행 시 신규 사용자만 추가)
      */
     public AttendanceRequest.AttendanceTableResponse createAttendanceTable(LocalDate inspectionDate) {
         logger.info("출석 테이블 생성 시작 - 날짜: {}", inspectionDate);
 
         try {
-            // 이미 해당 날짜의 테이블이 존재하는지 확인
-            if (attendanceTableRepository.existsByInspectionDate(inspectionDate)) {
-                logger.warn("이미 존재하는 출석 테이블 - 날짜: {}", inspectionDate);
-                throw new RuntimeException("해당 날짜의 출석 테이블이 이미 존재합니다.");
-            }
-
-            // 모든 활성 사용자 조회
-            List<User> activeUsers = userRepository.findByIsActiveTrue();
-            logger.info("활성 사용자 수: {}", activeUsers.size());
-
-            // 각 사용자에 대해 출석 항목 생성
-            List<AttendanceTable> attendanceEntries = activeUsers.stream()
-                .map(user -> new AttendanceTable(
-                    inspectionDate,
-                    user.getRoomNumber(),
-                    user.getId(),
-                    user.getName()
-                ))
-                .collect(Collectors.toList());
-
-            // 데이터베이스에 저장
-            attendanceTableRepository.saveAll(attendanceEntries);
-            logger.info("출석 테이블 생성 완료 - 항목 수: {}", attendanceEntries.size());
+            int inserted = generateAttendanceEntries(inspectionDate);
+            logger.info("출석 테이블 생성 완료 - 날짜: {}, 추가된 항목 수: {}", inspectionDate, inserted);
 
             // 생성된 테이블 조회 및 반환
             return getAttendanceTable(inspectionDate);
@@ -71,6 +132,59 @@ public class AttendanceTableService {
         }
     }
 
+    /**
+     * 활성 사용자 중 해당 날짜 항목이 없는 사용자만 한 번의 INSERT ... SELECT로 추가
+     * ✅ 사용자 엔티티를 읽어오지 않고 DB 안에서 처리 (IDENTITY 키라 saveAll은 배치가 되지 않음)
+     * ✅ 생성 전에 이미 제출한 사용자는 최신 점호로 제출 상태를 채움 (제출 이벤트는 항목이 없어 반영되지 않았으므로)
+     * ✅ (inspection_date, user_id) 유일 제약과 NOT EXISTS로 멱등 - 동시 실행으로 중복 키가 나면 다른 쪽이 이미 생성한 것
+     * ✅ 중복 키 후에도 항목이 없는 사용자가 남아 있으면 동시 실행이 아닌 다른 제약 위반이므로 예외 전달
+     *
+     * @return 새로 추가된 항목 수
+     */
+    public int generateAttendanceEntries(LocalDate inspectionDate) {
+        try {
+            return jdbcTemplate.update(GENERATE_SQL,
+                    Date.valueOf(inspectionDate),
+                    Timestamp.valueOf(inspectionDate.atStartOfDay()),
+                    Timestamp.valueOf(inspectionDate.plusDays(1).atStartOfDay()),
+                    Date.valueOf(inspectionDate));
+        } catch (DuplicateKeyException e) {
+            Integer missing = jdbcTemplate.queryForObject(MISSING_COUNT_SQL, Integer.class, Date.valueOf(inspectionDate));
+            if (missing != null && missing > 0) {
+                logger.error("출석 테이블 생성 중 중복 키 오류 - 날짜: {}, 미생성 사용자: {}명", inspectionDate, missing);
+                throw e;
+            }
+            logger.warn("출석 테이블 동시 생성 감지 - 날짜: {}", inspectionDate);
+            return 0;
+        }
+    }
+
+    /**
+     * 예정된 점호 날짜의 출석 테이블 미리 생성 (매일 00:10, 한국 시간)
+     * 활성화된 점호 설정 중 점호 날짜가 오늘부터 lookahead-days 이내인 날짜 대상
+     */
+    @Scheduled(cron = "${app.attendance.pregenerate-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void pregenerateUpcomingTables() {
+        LocalDate today = ZonedDateTime.now(KOREA_ZONE).toLocalDate();
+        LocalDate until = today.plusDays(pregenerateLookaheadDays);
+
+        try {
+            Set<LocalDate> dates = inspectionSettingsRepository.findByIsEnabledTrue().stream()
+                .map(InspectionSettings::getInspectionDate)
+                .filter(date -> date != null && !date.isBefore(today) && !date.isAfter(until))
+                .collect(Collectors.toCollection(TreeSet::new));
+
+            for (LocalDate date : dates) {
+                int inserted = generateAttendanceEntries(date);
+                if (inserted > 0) {
+                    logger.info("예정된 점호 출석 테이블 생성 - 날짜: {}, 추가된 항목 수: {}", date, inserted);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("예정된 점호 출석 테이블 생성 중 오류 발생", e);
+        }
+    }
+
     /**
      * 특정 날짜의 출석 테이블 조회
      */
@@ -142,8 +256,8 @@ public class AttendanceTableService {
     }
 
     /**
-     * 점호 제출 시 출석 테이블 업데이트
-     * (InspectionService에서 호출)
+     * 점호 제출 시 출석 테이블 업데이트 (단건 즉시 반영)
+     * 점호 기록 변경은 AttendanceSyncService가 이벤트로 모아 자동 반영
      */
     public void updateAttendanceOnInspectionSubmit(
             String userId, 
@@ -2,11 +2,13 @@ package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.Complaint;
 import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.repository.ComplaintRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -52,6 +54,22 @@ public class ComplaintService {
         }
     }
 
+    /**
+     * ✅ 민원 키셋 페이지 조회 (제출일시, ID 역순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Complaint> getComplaintsPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Complaint> fetched = after == null
+                ? complaintRepository.findFirstPage(limit)
+                : complaintRepository.findPageAfter(after.getTime(), after.getLongId(), limit);
+
+        return CursorPage.of(fetched, pageSize, Complaint::getSubmittedAt, Complaint::getId, complaint -> complaint);
+    }
+
     /**
      * 사용자별 민원 조회
      */
@@ -178,14 +196,9 @@ public class ComplaintService {
             Complaint complaint = complaintRepository.findById(complaintId)
                     .orElseThrow(() -> new RuntimeException("민원을 찾을 수 없습니다. ID: " + complaintId));
 
-            // 첨부 파일 삭제
+            // 첨부 파일 삭제 (민원 삭제가 커밋된 뒤)
             if (complaint.getImagePath() != null && !complaint.getImagePath().isEmpty()) {
-                try {
-                    fileService.deleteFile(complaint.getImagePath());
-                    logger.info("민원 첨부 파일 삭제 완료: {}", complaint.getImagePath());
-                } catch (Exception e) {
-                    logger.warn("민원 첨부 파일 삭제 실패: {}", e.getMessage());
-                }
+                fileService.deleteFileAfterCommit(complaint.getImagePath());
             }
 
             complaintRepository.delete(complaint);
@@ -2,24 +2,22 @@ package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.Document;
 import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.repository.DocumentRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 공공서류 비즈니스 로직 서비스 - 완전한 버전 (모든 메서드 포함)
@@ -36,7 +34,8 @@ public class DocumentService {
     @Autowired
     private UserRepository userRepository; // ✅ 사용자 정보 조회를 위해 추가
 
-    private final String uploadDirectory = "uploads/documents/";
+    @Autowired
+    private FileService fileService;
 
     // =============================================================================
     // 기본 CRUD 메서드들
@@ -56,6 +55,22 @@ public class DocumentService {
         }
     }
 
+    /**
+     * ✅ 서류 키셋 페이지 조회 (제출일시, ID 역순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Document> getDocumentsPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Document> fetched = after == null
+                ? documentRepository.findFirstPage(limit)
+                : documentRepository.findPageAfter(after.getTime(), after.getLongId(), limit);
+
+        return CursorPage.of(fetched, pageSize, Document::getSubmittedAt, Document::getId, document -> document);
+    }
+
     /**
      * 사용자별 서류 조회
      */
@@ -315,41 +330,16 @@ public class DocumentService {
 
     /**
      * 파일 업로드 처리
+     * ✅ 공용 파일 저장소 사용 (DB에는 기존과 같은 "uploads/documents/..." 형식으로 저장)
      */
     private String saveUploadedFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        Path uploadPath = Paths.get(uploadDirectory);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        // 파일명 생성 (UUID + 원본 확장자)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        String fileName = UUID.randomUUID().toString() + extension;
-
-        // 파일 저장
-        Path filePath = uploadPath.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath);
-
-        return uploadDirectory + fileName;
+        return fileService.toLegacyPath(fileService.storeFile(file, "documents"));
     }
 
     /**
-     * 파일 삭제 처리
+     * 파일 삭제 처리 (서류 삭제가 커밋된 뒤, 다른 서류가 같은 내용을 참조하면 참조 수만 감소)
      */
     private void deleteUploadedFile(String filePath) {
-        try {
-            Path path = Paths.get(filePath);
-            if (Files.exists(path)) {
-                Files.delete(path);
-            }
-        } catch (IOException e) {
-            // 파일 삭제 실패는 로그만 남기고 진행
-            logger.warn("파일 삭제 실패: {} - {}", filePath, e.getMessage());
-        }
+        fileService.deleteFileAfterCommit(filePath);
     }
-}
\ No newline at end of file
+}
@@ -1,33 +1,36 @@
 package com.dormitory.SpringBoot.services;
 
+import com.dormitory.SpringBoot.utils.ExifHeaderParser;
+import com.dormitory.SpringBoot.utils.ExifHeaderParser.ExifMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.metadata.IIOMetadata;
-import javax.imageio.stream.ImageInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 /**
  * EXIF 데이터 추출 및 검증 서비스
  * ✅ 촬영 날짜 검증 기능 추가 (당일 촬영 사진만 허용)
+ * ✅ 이미지 전체를 읽거나 디코딩하지 않고 파일 앞부분(헤더)만 읽어 EXIF 추출 (ExifHeaderParser)
+ * ✅ 촬영 시각은 카메라 현지 시각이므로 서버 시간대와 무관하게 한국 시간(기록된 오프셋 우선)으로 비교
  */
 @Service
 public class ExifService {
 
     private static final Logger logger = LoggerFactory.getLogger(ExifService.class);
-    private static final DateTimeFormatter EXIF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Value("${app.exif.header-window-bytes:65536}")
+    private int headerWindowBytes;
 
     /**
      * EXIF 검증 결과
@@ -74,28 +77,26 @@ public class ExifService {
     }
 
     /**
-     * EXIF 데이터 추출
+     * EXIF 정보 추출 (헤더만 읽음, 실패 시 빈 정보)
      */
-    public Map<String, Object> extractExifData(MultipartFile imageFile) {
-        Map<String, Object> exifData = new HashMap<>();
-
-        try {
-            logger.info("EXIF 데이터 추출 시작 - 파일: {}", imageFile.getOriginalFilename());
-            byte[] imageBytes = imageFile.getBytes();
-
-            if (isJpegFile(imageBytes)) {
-                exifData = parseJpegExif(imageBytes);
-            }
-
-            logger.info("EXIF 데이터 추출 완료: {}", exifData);
-            return exifData;
-
+    public ExifMetadata extractMetadata(MultipartFile imageFile) {
+        try (InputStream in = imageFile.getInputStream()) {
+            ExifMetadata metadata = ExifHeaderParser.parse(in, headerWindowBytes);
+            logger.info("EXIF 데이터 추출 완료 - 파일: {}, {}", imageFile.getOriginalFilename(), metadata);
+            return metadata;
         } catch (Exception e) {
             logger.error("EXIF 데이터 추출 실패", e);
-            return exifData;
+            return ExifMetadata.empty();
         }
     }
 
+    /**
+     * EXIF 데이터 추출 (맵 형태)
+     */
+    public Map<String, Object> extractExifData(MultipartFile imageFile) {
+        return extractMetadata(imageFile).toMap();
+    }
+
     /**
      * ✅ EXIF 종합 검증 (촬영 날짜 검증 추가)
      */
@@ -107,18 +108,19 @@ public class ExifService {
         try {
             logger.info("EXIF 검증 시작 - 허용 오차: {}분", toleranceMinutes);
 
-            Map<String, Object> exifData = extractExifData(imageFile);
+            ExifMetadata metadata = extractMetadata(imageFile);
+            Map<String, Object> exifData = metadata.toMap();
 
             // 기존 검증
-            boolean timeValid = validateCaptureTime(exifData, toleranceMinutes);
+            boolean timeValid = validateCaptureTime(metadata, toleranceMinutes);
             boolean locationValid = true;
             if (expectedLatitude != null && expectedLongitude != null) {
-                locationValid = validateLocation(exifData, expectedLatitude, expectedLongitude, radiusMeters);
+                locationValid = validateLocation(metadata, expectedLatitude, expectedLongitude, radiusMeters);
             }
-            boolean notEdited = checkNotEdited(exifData);
+            boolean notEdited = checkNotEdited(metadata);
 
             // ✅ 촬영 날짜 검증 추가 (오늘 촬영 사진인지 확인)
-            boolean dateValid = validateCaptureDate(exifData);
+            boolean dateValid = validateCaptureDate(metadata);
 
             boolean allValid = timeValid && locationValid && notEdited && dateValid;
             String message = buildValidationMessage(timeValid, locationValid, notEdited, dateValid, exifData);
@@ -139,22 +141,18 @@ public class ExifService {
      * ✅ 촬영 날짜 검증 - 오늘 촬영한 사진인지 확인
      * @return true: 오늘 촬영 또는 날짜 정보 없음 (통과), false: 과거 촬영 (0점 처리)
      */
-    public boolean validateCaptureDate(Map<String, Object> exifData) {
+    public boolean validateCaptureDate(ExifMetadata metadata) {
         try {
-            String dateTimeOriginal = (String) exifData.get("DateTimeOriginal");
-            if (dateTimeOriginal == null) {
-                dateTimeOriginal = (String) exifData.get("DateTime");
-            }
+            ZonedDateTime captureTime = metadata.getCaptureTime(KOREA_ZONE);
 
-            if (dateTimeOriginal == null) {
+            if (captureTime == null) {
                 // EXIF에 날짜 정보가 없으면 통과 (일부 기기는 EXIF 미지원)
                 logger.warn("촬영 날짜 정보가 없습니다. 검증 통과 처리.");
                 return true;
             }
 
-            LocalDateTime captureTime = LocalDateTime.parse(dateTimeOriginal, EXIF_DATE_FORMAT);
             LocalDate captureDate = captureTime.toLocalDate();
-            LocalDate today = LocalDate.now();
+            LocalDate today = LocalDate.now(KOREA_ZONE);
 
             logger.info("촬영 날짜 검증 - 촬영일: {}, 오늘: {}", captureDate, today);
 
@@ -178,20 +176,16 @@ public class ExifService {
     /**
      * 촬영 시간 검증 (기존 - 분 단위 오차)
      */
-    public boolean validateCaptureTime(Map<String, Object> exifData, int toleranceMinutes) {
+    public boolean validateCaptureTime(ExifMetadata metadata, int toleranceMinutes) {
         try {
-            String dateTimeOriginal = (String) exifData.get("DateTimeOriginal");
-            if (dateTimeOriginal == null) {
-                dateTimeOriginal = (String) exifData.get("DateTime");
-            }
+            ZonedDateTime captureTime = metadata.getCaptureTime(KOREA_ZONE);
 
-            if (dateTimeOriginal == null) {
+            if (captureTime == null) {
                 logger.warn("촬영 시간 정보가 없습니다. 검증 통과 처리.");
                 return true;
             }
 
-            LocalDateTime captureTime = LocalDateTime.parse(dateTimeOriginal, EXIF_DATE_FORMAT);
-            LocalDateTime now = LocalDateTime.now();
+            ZonedDateTime now = ZonedDateTime.now(KOREA_ZONE);
             long minutesDiff = Math.abs(ChronoUnit.MINUTES.between(captureTime, now));
 
             logger.info("촬영 시간 검증 - 촬영: {}, 현재: {}, 차이: {}분, 허용: {}분",
@@ -213,19 +207,18 @@ public class ExifService {
     /**
      * GPS 위치 검증
      */
-    public boolean validateLocation(Map<String, Object> exifData,
+    public boolean validateLocation(ExifMetadata metadata,
                                     double expectedLatitude,
                                     double expectedLongitude,
                                     int radiusMeters) {
         try {
-            Double latitude = (Double) exifData.get("GPSLatitude");
-            Double longitude = (Double) exifData.get("GPSLongitude");
-
-            if (latitude == null || longitude == null) {
+            if (!metadata.hasGps()) {
                 logger.warn("GPS 정보가 없습니다. 검증 통과 처리.");
                 return true;
             }
 
+            double latitude = metadata.getLatitude();
+            double longitude = metadata.getLongitude();
             double distance = calculateDistance(latitude, longitude, expectedLatitude, expectedLongitude);
 
             logger.info("GPS 검증 - 촬영 위치: ({}, {}), 기준 위치: ({}, {}), 거리: {}m, 허용: {}m",
@@ -247,9 +240,9 @@ public class ExifService {
     /**
      * 편집 여부 확인
      */
-    public boolean checkNotEdited(Map<String, Object> exifData) {
+    public boolean checkNotEdited(ExifMetadata metadata) {
         try {
-            String software = (String) exifData.get("Software");
+            String software = metadata.getSoftware();
 
             if (software != null) {
                 String softwareLower = software.toLowerCase();
@@ -275,49 +268,6 @@ public class ExifService {
         }
     }
 
-    private boolean isJpegFile(byte[] data) {
-        if (data.length < 3) return false;
-        return (data[0] & 0xFF) == 0xFF &&
-                (data[1] & 0xFF) == 0xD8 &&
-                (data[2] & 0xFF) == 0xFF;
-    }
-
-    private Map<String, Object> parseJpegExif(byte[] imageBytes) {
-        Map<String, Object> exifData = new HashMap<>();
-
-        try {
-            InputStream is = new ByteArrayInputStream(imageBytes);
-            ImageInputStream iis = ImageIO.createImageInputStream(is);
-
-            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("jpeg");
-            if (readers.hasNext()) {
-                ImageReader reader = readers.next();
-                reader.setInput(iis, true);
-
-                IIOMetadata metadata = reader.getImageMetadata(0);
-                if (metadata != null) {
-                    String[] metadataFormatNames = metadata.getMetadataFormatNames();
-                    for (String formatName : metadataFormatNames) {
-                        logger.debug("메타데이터 형식: {}", formatName);
-                    }
-                }
-
-                reader.dispose();
-            }
-
-            is.close();
-            iis.close();
-
-            exifData.put("Format", "JPEG");
-            exifData.put("FileSize", imageBytes.length);
-
-        } catch (Exception e) {
-            logger.warn("JPEG EXIF 파싱 중 오류: {}", e.getMessage());
-        }
-
-        return exifData;
-    }
-
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         final int EARTH_RADIUS = 6371000;
 
@@ -1,25 +1,48 @@
 package com.dormitory.SpringBoot.services;
 
 import jakarta.annotation.PostConstruct;
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * 파일 업로드 및 관리를 담당하는 서비스
  * ✅ 수정: Railway Volume 경로 지원 (/app/uploads)
+ * ✅ 내용 주소 저장소: 임시 파일에 쓰면서 SHA-256 계산 → {category}/ab/cd/{hash}{ext}로 원자적 이동
+ * ✅ 같은 내용은 한 번만 저장하고 stored_files.ref_count로 참조 수 관리 (마지막 참조 삭제 시 파일 삭제)
+ * ✅ 참조 수 변경은 호출 측 트랜잭션에 참여 (추가 커넥션 없음) - 같은 경로의 동시 저장/삭제는 stored_files 행 잠금으로 직렬화
+ * ✅ 해시 앞 4자리로 2단계 분산하여 디렉토리당 파일 수를 작게 유지 (목록 조회/백업 속도)
+ * ✅ 점호/민원/템플릿 이미지, 공공서류, 공지사항 첨부가 모두 이 저장소를 사용
  */
 @Service
 public class FileService {
@@ -32,9 +55,45 @@ public class FileService {
     // 최대 파일 크기 (5MB)
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
+    // 기존 서비스가 DB에 저장하던 경로 접두사 (공지사항/공공서류)
+    private static final String LEGACY_PREFIX = "uploads/";
+
+    // 임시 파일 디렉토리 (원자적 이동을 위해 같은 볼륨에 둠)
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("[0-9a-f]{64}(\\.[A-Za-z0-9]+)?");
+
+    // 참조 추가 (없으면 생성) - 한 문장으로 처리하여 동시 업로드에도 중복 키가 나지 않음
+    private static final String ADD_REFERENCE_SQL =
+            "INSERT INTO stored_files (path, content_hash, size_bytes, ref_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 1, ?, ?) ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = ?";
+
+    private static final String RELEASE_REFERENCE_SQL =
+            "UPDATE stored_files SET ref_count = ref_count - 1, updated_at = ? WHERE path = ? AND ref_count > 0";
+
+    private static final String LOCK_REFERENCE_SQL =
+            "SELECT ref_count, updated_at FROM stored_files WHERE path = ? FOR UPDATE";
+
+    private static final String DELETE_REFERENCE_SQL =
+            "DELETE FROM stored_files WHERE path = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("fileCleanupExecutor")
+    private ThreadPoolTaskExecutor fileCleanupExecutor;
+
     @Value("${file.upload.base-path:uploads}")
     private String configuredUploadPath;
 
+    // 정리 작업에서 파일을 삭제하지 않고 옮겨 둘 경로 (비어 있으면 삭제)
+    @Value("${file.upload.archive-path:}")
+    private String archivePath;
+
     // ✅ 실제 사용할 업로드 경로 (런타임에 결정)
     private String baseUploadPath;
 
@@ -45,6 +104,7 @@ public class FileService {
     public void init() {
         this.baseUploadPath = resolveUploadPath();
         ensureDirectoryExists(baseUploadPath);
+        ensureDirectoryExists(Paths.get(baseUploadPath, TEMP_DIRECTORY).toString());
         logger.info("[FileService] 업로드 기본 경로 설정: {}", baseUploadPath);
     }
 
@@ -106,25 +166,8 @@ public class FileService {
             // 파일 유효성 검사
             validateImageFile(file);
 
-            // 업로드 디렉토리 생성
-            String uploadDir = createUploadDirectory(category);
-
-            // 파일명 생성 (중복 방지를 위해 UUID 사용)
-            String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String fileName = generateFileName(extension);
-
-            // 파일 저장
-            Path targetPath = Paths.get(uploadDir, fileName);
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 상대 경로 반환 (날짜 폴더 포함)
-            LocalDateTime now = LocalDateTime.now();
-            String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            String relativePath = category + "/" + datePath + "/" + fileName;
-
+            String relativePath = storeFile(file, category);
             logger.info("파일 업로드 완료: {}", relativePath);
-            logger.info("실제 저장 경로: {}", targetPath);
             return relativePath;
 
         } catch (Exception e) {
@@ -133,33 +176,166 @@ public class FileService {
         }
     }
 
+    /**
+     * ✅ 파일 저장 (형식 검사 없음 - 공공서류/공지사항 첨부 등)
+     *
+     * @param file 저장할 파일
+     * @param category 파일 카테고리 (최상위 디렉토리)
+     * @return 업로드 기본 경로 기준 상대 경로 ({category}/ab/cd/{hash}{ext})
+     */
+    public String storeFile(MultipartFile file, String category) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return storeFile(in, category, getFileExtension(file.getOriginalFilename()));
+        }
+    }
+
+    /**
+     * ✅ 스트림 저장 - 임시 파일에 복사하면서 해시를 계산한 뒤 내용 주소 경로로 이동
+     * 같은 내용이 이미 있으면 임시 파일을 버리고 참조 수만 증가
+     * 참조를 먼저 기록(행 잠금)한 뒤 파일을 확인하므로, 동시에 마지막 참조를 삭제하는 쪽이 먼저 끝나도 파일을 다시 채움
+     * 호출 측 트랜잭션이 롤백되면 참조 증가도 함께 취소되고, 새로 옮긴 파일은 참조가 없을 때 정리
+     */
+    public String storeFile(InputStream in, String category, String extension) throws IOException {
+        Path tempDirectory = Files.createDirectories(Paths.get(baseUploadPath, TEMP_DIRECTORY));
+        Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            MessageDigest digest = newSha256();
+            long size;
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(tempFile)) {
+                size = digestIn.transferTo(out);
+            }
+
+            String contentHash = Hex.encodeHexString(digest.digest());
+            String relativePath = shardedPath(category, contentHash, normalizeExtension(extension));
+            Path targetPath = resolve(relativePath);
+
+            addReference(relativePath, contentHash, size);
+
+            boolean exists = Files.exists(targetPath);
+            if (!exists) {
+                Files.createDirectories(targetPath.getParent());
+                moveAtomically(tempFile, targetPath);
+                cleanupOnRollback(relativePath);
+            }
+            logger.debug("파일 저장 - {} ({}, {})", relativePath, formatFileSize(size), exists ? "기존 내용 재사용" : "신규");
+            return relativePath;
+
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * ✅ 저장소 경로를 DB 저장용 경로로 변환 ("uploads/" 접두사를 쓰던 서비스용)
+     */
+    public String toLegacyPath(String relativePath) {
+        return relativePath != null ? LEGACY_PREFIX + relativePath : null;
+    }
+
     /**
      * 파일 삭제
+     * ✅ 내용 주소 저장소의 파일은 참조 수를 줄이고 마지막 참조일 때만 실제 파일 삭제
      *
      * @param filePath 삭제할 파일 경로 (상대 경로)
-     * @return 삭제 성공 여부
+     * @return 삭제(참조 해제) 성공 여부
      */
     public boolean deleteFile(String filePath) {
-        try {
-            if (filePath == null || filePath.isEmpty()) {
-                logger.warn("삭제할 파일 경로가 비어있습니다");
-                return false;
-            }
+        if (filePath == null || filePath.isEmpty()) {
+            logger.warn("삭제할 파일 경로가 비어있습니다");
+            return false;
+        }
+        return releaseFile(filePath, false) >= 0;
+    }
 
-            Path fullPath = Paths.get(baseUploadPath, filePath);
+    /**
+     * ✅ 현재 트랜잭션이 커밋된 뒤 파일 삭제 (롤백되면 파일 유지, 트랜잭션이 없으면 즉시 삭제)
+     * 커밋 후 콜백에서는 끝난 트랜잭션의 커넥션이 아직 묶여 있으므로 파일 정리 스레드에서 별도 트랜잭션으로 실행
+     * 대기열이 넘치거나 종료로 남은 파일은 업로드 정리 작업이 고아 파일로 회수
+     */
+    public void deleteFileAfterCommit(String filePath) {
+        if (filePath == null || filePath.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteFile(filePath);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runCleanup(() -> deleteFile(filePath), filePath);
+            }
+        });
+    }
 
-            if (Files.exists(fullPath)) {
-                Files.delete(fullPath);
-                logger.info("파일 삭제 완료: {}", filePath);
-                return true;
-            } else {
-                logger.warn("삭제할 파일이 존재하지 않습니다: {}", filePath);
-                return false;
+    /**
+     * ✅ 참조 해제 후 마지막 참조이면 삭제 (archive이면 보관 경로로 이동)
+     *
+     * @return 확보한 바이트 수 (다른 참조가 남아 있으면 0), 파일이 없거나 실패하면 -1
+     */
+    public long releaseFile(String filePath, boolean archive) {
+        try {
+            String relativePath = normalize(filePath);
+            Path fullPath = resolve(relativePath);
+
+            // 참조 행 잠금을 쥔 채로 파일을 지워 같은 내용의 동시 업로드와 엇갈리지 않게 함
+            Long reclaimed = transactionTemplate().execute(status -> {
+                Integer remaining = releaseReference(relativePath);
+                if (remaining != null && remaining > 0) {
+                    logger.info("파일 참조 해제: {} (남은 참조 {})", relativePath, remaining);
+                    return 0L;
+                }
+                if (!Files.isRegularFile(fullPath)) {
+                    logger.warn("삭제할 파일이 존재하지 않습니다: {}", relativePath);
+                    return -1L;
+                }
+                return removeOrArchive(fullPath, relativePath, archive);
+            });
+            if (reclaimed != null && reclaimed > 0) {
+                logger.info("파일 {} 완료: {}", archive && archiveRoot() != null ? "보관" : "삭제", relativePath);
             }
+            return reclaimed != null ? reclaimed : -1;
 
         } catch (Exception e) {
             logger.error("파일 삭제 중 오류 발생: {}", filePath, e);
-            return false;
+            return -1;
+        }
+    }
+
+    /**
+     * ✅ 어디에서도 참조하지 않는 파일 정리 (참조 수 기록과 함께 삭제)
+     * 기준 시각 이후 같은 내용이 다시 업로드되어 참조 수가 갱신된 파일은 건너뜀
+     *
+     * @param notModifiedSince 이 시각 이후 참조가 갱신된 파일은 정리하지 않음
+     * @return 확보한 바이트 수, 건너뛰었거나 실패하면 -1
+     */
+    public long purgeFile(String filePath, LocalDateTime notModifiedSince, boolean archive) {
+        try {
+            String relativePath = normalize(filePath);
+            Path fullPath = resolve(relativePath);
+
+            Long reclaimed = transactionTemplate().execute(status -> {
+                // 행 잠금 (기록이 없으면 해당 키 범위 잠금) - 정리 중 같은 내용의 업로드는 커밋 후 파일을 다시 채움
+                List<Timestamp> updatedAt = jdbcTemplate.query(LOCK_REFERENCE_SQL,
+                        (rs, rowNum) -> rs.getTimestamp("updated_at"), relativePath);
+                if (!updatedAt.isEmpty() && updatedAt.get(0) != null
+                        && updatedAt.get(0).toLocalDateTime().isAfter(notModifiedSince)) {
+                    return -1L;
+                }
+                if (!Files.isRegularFile(fullPath)) {
+                    return -1L;
+                }
+                if (!updatedAt.isEmpty()) {
+                    jdbcTemplate.update(DELETE_REFERENCE_SQL, relativePath);
+                }
+                return removeOrArchive(fullPath, relativePath, archive);
+            });
+            return reclaimed != null ? reclaimed : -1;
+
+        } catch (Exception e) {
+            logger.error("고아 파일 정리 중 오류 발생: {}", filePath, e);
+            return -1;
         }
     }
 
@@ -175,8 +351,7 @@ public class FileService {
                 return false;
             }
 
-            Path fullPath = Paths.get(baseUploadPath, filePath);
-            return Files.exists(fullPath);
+            return Files.exists(resolve(normalize(filePath)));
 
         } catch (Exception e) {
             logger.error("파일 존재 여부 확인 중 오류 발생: {}", filePath, e);
@@ -194,7 +369,39 @@ public class FileService {
         if (filePath == null || filePath.isEmpty()) {
             return null;
         }
-        return Paths.get(baseUploadPath, filePath).toString();
+        return resolve(normalize(filePath)).toString();
+    }
+
+    /**
+     * ✅ 저장된 파일의 SHA-256 해시 (버퍼 단위로 읽어 계산)
+     *
+     * @param filePath 상대 경로
+     * @return 16진수 해시, 파일이 없거나 읽을 수 없으면 null
+     */
+    public String computeContentHash(String filePath) {
+        // 내용 주소 저장소의 파일은 파일명이 곧 해시
+        String fileName = filePath != null ? Paths.get(filePath).getFileName().toString() : null;
+        if (fileName != null && CONTENT_HASH_NAME.matcher(fileName).matches() && fileExists(filePath)) {
+            return fileName.substring(0, 64);
+        }
+
+        String fullPath = getFullPath(filePath);
+        if (fullPath == null || !Files.exists(Paths.get(fullPath))) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(Paths.get(fullPath))) {
+            MessageDigest digest = newSha256();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return Hex.encodeHexString(digest.digest());
+        } catch (Exception e) {
+            logger.error("파일 해시 계산 실패: {}", filePath, e);
+            return null;
+        }
     }
 
     /**
@@ -204,6 +411,35 @@ public class FileService {
         return baseUploadPath;
     }
 
+    /**
+     * ✅ 업로드 임시 파일 디렉토리
+     */
+    public Path getTempPath() {
+        return Paths.get(baseUploadPath, TEMP_DIRECTORY).toAbsolutePath().normalize();
+    }
+
+    /**
+     * ✅ 정리된 파일 보관 경로 (설정하지 않으면 null - 삭제)
+     */
+    public Path getArchivePath() {
+        return archiveRoot();
+    }
+
+    /**
+     * ✅ DB에 저장된 경로를 저장소 상대 경로로 변환 ("uploads/" 접두사 제거)
+     */
+    public String toStoragePath(String filePath) {
+        return filePath != null ? normalize(filePath) : null;
+    }
+
+    /**
+     * ✅ 업로드 기본 경로 기준 상대 경로 (DB 저장 형식, 구분자 "/")
+     */
+    public String toRelativePath(Path fullPath) {
+        Path base = Paths.get(baseUploadPath).toAbsolutePath().normalize();
+        return base.relativize(fullPath.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
     /**
      * 이미지 파일 유효성 검사
      */
@@ -300,42 +536,186 @@ public class FileService {
     }
 
     /**
-     * 업로드 디렉토리 생성
-     * ✅ 수정: baseUploadPath 사용
+     * 파일 확장자 추출
      */
-    private String createUploadDirectory(String category) throws IOException {
-        // 날짜별 폴더 구조: /app/uploads/category/yyyy/MM/dd/
-        LocalDateTime now = LocalDateTime.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+    private String getFileExtension(String filename) {
+        if (filename == null || !filename.contains(".")) {
+            return "";
+        }
+        return filename.substring(filename.lastIndexOf(".")).toLowerCase();
+    }
 
-        Path uploadPath = Paths.get(baseUploadPath, category, datePath);
+    /**
+     * 2단계 분산 경로: {category}/{hash[0:2]}/{hash[2:4]}/{hash}{ext}
+     */
+    private String shardedPath(String category, String contentHash, String extension) {
+        return category + "/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+                + contentHash + extension;
+    }
 
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            logger.info("업로드 디렉토리 생성: {}", uploadPath.toString());
+    /**
+     * 같은 볼륨이면 원자적 이동, 지원하지 않는 파일 시스템이면 일반 이동
+     */
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
+    }
 
-        return uploadPath.toString();
+    /**
+     * 참조 수 증가 (기록이 없으면 생성) - 호출 측 트랜잭션에 참여, 없으면 이 문장만 자동 커밋
+     */
+    private void addReference(String relativePath, String contentHash, long size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ADD_REFERENCE_SQL, relativePath, contentHash, size, now, now, now);
     }
 
     /**
-     * 파일 확장자 추출
+     * 참조 수 감소 후 남은 참조 수 반환 (0이 되면 기록 삭제) - 호출 측 트랜잭션 안에서 실행
+     *
+     * @return 저장소 기록이 없는 파일(이전 방식 업로드)이면 null
      */
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
+    private Integer releaseReference(String relativePath) {
+        jdbcTemplate.update(RELEASE_REFERENCE_SQL, Timestamp.valueOf(LocalDateTime.now()), relativePath);
+        List<Integer> remaining = jdbcTemplate.query(LOCK_REFERENCE_SQL,
+                (rs, rowNum) -> rs.getInt("ref_count"), relativePath);
+        if (remaining.isEmpty()) {
+            return null;
         }
-        return filename.substring(filename.lastIndexOf(".")).toLowerCase();
+        if (remaining.get(0) <= 0) {
+            jdbcTemplate.update(DELETE_REFERENCE_SQL, relativePath);
+        }
+        return remaining.get(0);
+    }
+
+    /**
+     * 업로드 트랜잭션이 롤백되면 새로 옮긴 파일을 참조가 없을 때만 정리 (그 사이 다른 업로드가 참조했을 수 있음)
+     */
+    private void cleanupOnRollback(String relativePath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    runCleanup(() -> removeIfUnreferenced(relativePath), relativePath);
+                }
+            }
+        });
+    }
+
+    private void removeIfUnreferenced(String relativePath) {
+        try {
+            Path fullPath = resolve(relativePath);
+            transactionTemplate().executeWithoutResult(status -> {
+                List<Integer> remaining = jdbcTemplate.query(LOCK_REFERENCE_SQL,
+                        (rs, rowNum) -> rs.getInt("ref_count"), relativePath);
+                if (!remaining.isEmpty() && remaining.get(0) > 0) {
+                    return;
+                }
+                if (!remaining.isEmpty()) {
+                    jdbcTemplate.update(DELETE_REFERENCE_SQL, relativePath);
+                }
+                if (Files.isRegularFile(fullPath)) {
+                    removeOrArchive(fullPath, relativePath, false);
+                    logger.info("롤백된 업로드 파일 정리: {}", relativePath);
+                }
+            });
+        } catch (Exception e) {
+            logger.error("롤백된 업로드 파일 정리 중 오류 발생: {}", relativePath, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 완료 콜백의 후속 작업을 파일 정리 스레드에서 실행 (거절되면 고아 파일 회수에 맡김)
+     */
+    private void runCleanup(Runnable task, String filePath) {
+        try {
+            fileCleanupExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            logger.warn("파일 정리 대기열 포화 - 고아 파일 회수에서 정리됩니다: {}", filePath);
+        }
+    }
+
+    /**
+     * 파일 삭제 또는 보관 경로로 이동 (상대 경로 구조 유지)
+     *
+     * @return 확보한 바이트 수
+     */
+    private long removeOrArchive(Path fullPath, String relativePath, boolean archive) {
+        try {
+            long size = Files.size(fullPath);
+            Path root = archive ? archiveRoot() : null;
+            if (root == null) {
+                Files.delete(fullPath);
+                return size;
+            }
+            Path target = root.resolve(relativePath).normalize();
+            Files.createDirectories(target.getParent());
+            Files.move(fullPath, target, StandardCopyOption.REPLACE_EXISTING);
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path archiveRoot() {
+        if (archivePath == null || archivePath.isBlank()) {
+            return null;
+        }
+        return Paths.get(archivePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 참여, 없으면 새로 시작 (정리 작업/파일 정리 스레드)
+     */
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * DB 저장 경로 정규화 ("uploads/" 접두사, 앞의 "/" 제거)
+     */
+    private String normalize(String filePath) {
+        String path = filePath.replace('\\', '/');
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.startsWith(LEGACY_PREFIX)) {
+            path = path.substring(LEGACY_PREFIX.length());
+        }
+        return path;
     }
 
     /**
-     * 고유 파일명 생성
+     * 업로드 기본 경로 기준 전체 경로 (기본 경로 밖을 가리키면 거부)
      */
-    private String generateFileName(String extension) {
-        LocalDateTime now = LocalDateTime.now();
-        String timestamp = now.format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return timestamp + "_" + uuid + extension;
+    private Path resolve(String relativePath) {
+        Path base = Paths.get(baseUploadPath).toAbsolutePath().normalize();
+        Path resolved = base.resolve(relativePath).normalize();
+        if (!resolved.startsWith(base)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + relativePath);
+        }
+        return resolved;
+    }
+
+    private String normalizeExtension(String extension) {
+        if (extension == null || extension.isEmpty()) {
+            return "";
+        }
+        String ext = extension.startsWith(".") ? extension : "." + extension;
+        return ext.toLowerCase(Locale.ROOT).matches("\\.[a-z0-9]{1,10}") ? ext.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -0,0 +1,276 @@
+package com.dormitory.SpringBoot.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini API 전용 HTTP 클라이언트
+ * ✅ Keep-Alive 커넥션 풀 재사용
+ * ✅ 동시 요청 수 제한 (세마포어 벌크헤드) - 한도 초과 시 대기 후 실패하여 Fallback 처리
+ * ✅ 429/5xx 응답 및 네트워크 오류 시 지수 백오프 재시도 (gemini.api.max-retries)
+ * ✅ 요청별 전체 제한 시간 적용 (gemini.api.timeout) - 재시도마다 남은 시간만 호출 제한 시간으로 사용
+ * ✅ 동시 요청 허가는 시도 단위로 잡고, 재시도 대기 중에는 반납하여 다른 요청이 사용
+ * ✅ 요청 본문을 소켓으로 직접 스트리밍 (이미지 Base64 문자열을 힙에 만들지 않음)
+ */
+@Component
+public class GeminiApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeminiApiClient.class);
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    @Value("${gemini.api.key}")
+    private String apiKey;
+
+    @Value("${gemini.api.url}")
+    private String apiUrl;
+
+    @Value("${gemini.api.timeout:45000}")
+    private long timeoutMillis;
+
+    @Value("${gemini.api.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${gemini.http.max-concurrent-requests:16}")
+    private int maxConcurrentRequests;
+
+    @Value("${gemini.http.acquire-timeout-ms:5000}")
+    private long acquireTimeoutMillis;
+
+    @Value("${gemini.http.retry-backoff-ms:500}")
+    private long retryBackoffMillis;
+
+    @Value("${gemini.http.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${gemini.http.pool.keep-alive-minutes:5}")
+    private long poolKeepAliveMinutes;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final JsonFactory jsonFactory = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private OkHttpClient httpClient;
+    private Semaphore permits;
+
+    /**
+     * Gemini API 응답 (상태 코드 + 본문)
+     */
+    public static class ApiResult {
+        private final int statusCode;
+        private final String body;
+
+        public ApiResult(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public int getStatusCode() { return statusCode; }
+        public String getBody() { return body; }
+        public boolean isOk() { return statusCode == 200; }
+    }
+
+    /**
+     * 요청 JSON 작성기 - 전송(재시도 포함) 시마다 호출되므로 같은 내용을 반복해서 쓸 수 있어야 함
+     */
+    @FunctionalInterface
+    public interface JsonBodyWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.httpClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(poolMaxIdle, poolKeepAliveMinutes, TimeUnit.MINUTES))
+                .connectTimeout(10, TimeUnit.SECONDS)
+                .readTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .writeTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .callTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+
+        if (meterRegistry != null) {
+            Gauge.builder("gemini.http.in-flight", permits, p -> maxConcurrentRequests - p.availablePermits())
+                    .description("진행 중인 Gemini API 요청 수")
+                    .register(meterRegistry);
+        }
+
+        logger.info("Gemini HTTP 클라이언트 초기화 - 동시 요청: {}, 제한 시간: {}ms, 최대 재시도: {}",
+                maxConcurrentRequests, timeoutMillis, maxRetries);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    /**
+     * generateContent 호출 (JSON 요청 본문)
+     *
+     * @throws RuntimeException 동시 요청 한도 초과, 재시도 후에도 네트워크 오류가 계속되는 경우
+     */
+    public ApiResult generateContent(String jsonBody) {
+        return generateContent(RequestBody.create(jsonBody, JSON));
+    }
+
+    /**
+     * generateContent 호출 (스트리밍 JSON 요청 본문)
+     */
+    public ApiResult generateContent(JsonBodyWriter bodyWriter) {
+        return generateContent(new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                try (JsonGenerator generator = jsonFactory.createGenerator(sink.outputStream())) {
+                    bodyWriter.writeTo(generator);
+                }
+            }
+        });
+    }
+
+    /**
+     * generateContent 호출 (재전송 가능한 요청 본문)
+     */
+    public ApiResult generateContent(RequestBody requestBody) {
+        return executeWithRetry(requestBody);
+    }
+
+    /**
+     * 지수 백오프 재시도 - 전체 제한 시간을 넘기는 재시도는 하지 않음
+     * 시도마다 남은 시간을 호출 제한 시간으로 지정하고, 허가는 백오프 대기 전에 반납
+     */
+    private ApiResult executeWithRetry(RequestBody requestBody) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Request request = new Request.Builder()
+                .url(apiUrl + "?key=" + apiKey)
+                .header("User-Agent", "SpringBoot-DormitoryApp/1.0")
+                .post(requestBody)
+                .build();
+
+        for (int attempt = 0; ; attempt++) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new RuntimeException("Gemini API 호출 실패: 제한 시간을 초과했습니다.");
+            }
+            acquirePermit(remaining);
+
+            long delay;
+            Call call = httpClient.newCall(request);
+            // 허가 대기로 남은 시간이 0이 되어도 최소 1ms (0은 제한 없음으로 해석됨)
+            call.timeout().timeout(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            try (Response response = call.execute()) {
+                int code = response.code();
+                ResponseBody body = response.body();
+                String bodyText = body != null ? body.string() : null;
+
+                delay = backoffDelay(attempt, response.header("Retry-After"));
+                if (!isRetryable(code) || attempt >= maxRetries || System.currentTimeMillis() + delay >= deadline) {
+                    return new ApiResult(code, bodyText);
+                }
+                logger.warn("Gemini API 응답 {} - {}ms 후 재시도 ({}/{})", code, delay, attempt + 1, maxRetries);
+
+            } catch (IOException e) {
+                delay = backoffDelay(attempt, null);
+                if (attempt >= maxRetries || System.currentTimeMillis() + delay >= deadline) {
+                    throw new RuntimeException("Gemini API 호출 실패: " + e.getMessage(), e);
+                }
+                logger.warn("Gemini API 호출 오류 - {}ms 후 재시도 ({}/{}): {}", delay, attempt + 1, maxRetries, e.getMessage());
+
+            } finally {
+                permits.release();
+            }
+
+            sleep(delay);
+        }
+    }
+
+    /**
+     * 동시 요청 허가 획득 (acquire-timeout과 남은 제한 시간 중 짧은 쪽까지 대기)
+     *
+     * @throws RuntimeException 한도 초과로 허가를 얻지 못한 경우
+     */
+    private void acquirePermit(long remainingMillis) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(Math.min(acquireTimeoutMillis, remainingMillis), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini API 요청 대기 중 인터럽트되었습니다.");
+        }
+
+        if (!acquired) {
+            logger.warn("Gemini API 동시 요청 한도 초과 - 한도: {}", maxConcurrentRequests);
+            throw new RuntimeException("AI 분석 요청이 많아 처리할 수 없습니다.");
+        }
+    }
+
+    private boolean isRetryable(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * 재시도 대기 시간 - Retry-After(초) 우선, 없으면 backoff * 2^attempt + 지터
+     */
+    private long backoffDelay(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000L;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 무시하고 기본 백오프 사용
+            }
+        }
+        long base = retryBackoffMillis * (1L << attempt);
+        return base + ThreadLocalRandom.current().nextLong(retryBackoffMillis / 2 + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini API 재시도 대기 중 인터럽트되었습니다.");
+        }
+    }
+
+    /**
+     * 진단 정보
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+}
@@ -1,24 +1,32 @@
 package com.dormitory.SpringBoot.services;
 
-import com.dormitory.SpringBoot.domain.RoomTemplate;
 import com.dormitory.SpringBoot.domain.RoomTemplate.RoomType;  // ✅ 수정: RoomTemplate 내부 enum
-import com.dormitory.SpringBoot.repository.RoomTemplateRepository;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.codec.binary.Base64;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.*;
 
 /**
@@ -26,15 +34,22 @@ import java.util.*;
  * ✅ 방 사진이 아닌 경우 0점 처리 기능 추가
  * ✅ 기준 방 사진(템플릿)과 비교 분석 기능 추가
  * ✅ 오탐지 방지를 위한 키워드 검증 로직 개선
+ * ✅ 이미지 SHA-256 + 프롬프트 버전 기반 분석 결과 캐시 (동일 사진 재분석 시 API 호출 생략)
+ * ✅ 전송 전 이미지 축소/재압축 + 요청 JSON 스트리밍 (원본 바이트/Base64 문자열을 힙에 복사하지 않음)
  */
 @Service
 public class GeminiService {
 
-    @Autowired(required = false)
-    private RoomTemplateRepository roomTemplateRepository;
+    @Autowired
+    private RoomTemplateService roomTemplateService;
 
     private static final Logger logger = LoggerFactory.getLogger(GeminiService.class);
 
+    /**
+     * 분석 프롬프트 버전 - 프롬프트/파싱 로직 변경 시 올려서 기존 캐시 결과를 무효화
+     */
+    private static final String ANALYSIS_PROMPT_VERSION = "room-analysis-v1";
+
     @Value("${gemini.api.key}")
     private String apiKey;
 
@@ -53,14 +68,51 @@ public class GeminiService {
     @Value("${gemini.fallback.enabled:true}")
     private boolean fallbackEnabled;
 
-    private final RestTemplate restTemplate;
+    @Value("${gemini.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${gemini.cache.max-size:1000}")
+    private long cacheMaxSize;
+
+    @Value("${gemini.cache.ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, AnalysisResult> analysisCache;
+
+    @Autowired
+    private GeminiApiClient geminiApiClient;
+
+    @Autowired
+    private ImagePreprocessService imagePreprocessService;
+
     private final ObjectMapper objectMapper;
 
     public GeminiService() {
-        this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
     }
 
+    /**
+     * ✅ 분석 결과 캐시 초기화 (크기 제한 + TTL, 적중/미스 통계는 /actuator/metrics의 cache.* 로 노출)
+     */
+    @PostConstruct
+    public void initAnalysisCache() {
+        this.analysisCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, analysisCache, "gemini.analysis");
+        }
+
+        logger.info("Gemini 분석 결과 캐시 설정 - 사용: {}, 최대: {}개, TTL: {}분",
+                cacheEnabled, cacheMaxSize, cacheTtlMinutes);
+    }
+
     /**
      * 방 사진을 분석하여 점수와 피드백을 반환하는 결과 클래스
      */
@@ -91,73 +143,109 @@ public class GeminiService {
     }
 
     /**
-     * MultipartFile로부터 점호 평가 점수 반환
+     * ✅ 점호 사진 단일 분석 - 이미지 인코딩 1회, API 호출 1회로 점수/피드백/방 사진 여부를 함께 반환
+     * API 실패 시 Fallback 점수/피드백이 적용되며 이 경우 isSuccess()는 false
      */
-    public int evaluateInspection(MultipartFile imageFile) {
+    public AnalysisResult analyzeInspection(MultipartFile imageFile) {
         try {
-            logger.info("점호 평가 점수 계산 시작");
-
-            String base64Image = encodeMultipartFileToBase64(imageFile);
-            if (base64Image == null) {
-                logger.error("이미지 인코딩 실패 - Fallback 점수 반환");
-                return fallbackEnabled ? fallbackScore : 0;
-            }
-
-            AnalysisResult result = analyzeImageWithBase64(base64Image);
-
-            if (result.isSuccess()) {
-                return result.getScore();
-            } else {
-                logger.warn("Gemini API 분석 실패 - Fallback 점수 사용: {}", result.getFeedback());
-                if (fallbackEnabled) {
-                    return 6 + (int)(Math.random() * 3);
-                }
-                return 0;
+            logger.info("점호 사진 분석 시작");
+            if (imageFile == null || imageFile.isEmpty()) {
+                logger.error("업로드된 파일이 비어있습니다.");
+                return analyzeInspectionSource(null);
             }
-
+            return analyzeInspectionSource(imageFile);
         } catch (Exception e) {
-            logger.error("점호 평가 중 예외 발생 - Fallback 점수 반환", e);
-            return fallbackEnabled ? fallbackScore : 0;
+            logger.error("점호 사진 분석 중 예외 발생 - Fallback 결과 반환", e);
+            return new AnalysisResult(fallbackEnabled ? fallbackScore : 0, "점호가 완료되었습니다.", false);
         }
     }
 
     /**
-     * MultipartFile로부터 점호 피드백 반환
+     * ✅ 저장된 점호 사진 파일 분석 (비동기 점호 평가용)
+     * analyzeInspection(MultipartFile)과 동일한 Fallback 규칙 적용
      */
-    public String getInspectionFeedback(MultipartFile imageFile) {
+    public AnalysisResult analyzeInspectionFile(String imagePath) {
         try {
-            logger.info("점호 피드백 생성 시작");
+            logger.info("저장된 점호 사진 분석 시작 - 경로: {}", imagePath);
+            if (!Files.exists(Paths.get(imagePath))) {
+                logger.error("이미지 파일이 존재하지 않습니다: {}", imagePath);
+                return analyzeInspectionSource(null);
+            }
+            return analyzeInspectionSource(new FileSystemResource(imagePath));
+        } catch (Exception e) {
+            logger.error("저장된 점호 사진 분석 중 예외 발생 - Fallback 결과 반환", e);
+            return new AnalysisResult(fallbackEnabled ? fallbackScore : 0, "점호가 완료되었습니다.", false);
+        }
+    }
 
-            String base64Image = encodeMultipartFileToBase64(imageFile);
-            if (base64Image == null) {
-                logger.error("이미지 인코딩 실패 - 기본 피드백 반환");
-                return "이미지 분석이 완료되었습니다. 방 상태가 양호합니다.";
+    /**
+     * 점호 사진 분석 + 캐시 조회 + Fallback 적용
+     * 성공한 분석 결과만 캐시하며, Fallback 결과는 캐시하지 않음
+     * 캐시 키는 원본 스트림에서 계산하고, 캐시 미스일 때만 디코딩/축소 수행
+     */
+    private AnalysisResult analyzeInspectionSource(InputStreamSource source) {
+        String cacheKey = source != null && cacheEnabled ? buildAnalysisCacheKey(source) : null;
+        if (cacheKey != null) {
+            AnalysisResult cached = analysisCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                logger.info("분석 결과 캐시 적중 - 점수: {}", cached.getScore());
+                return cached;
             }
+        }
 
-            AnalysisResult result = analyzeImageWithBase64(base64Image);
+        byte[] imageBytes = imagePreprocessService.prepareForAnalysis(source);
+        if (imageBytes == null) {
+            logger.error("이미지 인코딩 실패 - Fallback 결과 반환");
+            return new AnalysisResult(fallbackEnabled ? fallbackScore : 0,
+                    "이미지 분석이 완료되었습니다. 방 상태가 양호합니다.", false);
+        }
 
-            if (result.isSuccess()) {
-                return result.getFeedback();
-            } else {
-                logger.warn("Gemini API 피드백 생성 실패 - 기본 피드백 사용");
-                if (fallbackEnabled) {
-                    String[] fallbackMessages = {
-                            "방 상태가 전반적으로 깔끔하게 정리되어 있습니다.",
-                            "정리정돈이 잘 되어있고 청결한 상태입니다.",
-                            "침구류가 잘 정리되어 있고 바닥이 깨끗합니다.",
-                            "전체적으로 생활하기 좋은 환경으로 보입니다.",
-                            "방 청소와 정리가 잘 되어 있어 보기 좋습니다."
-                    };
-                    int randomIndex = (int)(Math.random() * fallbackMessages.length);
-                    return fallbackMessages[randomIndex];
-                }
-                return result.getFeedback();
+        AnalysisResult result = analyzeImageBytes(imageBytes);
+
+        if (result.isSuccess()) {
+            logger.info("점호 사진 분석 완료 - 점수: {}, 방 사진 아님: {}", result.getScore(), result.isNotRoomPhoto());
+            if (cacheKey != null) {
+                analysisCache.put(cacheKey, result);
             }
+            return result;
+        }
 
-        } catch (Exception e) {
-            logger.error("점호 피드백 생성 중 예외 발생", e);
-            return "점호가 완료되었습니다.";
+        logger.warn("Gemini API 분석 실패 - Fallback 결과 사용: {}", result.getFeedback());
+        if (fallbackEnabled) {
+            return new AnalysisResult(6 + (int)(Math.random() * 3), getRandomFallbackFeedback(), false);
         }
+        return new AnalysisResult(0, result.getFeedback(), false);
+    }
+
+    /**
+     * MultipartFile로부터 점호 평가 점수 반환
+     * 점수와 피드백이 모두 필요하면 analyzeInspection()을 사용할 것 (API 중복 호출 방지)
+     */
+    public int evaluateInspection(MultipartFile imageFile) {
+        return analyzeInspection(imageFile).getScore();
+    }
+
+    /**
+     * MultipartFile로부터 점호 피드백 반환
+     * 점수와 피드백이 모두 필요하면 analyzeInspection()을 사용할 것 (API 중복 호출 방지)
+     */
+    public String getInspectionFeedback(MultipartFile imageFile) {
+        return analyzeInspection(imageFile).getFeedback();
+    }
+
+    /**
+     * API 실패 시 사용할 기본 피드백 메시지
+     */
+    private String getRandomFallbackFeedback() {
+        String[] fallbackMessages = {
+                "방 상태가 전반적으로 깔끔하게 정리되어 있습니다.",
+                "정리정돈이 잘 되어있고 청결한 상태입니다.",
+                "침구류가 잘 정리되어 있고 바닥이 깨끗합니다.",
+                "전체적으로 생활하기 좋은 환경으로 보입니다.",
+                "방 청소와 정리가 잘 되어 있어 보기 좋습니다."
+        };
+        int randomIndex = (int)(Math.random() * fallbackMessages.length);
+        return fallbackMessages[randomIndex];
     }
 
     /**
@@ -165,12 +253,12 @@ public class GeminiService {
      */
     public boolean isRoomPhoto(MultipartFile imageFile) {
         try {
-            String base64Image = encodeMultipartFileToBase64(imageFile);
-            if (base64Image == null) {
+            byte[] imageBytes = imagePreprocessService.prepareForAnalysis(imageFile);
+            if (imageBytes == null) {
                 return true; // 인코딩 실패 시 기본적으로 허용
             }
 
-            AnalysisResult result = analyzeImageWithBase64(base64Image);
+            AnalysisResult result = analyzeImageBytes(imageBytes);
 
             // ✅ 점수가 0이고 피드백에 "검사불가"가 있으면 방 사진이 아님
             if (result.getScore() == 0 && result.getFeedback() != null) {
@@ -195,13 +283,15 @@ public class GeminiService {
         try {
             logger.info("방 사진 분석 시작 - 경로: {}", imagePath);
 
-            String base64Image = encodeImageToBase64(imagePath);
-            if (base64Image == null) {
+            byte[] imageBytes = Files.exists(Paths.get(imagePath))
+                    ? imagePreprocessService.prepareForAnalysis(new FileSystemResource(imagePath))
+                    : null;
+            if (imageBytes == null) {
                 logger.error("이미지 인코딩 실패");
                 return new AnalysisResult(0, "이미지를 읽을 수 없습니다.", false);
             }
 
-            return analyzeImageWithBase64(base64Image);
+            return analyzeImageBytes(imageBytes);
 
         } catch (Exception e) {
             logger.error("방 사진 분석 중 오류 발생", e);
@@ -210,26 +300,18 @@ public class GeminiService {
     }
 
     /**
-     * Base64 인코딩된 이미지 분석
+     * 전처리된 이미지 분석 (요청 본문은 전송 시점에 스트리밍으로 작성)
      */
-    private AnalysisResult analyzeImageWithBase64(String base64Image) {
+    private AnalysisResult analyzeImageBytes(byte[] imageBytes) {
         try {
-            Map<String, Object> requestBody = createGeminiRequest(base64Image);
+            logger.info("Gemini API 호출 시작 - 이미지 크기: {} bytes", imageBytes.length);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("User-Agent", "SpringBoot-DormitoryApp/1.0");
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            String fullUrl = apiUrl + "?key=" + apiKey;
-            logger.info("Gemini API 호출 시작");
-
-            ResponseEntity<String> response = restTemplate.postForEntity(fullUrl, request, String.class);
+            GeminiApiClient.ApiResult response = geminiApiClient.generateContent(
+                    generator -> writeGeminiRequest(generator, imageBytes));
 
             logger.info("Gemini API 응답 상태: {}", response.getStatusCode());
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            if (response.isOk() && response.getBody() != null) {
                 return parseGeminiResponse(response.getBody());
             } else {
                 logger.error("Gemini API 호출 실패. Status: {}", response.getStatusCode());
@@ -237,86 +319,82 @@ public class GeminiService {
             }
 
         } catch (Exception e) {
-            logger.error("Base64 이미지 분석 중 오류 발생", e);
+            logger.error("이미지 분석 중 오류 발생", e);
             return new AnalysisResult(fallbackScore, "분석 중 오류가 발생했습니다: " + e.getMessage(), fallbackEnabled);
         }
     }
 
     /**
-     * MultipartFile을 Base64로 인코딩
+     * 분석 캐시 키 생성 - SHA-256(원본 이미지) + 프롬프트 버전 + 전처리 설정
+     * 원본을 버퍼 단위로 읽어 해시하므로 파일 전체를 메모리에 올리지 않음
      */
-    private String encodeMultipartFileToBase64(MultipartFile file) {
-        try {
-            if (file == null || file.isEmpty()) {
-                logger.error("업로드된 파일이 비어있습니다.");
-                return null;
-            }
-
-            byte[] imageBytes = file.getBytes();
-            return Base64.encodeBase64String(imageBytes);
-
-        } catch (IOException e) {
-            logger.error("MultipartFile Base64 인코딩 실패", e);
+    private String buildAnalysisCacheKey(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            String version = ANALYSIS_PROMPT_VERSION + ":" + imagePreprocessService.getMaxDimension()
+                    + ":" + imagePreprocessService.getJpegQuality();
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            return Hex.encodeHexString(digest.digest());
+        } catch (Exception e) {
+            logger.warn("분석 캐시 키 생성 실패 - 캐시 미사용: {}", e.getMessage());
             return null;
         }
     }
 
     /**
-     * 이미지 파일을 Base64로 인코딩
+     * Gemini API 요청 바디 작성 (이미지는 Base64로 스트리밍 인코딩)
      */
-    private String encodeImageToBase64(String imagePath) {
-        try {
-            Path path = Paths.get(imagePath);
-            if (!Files.exists(path)) {
-                logger.error("이미지 파일이 존재하지 않습니다: {}", imagePath);
-                return null;
-            }
+    private void writeGeminiRequest(JsonGenerator generator, byte[] imageBytes) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart("contents");
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("parts");
+        writeTextPart(generator, createConciseRoomAnalysisPrompt());
+        writeImagePart(generator, imageBytes);
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndArray();
+
+        generator.writeObjectFieldStart("generationConfig");
+        generator.writeNumberField("temperature", 0.1);
+        generator.writeNumberField("maxOutputTokens", maxTokens);
+        generator.writeNumberField("topP", 0.8);
+        generator.writeNumberField("topK", 10);
+        generator.writeEndObject();
+
+        generator.writeArrayFieldStart("safetySettings");
+        for (String category : List.of("HARM_CATEGORY_DANGEROUS_CONTENT", "HARM_CATEGORY_HATE_SPEECH",
+                "HARM_CATEGORY_HARASSMENT", "HARM_CATEGORY_SEXUALLY_EXPLICIT")) {
+            generator.writeStartObject();
+            generator.writeStringField("category", category);
+            generator.writeStringField("threshold", "BLOCK_MEDIUM_AND_ABOVE");
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
 
-            byte[] imageBytes = Files.readAllBytes(path);
-            return Base64.encodeBase64String(imageBytes);
+        generator.writeEndObject();
+    }
 
-        } catch (IOException e) {
-            logger.error("이미지 파일 읽기 실패: {}", imagePath, e);
-            return null;
-        }
+    private void writeTextPart(JsonGenerator generator, String text) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("text", text);
+        generator.writeEndObject();
     }
 
-    /**
-     * Gemini API 요청 바디 생성
-     */
-    private Map<String, Object> createGeminiRequest(String base64Image) {
-        Map<String, Object> requestBody = new HashMap<>();
-
-        Map<String, Object> textPart = new HashMap<>();
-        textPart.put("text", createConciseRoomAnalysisPrompt());
-
-        Map<String, Object> imagePart = new HashMap<>();
-        Map<String, Object> inlineData = new HashMap<>();
-        inlineData.put("mime_type", "image/jpeg");
-        inlineData.put("data", base64Image);
-        imagePart.put("inline_data", inlineData);
-
-        Map<String, Object> content = new HashMap<>();
-        content.put("parts", List.of(textPart, imagePart));
-
-        requestBody.put("contents", List.of(content));
-
-        Map<String, Object> generationConfig = new HashMap<>();
-        generationConfig.put("temperature", 0.1);
-        generationConfig.put("maxOutputTokens", maxTokens);
-        generationConfig.put("topP", 0.8);
-        generationConfig.put("topK", 10);
-        requestBody.put("generationConfig", generationConfig);
-
-        List<Map<String, Object>> safetySettings = List.of(
-                Map.of("category", "HARM_CATEGORY_DANGEROUS_CONTENT", "threshold", "BLOCK_MEDIUM_AND_ABOVE"),
-                Map.of("category", "HARM_CATEGORY_HATE_SPEECH", "threshold", "BLOCK_MEDIUM_AND_ABOVE"),
-                Map.of("category", "HARM_CATEGORY_HARASSMENT", "threshold", "BLOCK_MEDIUM_AND_ABOVE"),
-                Map.of("category", "HARM_CATEGORY_SEXUALLY_EXPLICIT", "threshold", "BLOCK_MEDIUM_AND_ABOVE")
-        );
-        requestBody.put("safetySettings", safetySettings);
-
-        return requestBody;
+    private void writeImagePart(JsonGenerator generator, byte[] imageBytes) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("inline_data");
+        generator.writeStringField("mime_type", "image/jpeg");
+        generator.writeFieldName("data");
+        generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, imageBytes, 0, imageBytes.length);
+        generator.writeEndObject();
+        generator.writeEndObject();
     }
 
     /**
@@ -600,15 +678,9 @@ public class GeminiService {
             content.put("parts", List.of(textPart));
             requestBody.put("contents", List.of(content));
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            String fullUrl = apiUrl + "?key=" + apiKey;
-
-            ResponseEntity<String> response = restTemplate.postForEntity(fullUrl, request, String.class);
+            GeminiApiClient.ApiResult response = geminiApiClient.generateContent(objectMapper.writeValueAsString(requestBody));
 
-            boolean success = response.getStatusCode() == HttpStatus.OK;
+            boolean success = response.isOk();
             logger.info("Gemini API 연결 테스트 결과: {}", success ? "성공" : "실패");
             return success;
 
@@ -629,148 +701,104 @@ public class GeminiService {
         info.put("fallbackScore", fallbackScore);
         info.put("fallbackEnabled", fallbackEnabled);
         info.put("apiKeyConfigured", apiKey != null && !apiKey.isEmpty());
+        info.put("maxConcurrentRequests", geminiApiClient.getMaxConcurrentRequests());
+        info.put("availableRequestPermits", geminiApiClient.getAvailablePermits());
+        info.put("cacheEnabled", cacheEnabled);
+        info.put("imageMaxDimension", imagePreprocessService.getMaxDimension());
+        info.put("imageJpegQuality", imagePreprocessService.getJpegQuality());
+        if (analysisCache != null) {
+            info.put("cacheSize", analysisCache.estimatedSize());
+            info.put("cacheHitRate", analysisCache.stats().hitRate());
+        }
         return info;
     }
 
     // ==================== 템플릿 비교 관련 메서드 ====================
 
     /**
-     * 기준 템플릿과 비교하여 점호 평가
+     * ✅ 기준 템플릿과 비교하여 점호 분석 (점수 + 피드백, API 호출 1회)
+     * 템플릿 이미지는 RoomTemplateService 캐시에서 가져오며, 템플릿이 없거나 비교 실패 시 일반 분석으로 폴백
      */
-    public int evaluateInspectionWithTemplate(MultipartFile imageFile, RoomType roomType, String buildingName) {
+    public AnalysisResult analyzeInspectionWithTemplate(MultipartFile imageFile, RoomType roomType, String buildingName) {
         try {
             logger.info("템플릿 비교 점호 평가 시작 - 방타입: {}, 동: {}", roomType, buildingName);
 
-            Optional<RoomTemplate> templateOpt = getTemplateForComparison(roomType, buildingName);
+            Optional<RoomTemplateService.TemplatePayload> templateOpt =
+                    roomTemplateService.getTemplatePayload(roomType, buildingName);
 
-            if (templateOpt.isEmpty() || templateOpt.get().getImageBase64() == null) {
+            if (templateOpt.isEmpty()) {
                 logger.info("비교할 템플릿이 없음 - 일반 평가 진행");
-                return evaluateInspection(imageFile);
+                return analyzeInspection(imageFile);
             }
 
-            RoomTemplate template = templateOpt.get();
-            String templateBase64 = template.getImageBase64();
-            String userImageBase64 = encodeMultipartFileToBase64(imageFile);
+            byte[] userImageBytes = imagePreprocessService.prepareForAnalysis(imageFile);
 
-            if (userImageBase64 == null) {
+            if (userImageBytes == null) {
                 logger.error("사용자 이미지 인코딩 실패");
-                return fallbackEnabled ? fallbackScore : 0;
+                return new AnalysisResult(fallbackEnabled ? fallbackScore : 0, "이미지 분석에 실패했습니다.", false);
             }
 
-            AnalysisResult result = analyzeWithTemplateComparison(templateBase64, userImageBase64);
+            AnalysisResult result = analyzeWithTemplateComparison(templateOpt.get().getImageBytes(), userImageBytes);
 
             if (result.isSuccess()) {
-                logger.info("템플릿 비교 평가 완료 - 점수: {}", result.getScore());
-                return result.getScore();
+                logger.info("템플릿 비교 평가 완료 - 템플릿 ID: {}, 점수: {}",
+                        templateOpt.get().getTemplateId(), result.getScore());
+                return result;
             } else {
                 logger.warn("템플릿 비교 실패 - 일반 평가로 폴백");
-                return evaluateInspection(imageFile);
+                return analyzeInspection(imageFile);
             }
 
         } catch (Exception e) {
             logger.error("템플릿 비교 점호 평가 중 오류", e);
-            return evaluateInspection(imageFile);
+            return analyzeInspection(imageFile);
         }
     }
 
     /**
-     * 기준 템플릿과 비교하여 피드백 생성
+     * 기준 템플릿과 비교하여 점호 평가
+     * 점수와 피드백이 모두 필요하면 analyzeInspectionWithTemplate()을 사용할 것 (API 중복 호출 방지)
      */
-    public String getInspectionFeedbackWithTemplate(MultipartFile imageFile, RoomType roomType, String buildingName) {
-        try {
-            Optional<RoomTemplate> templateOpt = getTemplateForComparison(roomType, buildingName);
-
-            if (templateOpt.isEmpty() || templateOpt.get().getImageBase64() == null) {
-                return getInspectionFeedback(imageFile);
-            }
-
-            RoomTemplate template = templateOpt.get();
-            String templateBase64 = template.getImageBase64();
-            String userImageBase64 = encodeMultipartFileToBase64(imageFile);
-
-            if (userImageBase64 == null) {
-                return "이미지 분석에 실패했습니다.";
-            }
-
-            AnalysisResult result = analyzeWithTemplateComparison(templateBase64, userImageBase64);
-
-            if (result.isSuccess()) {
-                return result.getFeedback();
-            } else {
-                return getInspectionFeedback(imageFile);
-            }
-
-        } catch (Exception e) {
-            logger.error("템플릿 비교 피드백 생성 중 오류", e);
-            return getInspectionFeedback(imageFile);
-        }
+    public int evaluateInspectionWithTemplate(MultipartFile imageFile, RoomType roomType, String buildingName) {
+        return analyzeInspectionWithTemplate(imageFile, roomType, buildingName).getScore();
     }
 
     /**
-     * 비교할 템플릿 조회
+     * 기준 템플릿과 비교하여 피드백 생성
+     * 점수와 피드백이 모두 필요하면 analyzeInspectionWithTemplate()을 사용할 것 (API 중복 호출 방지)
      */
-    private Optional<RoomTemplate> getTemplateForComparison(RoomType roomType, String buildingName) {
-        try {
-            if (roomTemplateRepository == null) {
-                return Optional.empty();
-            }
-
-            if (buildingName != null && !buildingName.isEmpty()) {
-                List<RoomTemplate> templates = roomTemplateRepository.findByRoomTypeAndBuilding(roomType, buildingName);
-                if (!templates.isEmpty()) {
-                    return Optional.of(templates.get(0));
-                }
-            }
-
-            return roomTemplateRepository.findByRoomTypeAndIsDefaultTrueAndIsActiveTrue(roomType);
-
-        } catch (Exception e) {
-            logger.error("템플릿 조회 실패", e);
-            return Optional.empty();
-        }
+    public String getInspectionFeedbackWithTemplate(MultipartFile imageFile, RoomType roomType, String buildingName) {
+        return analyzeInspectionWithTemplate(imageFile, roomType, buildingName).getFeedback();
     }
 
     /**
      * 템플릿 비교 분석 수행
      */
-    private AnalysisResult analyzeWithTemplateComparison(String templateBase64, String userImageBase64) {
+    private AnalysisResult analyzeWithTemplateComparison(byte[] templateImageBytes, byte[] userImageBytes) {
         try {
-            Map<String, Object> requestBody = new HashMap<>();
-
-            Map<String, Object> textPart = new HashMap<>();
-            textPart.put("text", createTemplateComparisonPrompt());
-
-            Map<String, Object> templateImagePart = new HashMap<>();
-            Map<String, Object> templateInlineData = new HashMap<>();
-            templateInlineData.put("mime_type", "image/jpeg");
-            templateInlineData.put("data", templateBase64);
-            templateImagePart.put("inline_data", templateInlineData);
-
-            Map<String, Object> userImagePart = new HashMap<>();
-            Map<String, Object> userInlineData = new HashMap<>();
-            userInlineData.put("mime_type", "image/jpeg");
-            userInlineData.put("data", userImageBase64);
-            userImagePart.put("inline_data", userInlineData);
-
-            Map<String, Object> content = new HashMap<>();
-            content.put("parts", List.of(textPart, templateImagePart, userImagePart));
-
-            requestBody.put("contents", List.of(content));
+            GeminiApiClient.ApiResult response = geminiApiClient.generateContent(generator -> {
+                generator.writeStartObject();
 
-            Map<String, Object> generationConfig = new HashMap<>();
-            generationConfig.put("temperature", 0.1);
-            generationConfig.put("maxOutputTokens", maxTokens);
-            requestBody.put("generationConfig", generationConfig);
+                generator.writeArrayFieldStart("contents");
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("parts");
+                writeTextPart(generator, createTemplateComparisonPrompt());
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+                writeImagePart(generator, templateImageBytes);
+                writeImagePart(generator, userImageBytes);
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeEndArray();
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            String fullUrl = apiUrl + "?key=" + apiKey;
+                generator.writeObjectFieldStart("generationConfig");
+                generator.writeNumberField("temperature", 0.1);
+                generator.writeNumberField("maxOutputTokens", maxTokens);
+                generator.writeEndObject();
 
-            ResponseEntity<String> response = restTemplate.postForEntity(fullUrl, request, String.class);
+                generator.writeEndObject();
+            });
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            if (response.isOk() && response.getBody() != null) {
                 return parseGeminiResponse(response.getBody());
             } else {
                 return new AnalysisResult(fallbackScore, "템플릿 비교 분석 실패", false);
@@ -0,0 +1,220 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.ExifHeaderParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * AI 분석 전 이미지 전처리 서비스
+ * ✅ 긴 변 기준 최대 해상도로 축소 (gemini.image.max-dimension)
+ * ✅ JPEG 재압축 (gemini.image.jpeg-quality)
+ * ✅ 디코딩 단계에서 서브샘플링하여 원본 해상도 전체를 메모리에 올리지 않음
+ * ✅ EXIF Orientation대로 회전/반전 후 전송 (재인코딩하면 EXIF가 사라져 AI가 누운 사진을 보게 됨)
+ */
+@Service
+public class ImagePreprocessService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePreprocessService.class);
+
+    @Value("${gemini.image.max-dimension:1024}")
+    private int maxDimension;
+
+    @Value("${gemini.image.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${gemini.image.max-original-bytes:10485760}")
+    private long maxOriginalBytes;
+
+    /**
+     * 분석용 JPEG 바이트 생성
+     * 디코딩할 수 없는 형식(예: WebP)은 원본 바이트를 그대로 반환
+     *
+     * @return 전처리된 이미지 바이트, 읽을 수 없으면 null
+     */
+    public byte[] prepareForAnalysis(InputStreamSource source) {
+        if (source == null) {
+            return null;
+        }
+
+        try (InputStream in = source.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                logger.info("디코딩할 수 없는 이미지 형식 - 원본 전송");
+                return readOriginal(source);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / maxDimension);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+
+                BufferedImage decoded = reader.read(0, param);
+                BufferedImage oriented = applyOrientation(decoded, readOrientation(source));
+                byte[] jpeg = encodeJpeg(scaleToFit(oriented));
+
+                logger.debug("이미지 전처리 완료 - 원본: {}x{}, 결과: {} bytes", width, height, jpeg.length);
+                return jpeg;
+
+            } finally {
+                reader.dispose();
+            }
+
+        } catch (Exception e) {
+            logger.warn("이미지 전처리 실패 - 원본 전송: {}", e.getMessage());
+            return readOriginal(source);
+        }
+    }
+
+    /**
+     * EXIF Orientation 읽기 (헤더만 파싱, 없거나 읽을 수 없으면 1 = 정방향)
+     */
+    private int readOrientation(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            Integer orientation = ExifHeaderParser.parse(in, ExifHeaderParser.DEFAULT_WINDOW_BYTES).getOrientation();
+            return orientation != null ? orientation : 1;
+        } catch (IOException e) {
+            logger.debug("EXIF Orientation 읽기 실패 - 정방향으로 처리: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * EXIF Orientation(2~8)에 따라 회전/반전 - 원본 (x, y)를 표시 좌표로 옮기는 변환
+     */
+    static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean swapped = orientation >= 5;
+        BufferedImage rotated = new BufferedImage(swapped ? h : w, swapped ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, rotated.getWidth(), rotated.getHeight());
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 축소 + RGB 변환 (투명 배경은 흰색)
+     */
+    private BufferedImage scaleToFit(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+
+        if (ratio >= 1.0 && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * JPEG 인코딩 (설정된 품질)
+     */
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream imageOutput = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 원본 바이트 읽기 (전처리 불가 시)
+     */
+    private byte[] readOriginal(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            byte[] bytes = in.readNBytes((int) Math.min(Integer.MAX_VALUE, maxOriginalBytes + 1));
+            if (bytes.length > maxOriginalBytes) {
+                logger.error("이미지가 너무 큽니다 - {} bytes 초과", maxOriginalBytes);
+                return null;
+            }
+            return bytes.length > 0 ? bytes : null;
+        } catch (IOException e) {
+            logger.error("원본 이미지 읽기 실패", e);
+            return null;
+        }
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public float getJpegQuality() {
+        return jpegQuality;
+    }
+}
@@ -0,0 +1,475 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.ExifHeaderParser.ExifMetadata;
+import com.dormitory.SpringBoot.utils.PerceptualHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 분석 전 로컬 사전 검사 (명백히 부적합한 사진은 모델 호출 없이 FAIL)
+ * ✅ 이미지를 한 번만 축소 디코딩(회색조 샘플)하고 모든 검사가 공유
+ * ✅ 기본 검사: 최소 해상도, 밝기 히스토그램(검은/흰 화면), 라플라시안 분산(흔들림), 카메라 EXIF 유무, 이전 사진 재사용(dHash 색인)
+ * ✅ Check 빈을 추가로 등록하면 기본 검사 뒤에 순서대로 실행 (getOrder 기준)
+ * ✅ 검사 중 오류는 통과로 처리 - 사전 검사 때문에 정상 제출이 막히지 않도록 함
+ */
+@Service
+public class ImagePrescreenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePrescreenService.class);
+
+    @Autowired
+    private ExifService exifService;
+
+    @Autowired
+    private PhotoHashIndexService photoHashIndexService;
+
+    @Autowired(required = false)
+    private List<Check> additionalChecks;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${inspection.prescreen.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inspection.prescreen.sample-dimension:512}")
+    private int sampleDimension;
+
+    @Value("${inspection.prescreen.min-width:480}")
+    private int minWidth;
+
+    @Value("${inspection.prescreen.min-height:480}")
+    private int minHeight;
+
+    @Value("${inspection.prescreen.dark-mean-threshold:20}")
+    private double darkMeanThreshold;
+
+    @Value("${inspection.prescreen.bright-mean-threshold:245}")
+    private double brightMeanThreshold;
+
+    @Value("${inspection.prescreen.uniform-ratio-threshold:0.95}")
+    private double uniformRatioThreshold;
+
+    // 단색 판단 시 가장 많은 밝기 기준 ± 구간 폭
+    @Value("${inspection.prescreen.uniform-band:8}")
+    private int uniformBand;
+
+    @Value("${inspection.prescreen.blur-variance-threshold:40}")
+    private double blurVarianceThreshold;
+
+    @Value("${inspection.prescreen.require-camera-exif:false}")
+    private boolean requireCameraExif;
+
+    // 카메라 EXIF가 없으면 화면 캡처로 보는 형식 (쉼표 구분)
+    @Value("${inspection.prescreen.screenshot-formats:PNG}")
+    private String screenshotFormats;
+
+    @Value("${inspection.prescreen.repeat-max-distance:6}")
+    private int repeatMaxDistance;
+
+    private final List<Check> checks = new ArrayList<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 사전 검사 항목
+     */
+    public interface Check {
+        /**
+         * 검사 이름 (로그/메트릭 태그)
+         */
+        String getName();
+
+        /**
+         * 실행 순서 (작을수록 먼저, 기본 검사는 100 단위)
+         */
+        default int getOrder() {
+            return 1000;
+        }
+
+        /**
+         * @return 부적합 시 사용자 피드백, 통과 시 null
+         */
+        String check(Sample sample);
+    }
+
+    /**
+     * 검사 대상 사진 정보 (한 번 읽어 모든 검사가 공유)
+     */
+    public static class Sample {
+        private final String userId;
+        private final String dormitoryBuilding;
+        private final String roomNumber;
+        private final String format;
+        private final int width;
+        private final int height;
+        private final BufferedImage gray;
+        private final ExifMetadata exif;
+        private Long hash;
+
+        public Sample(String userId, String dormitoryBuilding, String roomNumber, String format, int width, int height,
+                      BufferedImage gray, ExifMetadata exif) {
+            this.userId = userId;
+            this.dormitoryBuilding = dormitoryBuilding;
+            this.roomNumber = roomNumber;
+            this.format = format;
+            this.width = width;
+            this.height = height;
+            this.gray = gray;
+            this.exif = exif;
+        }
+
+        public String getUserId() { return userId; }
+        public String getDormitoryBuilding() { return dormitoryBuilding; }
+        public String getRoomNumber() { return roomNumber; }
+        public String getFormat() { return format; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public ExifMetadata getExif() { return exif; }
+
+        /**
+         * 축소된 회색조 이미지 (디코딩할 수 없는 형식이면 null)
+         */
+        public BufferedImage getGray() { return gray; }
+
+        public boolean isDecoded() { return gray != null; }
+
+        /**
+         * 64비트 dHash (처음 요청 시 계산)
+         */
+        public Long getHash() {
+            if (hash == null && gray != null) {
+                hash = PerceptualHash.dHash(gray);
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * 사전 검사 결과
+     */
+    public static class Result {
+        private static final Result PASSED = new Result(true, null, null, null);
+
+        private final boolean passed;
+        private final String checkName;
+        private final String feedback;
+        private final Long imageHash;
+
+        private Result(boolean passed, String checkName, String feedback, Long imageHash) {
+            this.passed = passed;
+            this.checkName = checkName;
+            this.feedback = feedback;
+            this.imageHash = imageHash;
+        }
+
+        public static Result passed() { return PASSED; }
+
+        public static Result passed(Long imageHash) {
+            return imageHash != null ? new Result(true, null, null, imageHash) : PASSED;
+        }
+
+        public static Result rejected(String checkName, String feedback, Long imageHash) {
+            return new Result(false, checkName, feedback, imageHash);
+        }
+
+        public boolean isPassed() { return passed; }
+        public String getCheckName() { return checkName; }
+        public String getFeedback() { return feedback; }
+
+        /**
+         * 사진 dHash (디코딩할 수 없었으면 null)
+         */
+        public Long getImageHash() { return imageHash; }
+    }
+
+    @PostConstruct
+    public void init() {
+        checks.add(new ResolutionCheck());
+        checks.add(new LuminanceCheck());
+        checks.add(new BlurCheck());
+        checks.add(new CameraExifCheck());
+        checks.add(new RepeatCheck());
+        if (additionalChecks != null) {
+            checks.addAll(additionalChecks);
+        }
+        checks.sort(Comparator.comparingInt(Check::getOrder));
+    }
+
+    /**
+     * 사전 검사 실행 - 첫 번째 부적합 항목에서 중단
+     * 결과에 사진 해시를 담아 점호 저장 시 함께 기록 (사진 해시 색인용)
+     */
+    public Result prescreen(String userId, String dormitoryBuilding, String roomNumber, MultipartFile imageFile) {
+        if (!enabled || imageFile == null || imageFile.isEmpty()) {
+            return Result.passed();
+        }
+
+        long startedAt = System.nanoTime();
+        Sample sample;
+        try {
+            sample = load(userId, dormitoryBuilding, roomNumber, imageFile, exifService.extractMetadata(imageFile));
+        } catch (Exception e) {
+            logger.warn("사전 검사용 이미지 읽기 실패 - 검사 생략: {}", e.getMessage());
+            return Result.passed();
+        }
+
+        for (Check check : checks) {
+            try {
+                String feedback = check.check(sample);
+                if (feedback != null) {
+                    countRejected(check.getName());
+                    logger.info("사전 검사 부적합 - 사용자: {}, 항목: {}, {}ms", userId, check.getName(),
+                            (System.nanoTime() - startedAt) / 1_000_000);
+                    return Result.rejected(check.getName(), feedback, sample.getHash());
+                }
+            } catch (Exception e) {
+                logger.warn("사전 검사 항목 오류 - 항목: {}, 통과 처리: {}", check.getName(), e.getMessage());
+            }
+        }
+
+        logger.debug("사전 검사 통과 - 사용자: {}, {}ms", userId, (System.nanoTime() - startedAt) / 1_000_000);
+        return Result.passed(sample.getHash());
+    }
+
+    /**
+     * 원본 크기 확인 + 긴 변 sampleDimension 이하 회색조로 축소 디코딩
+     */
+    private Sample load(String userId, String dormitoryBuilding, String roomNumber,
+                        InputStreamSource source, ExifMetadata exif) throws IOException {
+        try (InputStream in = source.getInputStream()) {
+            PerceptualHash.GraySample gray = PerceptualHash.readGraySample(in, sampleDimension);
+            if (gray == null) {
+                // HEIC 등 디코딩할 수 없는 형식 - EXIF 기반 검사만 수행
+                return new Sample(userId, dormitoryBuilding, roomNumber, exif.getFormat(), 0, 0, null, exif);
+            }
+            return new Sample(userId, dormitoryBuilding, roomNumber, gray.getFormat(), gray.getWidth(), gray.getHeight(),
+                    gray.getGray(), exif);
+        }
+    }
+
+    private static byte[] pixelsOf(BufferedImage gray) {
+        byte[] pixels = new byte[gray.getWidth() * gray.getHeight()];
+        gray.getRaster().getDataElements(0, 0, gray.getWidth(), gray.getHeight(), pixels);
+        return pixels;
+    }
+
+    private boolean isScreenshotFormat(String format) {
+        if (format == null || screenshotFormats == null) {
+            return false;
+        }
+        for (String candidate : screenshotFormats.split(",")) {
+            if (candidate.trim().equalsIgnoreCase(format)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void countRejected(String checkName) {
+        if (meterRegistry == null) {
+            return;
+        }
+        rejectedCounters.computeIfAbsent(checkName, name -> Counter.builder("inspection.prescreen.rejected")
+                .description("사전 검사에서 부적합 처리된 점호 사진 수")
+                .tag("check", name)
+                .register(meterRegistry)).increment();
+    }
+
+    // ==================== 기본 검사 ====================
+
+    /**
+     * 최소 해상도 (짧은 변/긴 변 기준, 가로 세로 방향 무관)
+     */
+    private class ResolutionCheck implements Check {
+        @Override
+        public String getName() { return "resolution"; }
+
+        @Override
+        public int getOrder() { return 100; }
+
+        @Override
+        public String check(Sample sample) {
+            if (!sample.isDecoded()) {
+                return null;
+            }
+            int shortSide = Math.min(sample.getWidth(), sample.getHeight());
+            int longSide = Math.max(sample.getWidth(), sample.getHeight());
+            if (shortSide < Math.min(minWidth, minHeight) || longSide < Math.max(minWidth, minHeight)) {
+                return "❌ 사진 해상도가 너무 낮습니다 (" + sample.getWidth() + "x" + sample.getHeight()
+                        + "). 카메라로 방 전체를 다시 촬영해주세요.";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 밝기 히스토그램 - 너무 어둡거나/밝거나, 대부분이 같은 밝기(가려진 렌즈, 빈 화면)
+     */
+    private class LuminanceCheck implements Check {
+        @Override
+        public String getName() { return "luminance"; }
+
+        @Override
+        public int getOrder() { return 200; }
+
+        @Override
+        public String check(Sample sample) {
+            if (!sample.isDecoded()) {
+                return null;
+            }
+            byte[] pixels = pixelsOf(sample.getGray());
+            int[] histogram = new int[256];
+            long sum = 0;
+            for (byte pixel : pixels) {
+                int value = pixel & 0xFF;
+                histogram[value]++;
+                sum += value;
+            }
+            double mean = (double) sum / pixels.length;
+
+            // 가장 많은 밝기 ±uniformBand 구간에 몰린 비율
+            int peak = 0;
+            for (int i = 1; i < histogram.length; i++) {
+                if (histogram[i] > histogram[peak]) {
+                    peak = i;
+                }
+            }
+            long around = 0;
+            for (int i = Math.max(0, peak - uniformBand); i <= Math.min(255, peak + uniformBand); i++) {
+                around += histogram[i];
+            }
+            double uniformRatio = (double) around / pixels.length;
+
+            if (mean < darkMeanThreshold) {
+                return "❌ 사진이 너무 어둡습니다. 조명을 켜고 다시 촬영해주세요.";
+            }
+            if (mean > brightMeanThreshold) {
+                return "❌ 사진이 너무 밝아 방을 확인할 수 없습니다. 다시 촬영해주세요.";
+            }
+            if (uniformRatio > uniformRatioThreshold) {
+                return "❌ 사진에서 방을 확인할 수 없습니다 (단색 화면). 방 전체가 보이도록 다시 촬영해주세요.";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 라플라시안 분산 - 값이 작을수록 경계가 흐림 (흔들린 사진)
+     */
+    private class BlurCheck implements Check {
+        @Override
+        public String getName() { return "blur"; }
+
+        @Override
+        public int getOrder() { return 300; }
+
+        @Override
+        public String check(Sample sample) {
+            if (!sample.isDecoded()) {
+                return null;
+            }
+            BufferedImage gray = sample.getGray();
+            int width = gray.getWidth();
+            int height = gray.getHeight();
+            if (width < 3 || height < 3) {
+                return null;
+            }
+
+            byte[] pixels = pixelsOf(gray);
+            double sum = 0;
+            double sumSquares = 0;
+            long count = 0;
+            for (int y = 1; y < height - 1; y++) {
+                int row = y * width;
+                for (int x = 1; x < width - 1; x++) {
+                    int i = row + x;
+                    int laplacian = 4 * (pixels[i] & 0xFF)
+                            - (pixels[i - 1] & 0xFF) - (pixels[i + 1] & 0xFF)
+                            - (pixels[i - width] & 0xFF) - (pixels[i + width] & 0xFF);
+                    sum += laplacian;
+                    sumSquares += (double) laplacian * laplacian;
+                    count++;
+                }
+            }
+            double mean = sum / count;
+            double variance = sumSquares / count - mean * mean;
+
+            if (variance < blurVarianceThreshold) {
+                logger.debug("흔들림 감지 - 라플라시안 분산: {}", variance);
+                return "❌ 사진이 흐리거나 흔들렸습니다. 초점을 맞춰 다시 촬영해주세요.";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 카메라 EXIF 유무 - 촬영 시각/제조사 정보가 모두 없는 PNG(screenshot-formats)는 화면 캡처로 판단
+     * require-camera-exif=true이면 형식과 관계없이 카메라 정보가 없으면 부적합
+     */
+    private class CameraExifCheck implements Check {
+        @Override
+        public String getName() { return "camera-exif"; }
+
+        @Override
+        public int getOrder() { return 400; }
+
+        @Override
+        public String check(Sample sample) {
+            ExifMetadata exif = sample.getExif();
+            boolean hasCameraInfo = exif.getCaptureTime() != null || exif.getMake() != null || exif.getModel() != null;
+            if (hasCameraInfo) {
+                return null;
+            }
+            if (requireCameraExif || isScreenshotFormat(sample.getFormat())) {
+                return "❌ 카메라로 촬영한 사진이 아닙니다 (화면 캡처 또는 편집된 사진). 카메라로 직접 촬영해주세요.";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 이전 점호 사진 재사용 - 사진 해시 색인에서 본인/같은 호실의 이전 사진과 해밍 거리 비교
+     */
+    private class RepeatCheck implements Check {
+        @Override
+        public String getName() { return "repeat"; }
+
+        @Override
+        public int getOrder() { return 500; }
+
+        @Override
+        public String check(Sample sample) {
+            Long hash = sample.getHash();
+            if (hash == null || repeatMaxDistance < 0) {
+                return null;
+            }
+            Optional<PhotoHashIndexService.Match> match =
+                    photoHashIndexService.findReuse(sample.getUserId(), sample.getDormitoryBuilding(), sample.getRoomNumber(),
+                            hash, repeatMaxDistance);
+            if (match.isEmpty()) {
+                return null;
+            }
+            logger.warn("이전 점호 사진 재사용 의심 - 사용자: {}, 기존 점호 ID: {}, 해밍 거리: {}",
+                    sample.getUserId(), match.get().getEntry().getInspectionId(), match.get().getDistance());
+            return "❌ 이전에 제출된 사진과 동일한 사진입니다. 오늘 방을 직접 촬영해주세요.";
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dormitory.SpringBoot.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점호 기록 변경 이벤트 (제출/평가 완료/수정/반려/삭제)
+ * - 점호 현황 캐시, 통계 집계, 출석 테이블 등 파생 데이터 갱신용
+ * - previousStatus가 null이면 새로 생성된 기록, deleted이면 previous* 상태가 제거된 것
+ * - building은 점호 기록에 저장된 제출 당시 동 (사용자의 현재 동이 아님)
+ */
+public class InspectionChangedEvent {
+
+    private final Long inspectionId;
+    private final String userId;
+    private final String building;
+    private final String status;
+    private final Integer score;
+    private final boolean reInspection;
+    private final LocalDateTime inspectionDate;
+    private final String previousStatus;
+    private final boolean previousReInspection;
+    private final boolean deleted;
+
+    public InspectionChangedEvent(Long inspectionId, String userId, String building, String status, Integer score,
+                                  boolean reInspection, LocalDateTime inspectionDate, String previousStatus,
+                                  boolean previousReInspection, boolean deleted) {
+        this.inspectionId = inspectionId;
+        this.userId = userId;
+        this.building = building;
+        this.status = status;
+        this.score = score;
+        this.reInspection = reInspection;
+        this.inspectionDate = inspectionDate;
+        this.previousStatus = previousStatus;
+        this.previousReInspection = previousReInspection;
+        this.deleted = deleted;
+    }
+
+    public Long getInspectionId() { return inspectionId; }
+    public String getUserId() { return userId; }
+    public String getBuilding() { return building; }
+    public String getStatus() { return status; }
+    public Integer getScore() { return score; }
+    public boolean isReInspection() { return reInspection; }
+    public LocalDateTime getInspectionDate() { return inspectionDate; }
+    public String getPreviousStatus() { return previousStatus; }
+    public boolean isPreviousReInspection() { return previousReInspection; }
+    public boolean isDeleted() { return deleted; }
+    public boolean isCreated() { return previousStatus == null && !deleted; }
+}
@@ -0,0 +1,155 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 점호 평가 작업 처리기
+ * - PENDING 점호 기록이 커밋된 후 inspectionTaskExecutor 스레드 풀에서 AI 평가 수행
+ * - 대기열이 가득 차 거절된 작업은 요청 스레드에서 실행하지 않고 FAIL 처리 (재제출 가능)
+ * - 재시작/장애로 평가되지 못한 PENDING 기록은 주기 점검에서 다시 대기열에 넣고, 너무 오래된 기록은 FAIL 처리
+ */
+@Component
+public class InspectionJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(InspectionJobWorker.class);
+
+    @Autowired
+    private InspectionService inspectionService;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    @Qualifier("inspectionTaskExecutor")
+    private ThreadPoolTaskExecutor inspectionTaskExecutor;
+
+    @Value("${inspection.async.stale-after-minutes:5}")
+    private int staleAfterMinutes;
+
+    @Value("${inspection.async.expire-after-minutes:30}")
+    private int expireAfterMinutes;
+
+    // 대기열에 있거나 평가 중인 점호 ID (주기 점검에서 중복 투입 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 비동기 점호 평가 요청 이벤트
+     */
+    public static class JobSubmittedEvent {
+        private final Long inspectionId;
+
+        public JobSubmittedEvent(Long inspectionId) {
+            this.inspectionId = inspectionId;
+        }
+
+        public Long getInspectionId() { return inspectionId; }
+    }
+
+    /**
+     * PENDING 점호 평가 투입 (트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobSubmitted(JobSubmittedEvent event) {
+        if (!dispatch(event.getInspectionId())) {
+            inspectionService.failPendingInspection(event.getInspectionId(),
+                    "점호 제출이 많아 평가하지 못했습니다. 다시 제출해주세요.");
+        }
+    }
+
+    /**
+     * 기동 시 남아 있는 PENDING 점호 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        recoverPendingJobs(LocalDateTime.now());
+    }
+
+    /**
+     * 오래된 PENDING 점호 점검 (대기열에 없는 기록만 재투입/만료)
+     */
+    @Scheduled(fixedDelayString = "${inspection.async.recovery-interval-ms:60000}")
+    public void recoverStalePendingJobs() {
+        recoverPendingJobs(LocalDateTime.now().minusMinutes(staleAfterMinutes));
+    }
+
+    private void recoverPendingJobs(LocalDateTime createdBefore) {
+        try {
+            LocalDateTime expireBefore = LocalDateTime.now().minusMinutes(expireAfterMinutes);
+            List<Object[]> rows = inspectionRepository.findPendingCreatedBefore(createdBefore);
+            int requeued = 0;
+            int expired = 0;
+
+            for (Object[] row : rows) {
+                Long inspectionId = (Long) row[0];
+                LocalDateTime createdAt = (LocalDateTime) row[1];
+                if (inFlight.contains(inspectionId)) {
+                    continue;
+                }
+                if (createdAt != null && createdAt.isBefore(expireBefore)) {
+                    inspectionService.failPendingInspection(inspectionId,
+                            "AI 평가가 제시간에 완료되지 않았습니다. 다시 제출해주세요.");
+                    expired++;
+                } else if (dispatch(inspectionId)) {
+                    requeued++;
+                } else {
+                    // 대기열이 가득 차면 다음 점검에서 다시 시도
+                    break;
+                }
+            }
+
+            if (requeued > 0 || expired > 0) {
+                logger.info("PENDING 점호 복구 - 재투입 {}건, 만료 {}건", requeued, expired);
+            }
+        } catch (Exception e) {
+            logger.error("PENDING 점호 복구 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 평가 작업 투입
+     *
+     * @return 대기열이 가득 차 거절되면 false
+     */
+    private boolean dispatch(Long inspectionId) {
+        if (!inFlight.add(inspectionId)) {
+            return true;
+        }
+        try {
+            inspectionTaskExecutor.execute(() -> evaluate(inspectionId));
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(inspectionId);
+            logger.warn("점호 평가 대기열 포화로 작업 거절 - ID: {}", inspectionId);
+            return false;
+        }
+    }
+
+    private void evaluate(Long inspectionId) {
+        try {
+            logger.info("비동기 점호 평가 시작 - ID: {}", inspectionId);
+            inspectionService.processPendingInspection(inspectionId);
+        } catch (Exception e) {
+            logger.error("비동기 점호 평가 실패 - ID: {}", inspectionId, e);
+        } finally {
+            inFlight.remove(inspectionId);
+        }
+    }
+}
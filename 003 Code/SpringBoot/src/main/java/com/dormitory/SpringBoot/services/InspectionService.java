@@ -4,35 +4,51 @@ import com.dormitory.SpringBoot.domain.BuildingTableConfig;
 import com.dormitory.SpringBoot.domain.Inspection;
 import com.dormitory.SpringBoot.domain.InspectionSettings;
 import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.dto.InspectionRequest;
 import com.dormitory.SpringBoot.repository.InspectionRepository;
 import com.dormitory.SpringBoot.repository.UserRepository;
 import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 점호 관련 비즈니스 로직을 처리하는 서비스
  * ✅ 시간 제한, EXIF 검증, 방 사진 검증 기능 통합
- * ✅ 통계 메서드 포함 (getTotalStatistics, getStatisticsByDate)
+ * ✅ 통계 메서드 포함 (getTotalStatistics, getStatisticsByDate, getStatisticsByBuilding - 집계 카운터 사용)
  * ✅ 기숙사별 점호 현황 테이블 기능 추가
  * ✅ 예시 테이블에 다양한 상태(통과/실패/반려/미제출/빈방) 표시 추가
+ * ✅ 기숙사별 점호 현황 매트릭스 캐시 (점호 변경 시 해당 날짜 무효화)
  */
 @Service
 @Transactional
@@ -43,6 +59,9 @@ public class InspectionService {
     @Autowired
     private InspectionRepository inspectionRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -61,6 +80,9 @@ public class InspectionService {
     @Autowired
     private ExifService exifService;
 
+    @Autowired
+    private ImagePrescreenService imagePrescreenService;
+
     @Autowired
     private EncryptionUtil encryptionUtil;
 
@@ -68,12 +90,71 @@ public class InspectionService {
     @Autowired
     private BuildingTableConfigService buildingConfigService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private InspectionStatisticsService statisticsService;
+
+    @Autowired
+    @Qualifier("inspectionTaskExecutor")
+    private ThreadPoolTaskExecutor inspectionTaskExecutor;
+
     @Value("${inspection.pass.score:6}")
     private int passScore;
 
     @Value("${inspection.fail.score:5}")
     private int failScore;
 
+    @Value("${inspection.building-status.cache-ttl-seconds:30}")
+    private long buildingStatusCacheTtlSeconds;
+
+    @Value("${inspection.building-status.cache-max-size:200}")
+    private long buildingStatusCacheMaxSize;
+
+    /**
+     * 기숙사별 점호 현황 캐시 ("동|날짜" → 매트릭스)
+     * 점호 변경은 이벤트로 즉시 무효화, 사용자 호실 변경/테이블 설정 변경은 TTL로 반영
+     */
+    private Cache<String, Map<String, Object>> buildingStatusCache;
+
+    @PostConstruct
+    public void initBuildingStatusCache() {
+        this.buildingStatusCache = Caffeine.newBuilder()
+                .maximumSize(buildingStatusCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(buildingStatusCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * ✅ 점호 변경 시 해당 날짜의 기숙사별 현황 캐시 무효화 (커밋 후, 트랜잭션 없으면 즉시)
+     * 클래스 기본 트랜잭션(REQUIRED)을 물려받지 않도록 NOT_SUPPORTED - 커밋 후 리스너는 REQUIRED를 허용하지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onInspectionChanged(InspectionChangedEvent event) {
+        if (event.getInspectionDate() == null) {
+            buildingStatusCache.invalidateAll();
+            return;
+        }
+        String dateSuffix = "|" + event.getInspectionDate().toLocalDate();
+        buildingStatusCache.asMap().keySet().removeIf(key -> key.endsWith(dateSuffix));
+    }
+
+    /**
+     * 점호 변경 이벤트 발행
+     *
+     * @param previousStatus 변경 전 상태 (새 기록이면 null)
+     * @param previousReInspection 변경 전 재검 여부
+     * @param deleted 기록 삭제 여부
+     */
+    private void publishInspectionChanged(Inspection inspection, String previousStatus,
+                                          boolean previousReInspection, boolean deleted) {
+        eventPublisher.publishEvent(new InspectionChangedEvent(inspection.getId(), inspection.getUserId(),
+                inspection.getDormitoryBuilding(), inspection.getStatus(), inspection.getScore(), Boolean.TRUE.equals(inspection.getIsReInspection()),
+                inspection.getInspectionDate(), previousStatus, previousReInspection, deleted));
+    }
+
     // ==================== 점호 제출 관련 메서드 ====================
 
     /**
@@ -90,69 +171,33 @@ public class InspectionService {
             // 방 번호 결정 (사용자 프로필 > 요청값)
             String finalRoomNumber = user.getRoomNumber() != null ? user.getRoomNumber() : roomNumber;
 
-            // 2. 점호 시간 확인
-            InspectionSettingsService.InspectionTimeCheckResult timeCheck = settingsService.checkInspectionTimeAllowed();
-            if (!timeCheck.isAllowed()) {
-                logger.warn("점호 시간 외 제출 시도 - 사용자: {}", userId);
-                throw new RuntimeException(timeCheck.getMessage());
-            }
-
-            // 3. 오늘 이미 점호를 완료했는지 확인
-            List<Inspection> todayInspections = inspectionRepository.findTodayInspectionByUserId(userId);
-            if (!todayInspections.isEmpty()) {
-                Inspection existing = todayInspections.get(0);
-                if ("PASS".equals(existing.getStatus())) {
-                    throw new RuntimeException("오늘 이미 점호를 완료했습니다.");
-                }
-            }
+            // 2~3. 점호 시간 및 오늘 제출 여부 확인
+            InspectionSettings currentSettings = checkSubmissionAllowed(userId);
 
             // 4. EXIF 검증 (설정에 따라)
-            InspectionSettings currentSettings = timeCheck.getSettings();
-            if (currentSettings != null && Boolean.TRUE.equals(currentSettings.getExifValidationEnabled())) {
-                // EXIF 검증 파라미터 설정
-                int toleranceMinutes = currentSettings.getExifTimeToleranceMinutes() != null
-                        ? currentSettings.getExifTimeToleranceMinutes() : 30;
-                Double expectedLatitude = Boolean.TRUE.equals(currentSettings.getGpsValidationEnabled())
-                        ? currentSettings.getDormitoryLatitude() : null;
-                Double expectedLongitude = Boolean.TRUE.equals(currentSettings.getGpsValidationEnabled())
-                        ? currentSettings.getDormitoryLongitude() : null;
-                int radiusMeters = currentSettings.getGpsRadiusMeters() != null
-                        ? currentSettings.getGpsRadiusMeters() : 100;
-
-                ExifService.ExifValidationResult exifResult = exifService.validateExif(
-                        imageFile, toleranceMinutes, expectedLatitude, expectedLongitude, radiusMeters);
-
-                if (!exifResult.isValid()) {
-                    logger.warn("EXIF 검증 실패 - 사용자: {}, 메시지: {}", userId, exifResult.getMessage());
-
-                    // EXIF 검증 실패 시 0점 처리
-                    int score = 0;
-                    String geminiFeedback = "❌ " + exifResult.getMessage();
-                    String status = "FAIL";
-
-                    return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
-                }
-
-                // ✅ 촬영 날짜 검증 실패 시 즉시 0점 처리
-                if (!exifResult.isDateValid()) {
-                    logger.warn("❌ 촬영 날짜 검증 실패 - 사용자: {}, 과거 촬영 사진 업로드 시도", userId);
-                    int score = 0;
-                    String geminiFeedback = "❌ 오늘 촬영한 사진이 아닙니다. 과거에 촬영된 사진은 점호로 인정되지 않습니다.";
-                    String status = "FAIL";
-                    return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
-                }
+            String exifFailure = validateExifForSubmission(userId, imageFile, currentSettings);
+            if (exifFailure != null) {
+                return saveInspection(userId, finalRoomNumber, imageFile, 0, exifFailure, "FAIL", false);
+            }
 
-                logger.info("EXIF 검증 통과 - 사용자: {}", userId);
+            // 4-1. 로컬 사전 검사 (명백히 부적합한 사진은 AI 호출 없이 FAIL)
+            ImagePrescreenService.Result prescreen =
+                    prescreenForSubmission(userId, user.getDormitoryBuilding(), finalRoomNumber, imageFile);
+            if (!prescreen.isPassed()) {
+                return saveInspection(userId, finalRoomNumber, imageFile, 0, prescreen.getFeedback(), "FAIL", false,
+                        prescreen.getImageHash());
             }
 
-            // 5. AI 평가
-            int score = geminiService.evaluateInspection(imageFile);
-            String geminiFeedback = geminiService.getInspectionFeedback(imageFile);
+            // 5. AI 평가 (단일 호출로 점수/피드백 동시 획득)
+            GeminiService.AnalysisResult analysis = geminiService.analyzeInspection(imageFile);
+            int score = analysis.getScore();
+            String geminiFeedback = analysis.getFeedback();
             String status = score >= passScore ? "PASS" : "FAIL";
 
             logger.info("AI 평가 완료 - 사용자: {}, 점수: {}, 상태: {}", userId, score, status);
 
-            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false);
+            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, false,
+                    prescreen.getImageHash());
 
         } catch (RuntimeException e) {
             logger.error("점호 제출 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
@@ -163,6 +208,227 @@ public class InspectionService {
         }
     }
 
+    /**
+     * ✅ 비동기 점호 제출 - 사진 저장 후 PENDING 상태로 즉시 반환, AI 평가는 작업 스레드 풀에서 수행
+     * 반환된 id로 getInspectionJob()을 조회하여 결과 확인
+     * EXIF 검증/사전 검사는 로컬에서 빠르게 끝나므로 요청 스레드에서 수행 (실패 시 즉시 FAIL 결과 반환)
+     */
+    public InspectionRequest.Response submitInspectionAsync(String userId, String roomNumber, MultipartFile imageFile) {
+        try {
+            logger.info("비동기 점호 제출 시작 - 사용자: {}, 방번호: {}", userId, roomNumber);
+
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+            String finalRoomNumber = user.getRoomNumber() != null ? user.getRoomNumber() : roomNumber;
+
+            InspectionSettings currentSettings = checkSubmissionAllowed(userId);
+
+            String exifFailure = validateExifForSubmission(userId, imageFile, currentSettings);
+            if (exifFailure != null) {
+                return saveInspection(userId, finalRoomNumber, imageFile, 0, exifFailure, "FAIL", false);
+            }
+
+            ImagePrescreenService.Result prescreen =
+                    prescreenForSubmission(userId, user.getDormitoryBuilding(), finalRoomNumber, imageFile);
+            if (!prescreen.isPassed()) {
+                return saveInspection(userId, finalRoomNumber, imageFile, 0, prescreen.getFeedback(), "FAIL", false,
+                        prescreen.getImageHash());
+            }
+
+            // 작업 큐가 가득 찬 경우 요청 스레드를 붙잡지 않고 바로 거절
+            if (inspectionTaskExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+                logger.warn("점호 평가 대기열 포화 - 사용자: {}", userId);
+                throw new RuntimeException("점호 제출이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            InspectionRequest.Response response = saveInspection(userId, finalRoomNumber, imageFile,
+                    0, "AI 평가 대기 중입니다.", "PENDING", false, prescreen.getImageHash());
+
+            // 커밋 이후 InspectionJobWorker에서 평가 수행
+            eventPublisher.publishEvent(new InspectionJobWorker.JobSubmittedEvent(response.getId()));
+
+            logger.info("비동기 점호 접수 완료 - 작업 ID: {}", response.getId());
+            return response;
+
+        } catch (RuntimeException e) {
+            logger.error("비동기 점호 제출 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("비동기 점호 제출 중 예기치 않은 오류 발생 - 사용자: {}", userId, e);
+            throw new RuntimeException("점호 제출 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ✅ PENDING 점호 AI 평가 (InspectionJobWorker에서 호출)
+     * AI 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * 평가 중 관리자가 수정/반려/삭제했으면 결과를 버림 (PENDING일 때만 조건부 갱신)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processPendingInspection(Long inspectionId) {
+        Inspection inspection = inspectionRepository.findById(inspectionId).orElse(null);
+        if (inspection == null || !"PENDING".equals(inspection.getStatus())) {
+            logger.info("평가 대상 점호가 아닙니다 - ID: {}", inspectionId);
+            return;
+        }
+
+        int score;
+        String status;
+        String feedback;
+        try {
+            GeminiService.AnalysisResult analysis =
+                    geminiService.analyzeInspectionFile(fileService.getFullPath(inspection.getImagePath()));
+            score = analysis.getScore();
+            status = score >= passScore ? "PASS" : "FAIL";
+            feedback = analysis.getFeedback();
+
+            logger.info("비동기 AI 평가 완료 - ID: {}, 점수: {}, 상태: {}", inspectionId, score, status);
+
+        } catch (Exception e) {
+            // PENDING 상태로 남지 않도록 실패 처리 (재검으로 재제출 가능)
+            logger.error("비동기 AI 평가 중 오류 발생 - ID: {}", inspectionId, e);
+            score = 0;
+            status = "FAIL";
+            feedback = "AI 평가 중 오류가 발생했습니다. 다시 제출해주세요.";
+        }
+
+        int finalScore = score;
+        String finalStatus = status;
+        String finalFeedback = feedback;
+        boolean completed = Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(
+                tx -> completePending(inspection, finalScore, finalStatus, finalFeedback)));
+        if (!completed) {
+            logger.info("평가 중 점호가 변경되어 AI 결과를 반영하지 않습니다 - ID: {}", inspectionId);
+        }
+    }
+
+    /**
+     * PENDING인 경우에만 평가 결과 기록 후 변경 이벤트 발행 (호출 측 트랜잭션 안에서 실행)
+     *
+     * @return 결과를 기록했으면 true, 그 사이 수정/반려/삭제되어 PENDING이 아니면 false
+     */
+    private boolean completePending(Inspection inspection, int score, String status, String feedback) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = inspectionRepository.completePending(inspection.getId(), score, status, feedback, now);
+        if (updated != 1) {
+            return false;
+        }
+
+        inspection.setScore(score);
+        inspection.setStatus(status);
+        inspection.setGeminiFeedback(feedback);
+        inspection.setUpdatedAt(now);
+        publishInspectionChanged(inspection, "PENDING", Boolean.TRUE.equals(inspection.getIsReInspection()), false);
+        return true;
+    }
+
+    /**
+     * ✅ 평가하지 못한 PENDING 점호 실패 처리 (대기열 포화/평가 지연) - 이미 평가된 기록은 그대로 둠
+     * 커밋 후 리스너에서도 호출되므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 실행
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failPendingInspection(Long inspectionId, String feedback) {
+        Inspection inspection = inspectionRepository.findById(inspectionId).orElse(null);
+        if (inspection == null || !"PENDING".equals(inspection.getStatus())) {
+            return;
+        }
+
+        if (completePending(inspection, 0, "FAIL", feedback)) {
+            logger.warn("PENDING 점호 실패 처리 - ID: {}, 사유: {}", inspectionId, feedback);
+        }
+    }
+
+    /**
+     * ✅ 비동기 점호 작업 상태 조회 (본인 점호만)
+     */
+    @Transactional(readOnly = true)
+    public InspectionRequest.Response getInspectionJob(Long jobId, String userId) {
+        Inspection inspection = inspectionRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("점호 작업을 찾을 수 없습니다: " + jobId));
+
+        if (!inspection.getUserId().equals(userId)) {
+            throw new RuntimeException("점호 작업을 찾을 수 없습니다: " + jobId);
+        }
+
+        return convertToResponse(inspection);
+    }
+
+    /**
+     * 점호 제출 가능 여부 확인 (점호 시간 + 오늘 완료/진행 중 여부)
+     * @return 현재 적용되는 점호 설정 (없으면 null)
+     */
+    private InspectionSettings checkSubmissionAllowed(String userId) {
+        InspectionSettingsService.InspectionTimeCheckResult timeCheck = settingsService.checkInspectionTimeAllowed();
+        if (!timeCheck.isAllowed()) {
+            logger.warn("점호 시간 외 제출 시도 - 사용자: {}", userId);
+            throw new RuntimeException(timeCheck.getMessage());
+        }
+
+        List<Inspection> todayInspections = inspectionRepository.findTodayInspectionByUserId(userId);
+        if (!todayInspections.isEmpty()) {
+            Inspection existing = todayInspections.get(0);
+            if ("PASS".equals(existing.getStatus())) {
+                throw new RuntimeException("오늘 이미 점호를 완료했습니다.");
+            }
+            if ("PENDING".equals(existing.getStatus())) {
+                throw new RuntimeException("제출한 점호를 평가하고 있습니다. 잠시 후 결과를 확인해주세요.");
+            }
+        }
+
+        return timeCheck.getSettings();
+    }
+
+    /**
+     * EXIF 검증 (설정에 따라)
+     * @return 검증 실패 시 0점 처리용 피드백, 통과 또는 검증 비활성화 시 null
+     */
+    private String validateExifForSubmission(String userId, MultipartFile imageFile, InspectionSettings currentSettings) {
+        if (currentSettings == null || !Boolean.TRUE.equals(currentSettings.getExifValidationEnabled())) {
+            return null;
+        }
+
+        // EXIF 검증 파라미터 설정
+        int toleranceMinutes = currentSettings.getExifTimeToleranceMinutes() != null
+                ? currentSettings.getExifTimeToleranceMinutes() : 30;
+        Double expectedLatitude = Boolean.TRUE.equals(currentSettings.getGpsValidationEnabled())
+                ? currentSettings.getDormitoryLatitude() : null;
+        Double expectedLongitude = Boolean.TRUE.equals(currentSettings.getGpsValidationEnabled())
+                ? currentSettings.getDormitoryLongitude() : null;
+        int radiusMeters = currentSettings.getGpsRadiusMeters() != null
+                ? currentSettings.getGpsRadiusMeters() : 100;
+
+        ExifService.ExifValidationResult exifResult = exifService.validateExif(
+                imageFile, toleranceMinutes, expectedLatitude, expectedLongitude, radiusMeters);
+
+        if (!exifResult.isValid()) {
+            logger.warn("EXIF 검증 실패 - 사용자: {}, 메시지: {}", userId, exifResult.getMessage());
+            return "❌ " + exifResult.getMessage();
+        }
+
+        // ✅ 촬영 날짜 검증 실패 시 즉시 0점 처리
+        if (!exifResult.isDateValid()) {
+            logger.warn("❌ 촬영 날짜 검증 실패 - 사용자: {}, 과거 촬영 사진 업로드 시도", userId);
+            return "❌ 오늘 촬영한 사진이 아닙니다. 과거에 촬영된 사진은 점호로 인정되지 않습니다.";
+        }
+
+        logger.info("EXIF 검증 통과 - 사용자: {}", userId);
+        return null;
+    }
+
+    /**
+     * 로컬 사전 검사 (해상도/밝기/흔들림/카메라 EXIF/이전 사진 재사용)
+     * @return 검사 결과 (부적합 시 0점 처리용 피드백, 저장할 사진 해시 포함)
+     */
+    private ImagePrescreenService.Result prescreenForSubmission(String userId, String dormitoryBuilding, String roomNumber,
+                                                                MultipartFile imageFile) {
+        ImagePrescreenService.Result result = imagePrescreenService.prescreen(userId, dormitoryBuilding, roomNumber, imageFile);
+        if (!result.isPassed()) {
+            logger.warn("사전 검사 부적합 - 사용자: {}, 항목: {}", userId, result.getCheckName());
+        }
+        return result;
+    }
+
     /**
      * 재검 점호 제출
      */
@@ -186,13 +452,22 @@ public class InspectionService {
                 throw new RuntimeException("재검 대상이 아닙니다.");
             }
 
-            int score = geminiService.evaluateInspection(imageFile);
-            String geminiFeedback = geminiService.getInspectionFeedback(imageFile);
+            ImagePrescreenService.Result prescreen =
+                    prescreenForSubmission(userId, user.getDormitoryBuilding(), finalRoomNumber, imageFile);
+            if (!prescreen.isPassed()) {
+                return saveInspection(userId, finalRoomNumber, imageFile, 0, prescreen.getFeedback(), "FAIL", true,
+                        prescreen.getImageHash());
+            }
+
+            GeminiService.AnalysisResult analysis = geminiService.analyzeInspection(imageFile);
+            int score = analysis.getScore();
+            String geminiFeedback = analysis.getFeedback();
             String status = score >= passScore ? "PASS" : "FAIL";
 
             logger.info("재검 AI 평가 완료 - 점수: {}, 상태: {}", score, status);
 
-            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, true);
+            return saveInspection(userId, finalRoomNumber, imageFile, score, geminiFeedback, status, true,
+                    prescreen.getImageHash());
 
         } catch (RuntimeException e) {
             logger.error("재검 점호 제출 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
@@ -209,6 +484,15 @@ public class InspectionService {
     private InspectionRequest.Response saveInspection(String userId, String roomNumber,
                                                       MultipartFile imageFile, int score, String geminiFeedback,
                                                       String status, boolean isReInspection) {
+        return saveInspection(userId, roomNumber, imageFile, score, geminiFeedback, status, isReInspection, null);
+    }
+
+    /**
+     * 점호 저장 헬퍼 메서드 (사진 해시 포함, 없으면 커밋 후 사진 해시 색인에서 계산)
+     */
+    private InspectionRequest.Response saveInspection(String userId, String roomNumber,
+                                                      MultipartFile imageFile, int score, String geminiFeedback,
+                                                      String status, boolean isReInspection, Long imageHash) {
         try {
             String imagePath = fileService.uploadImage(imageFile, "inspections");
 
@@ -220,10 +504,16 @@ public class InspectionService {
             inspection.setStatus(status);
             inspection.setGeminiFeedback(geminiFeedback);
             inspection.setIsReInspection(isReInspection);
+            inspection.setImageHash(imageHash);
+            // 제출 요청에서 이미 조회한 사용자 (영속성 컨텍스트에서 재사용)
+            inspection.setDormitoryBuilding(userRepository.findById(userId)
+                    .map(User::getDormitoryBuilding)
+                    .orElse(null));
             inspection.setInspectionDate(LocalDateTime.now());
             inspection.setCreatedAt(LocalDateTime.now());
 
             Inspection savedInspection = inspectionRepository.save(inspection);
+            publishInspectionChanged(savedInspection, null, false, false);
             logger.info("점호 저장 완료 - ID: {}", savedInspection.getId());
 
             return convertToResponse(savedInspection);
@@ -245,9 +535,7 @@ public class InspectionService {
             logger.info("사용자 점호 기록 조회 시작 - 사용자: {}", userId);
 
             List<Inspection> inspections = inspectionRepository.findByUserIdOrderByCreatedAtDesc(userId);
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections);
 
             logger.info("사용자 점호 기록 조회 완료 - 사용자: {}, 기록 수: {}", userId, responses.size());
             return responses;
@@ -288,12 +576,9 @@ public class InspectionService {
         try {
             logger.info("전체 점호 기록 조회 시작");
 
-            List<Inspection> inspections = inspectionRepository.findAll();
+            List<Inspection> inspections = inspectionRepository.findAllByOrderByCreatedAtDesc();
 
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
-                    .sorted((i1, i2) -> i2.getCreatedAt().compareTo(i1.getCreatedAt()))
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections);
 
             logger.info("전체 점호 기록 조회 완료 - 기록 수: {}", responses.size());
             return responses;
@@ -304,6 +589,24 @@ public class InspectionService {
         }
     }
 
+    /**
+     * ✅ 점호 기록 키셋 페이지 조회 (관리자용, 생성일시/ID 역순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<InspectionRequest.AdminResponse> getInspectionsPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Inspection> fetched = after == null
+                ? inspectionRepository.findFirstPage(limit)
+                : inspectionRepository.findPageAfter(after.getTime(), after.getLongId(), limit);
+
+        CursorPage<Inspection> page = CursorPage.of(fetched, pageSize,
+                Inspection::getCreatedAt, Inspection::getId, inspection -> inspection);
+        return page.withContent(convertToAdminResponses(page.getContent()));
+    }
+
     /**
      * 특정 점호 기록 상세 조회 (관리자용)
      */
@@ -341,9 +644,7 @@ public class InspectionService {
                     DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
             List<Inspection> inspections = inspectionRepository.findByInspectionDate(date);
-            List<InspectionRequest.AdminResponse> responses = inspections.stream()
-                    .map(this::convertToAdminResponse)
-                    .collect(Collectors.toList());
+            List<InspectionRequest.AdminResponse> responses = convertToAdminResponses(inspections);
 
             logger.info("특정 날짜 점호 기록 조회 완료 - 날짜: {}, 기록 수: {}", dateStr, responses.size());
             return responses;
@@ -368,18 +669,15 @@ public class InspectionService {
 
             String userId = inspection.getUserId();
 
-            // 이미지 파일 삭제
+            // 이미지 파일 삭제 (기록 삭제가 커밋된 뒤 - 롤백 시 사진 유지)
             if (inspection.getImagePath() != null) {
-                try {
-                    fileService.deleteFile(inspection.getImagePath());
-                    logger.info("점호 이미지 삭제 완료: {}", inspection.getImagePath());
-                } catch (Exception e) {
-                    logger.warn("점호 이미지 삭제 실패: {}", e.getMessage());
-                }
+                fileService.deleteFileAfterCommit(inspection.getImagePath());
             }
 
             // 점호 기록 삭제
             inspectionRepository.delete(inspection);
+            publishInspectionChanged(inspection, inspection.getStatus(),
+                    Boolean.TRUE.equals(inspection.getIsReInspection()), true);
             logger.info("점호 반려 완료 - ID: {}, 사용자: {}", inspectionId, userId);
 
         } catch (RuntimeException e) {
@@ -401,18 +699,15 @@ public class InspectionService {
             Inspection inspection = inspectionRepository.findById(inspectionId)
                     .orElseThrow(() -> new RuntimeException("점호 기록을 찾을 수 없습니다: " + inspectionId));
 
-            // 이미지 파일 삭제
+            // 이미지 파일 삭제 (기록 삭제가 커밋된 뒤 - 롤백 시 사진 유지)
             if (inspection.getImagePath() != null) {
-                try {
-                    fileService.deleteFile(inspection.getImagePath());
-                    logger.info("점호 이미지 삭제 완료: {}", inspection.getImagePath());
-                } catch (Exception e) {
-                    logger.warn("이미지 파일 삭제 실패: {}", e.getMessage());
-                }
+                fileService.deleteFileAfterCommit(inspection.getImagePath());
             }
 
             // 점호 기록 삭제
             inspectionRepository.delete(inspection);
+            publishInspectionChanged(inspection, inspection.getStatus(),
+                    Boolean.TRUE.equals(inspection.getIsReInspection()), true);
             logger.info("점호 삭제 완료 - ID: {}", inspectionId);
 
         } catch (RuntimeException e) {
@@ -434,6 +729,9 @@ public class InspectionService {
             Inspection inspection = inspectionRepository.findById(inspectionId)
                     .orElseThrow(() -> new RuntimeException("점호 기록을 찾을 수 없습니다: " + inspectionId));
 
+            String previousStatus = inspection.getStatus();
+            boolean previousReInspection = Boolean.TRUE.equals(inspection.getIsReInspection());
+
             if (updateData.containsKey("score")) {
                 inspection.setScore((Integer) updateData.get("score"));
             }
@@ -453,6 +751,7 @@ public class InspectionService {
             inspection.setUpdatedAt(LocalDateTime.now());
 
             Inspection updatedInspection = inspectionRepository.save(inspection);
+            publishInspectionChanged(updatedInspection, previousStatus, previousReInspection, false);
             logger.info("점호 기록 수정 완료 - ID: {}", inspectionId);
 
             return convertToAdminResponse(updatedInspection);
@@ -495,23 +794,15 @@ public class InspectionService {
     // ==================== 통계 메서드 ====================
 
     /**
-     * 전체 통계 조회
+     * 전체 통계 조회 (집계 카운터 사용)
      */
-    @Transactional(readOnly = true)
     public InspectionRequest.Statistics getTotalStatistics() {
         try {
-            logger.info("전체 통계 조회 시작");
-
-            long total = inspectionRepository.count();
-            long passed = inspectionRepository.countByStatus("PASS");
-            long failed = inspectionRepository.countByStatus("FAIL");
-            long reInspections = inspectionRepository.findByIsReInspectionTrueOrderByCreatedAtDesc().size();
-
-            InspectionRequest.Statistics result = new InspectionRequest.Statistics(
-                    total, passed, failed, reInspections, LocalDateTime.now());
+            InspectionRequest.Statistics result = statisticsService.getTotalStatistics();
 
             logger.info("전체 통계 조회 완료 - 전체: {}, 통과: {}, 실패: {}, 재검: {}",
-                    total, passed, failed, reInspections);
+                    result.getTotalInspections(), result.getPassedInspections(),
+                    result.getFailedInspections(), result.getReInspections());
             return result;
 
         } catch (Exception e) {
@@ -521,26 +812,16 @@ public class InspectionService {
     }
 
     /**
-     * 날짜별 점호 통계 조회
+     * 날짜별 점호 통계 조회 (집계 카운터 사용)
      */
-    @Transactional(readOnly = true)
     public InspectionRequest.Statistics getStatisticsByDate(String dateStr) {
         try {
-            logger.info("날짜별 통계 조회 시작 - 날짜: {}", dateStr);
-
-            LocalDateTime date = LocalDateTime.parse(dateStr + " 00:00:00",
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-
-            long total = inspectionRepository.countTotalInspectionsByDate(date);
-            long passed = inspectionRepository.countPassedInspectionsByDate(date);
-            long failed = inspectionRepository.countFailedInspectionsByDate(date);
-            long reInspections = inspectionRepository.countReInspectionsByDate(date);
-
-            InspectionRequest.Statistics result = new InspectionRequest.Statistics(
-                    total, passed, failed, reInspections, date);
+            LocalDate date = LocalDate.parse(dateStr);
+            InspectionRequest.Statistics result = statisticsService.getStatisticsByDate(date);
 
             logger.info("날짜별 통계 조회 완료 - 날짜: {}, 전체: {}, 통과: {}, 실패: {}",
-                    dateStr, total, passed, failed);
+                    dateStr, result.getTotalInspections(), result.getPassedInspections(),
+                    result.getFailedInspections());
             return result;
 
         } catch (Exception e) {
@@ -549,12 +830,31 @@ public class InspectionService {
         }
     }
 
+    /**
+     * ✅ 동별 점호 통계 조회 (날짜 지정 시 해당 날짜만)
+     */
+    public InspectionRequest.Statistics getStatisticsByBuilding(String building, String dateStr) {
+        try {
+            InspectionRequest.Statistics result = dateStr != null && !dateStr.isEmpty()
+                    ? statisticsService.getStatisticsByDateAndBuilding(LocalDate.parse(dateStr), building)
+                    : statisticsService.getStatisticsByBuilding(building);
+
+            logger.info("동별 통계 조회 완료 - 동: {}, 날짜: {}, 전체: {}", building, dateStr, result.getTotalInspections());
+            return result;
+
+        } catch (Exception e) {
+            logger.error("동별 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("동별 통계 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     // ==================== 기숙사별 점호 현황 테이블 메서드 ====================
 
     /**
      * ✅ 기숙사별 점호 현황 테이블 데이터 조회 (테이블 설정 적용)
      * 층/호실 매트릭스 형태로 점호 상태 반환
      * ✅ 수정: 예시 테이블에 다양한 상태(통과/실패/반려/미제출/빈방) 표시
+     * ✅ 동·날짜별 캐시 - 점호 제출/평가/수정/삭제 시 해당 날짜 항목 무효화
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getBuildingInspectionStatus(String building, String dateStr) {
@@ -569,272 +869,286 @@ public class InspectionService {
                 targetDate = LocalDate.parse(dateStr);
             }
 
-            LocalDateTime startOfDay = targetDate.atStartOfDay();
-            LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
+            return buildingStatusCache.get(building + "|" + targetDate,
+                    key -> buildBuildingInspectionStatus(building, targetDate));
 
-            // ✅ 테이블 설정 조회 (없으면 예시용 기본값)
-            BuildingTableConfig tableConfig = buildingConfigService.getConfigOrDefault(building);
-
-            // 기본값 여부 확인
-            boolean isDefaultConfig = (tableConfig.getId() == null);
-
-            int startFloor = tableConfig.getStartFloor();
-            int endFloor = tableConfig.getEndFloor();
-            int startRoom = tableConfig.getStartRoom();
-            int endRoom = tableConfig.getEndRoom();
-            String roomNumberFormat = tableConfig.getRoomNumberFormat();
-
-            logger.info("테이블 설정 - 층: {}~{}, 호실: {}~{}, 형식: {}, 예시: {}",
-                    startFloor, endFloor, startRoom, endRoom, roomNumberFormat, isDefaultConfig);
+        } catch (Exception e) {
+            logger.error("기숙사별 점호 현황 조회 실패 - 동: {}", building, e);
+            throw new RuntimeException("기숙사별 점호 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
 
-            // 해당 기숙사의 모든 사용자 조회
-            List<User> buildingUsers = userRepository.findByDormitoryBuildingAndIsActiveTrue(building);
+    /**
+     * 기숙사별 점호 현황 매트릭스 생성
+     * 사용자는 호실별로 한 번에 그룹화하고, 점호 기록은 해당 동 거주자 것만 JOIN 쿼리로 조회
+     */
+    private Map<String, Object> buildBuildingInspectionStatus(String building, LocalDate targetDate) {
+        LocalDateTime startOfDay = targetDate.atStartOfDay();
+        LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
+
+        // ✅ 테이블 설정 조회 (없으면 예시용 기본값)
+        BuildingTableConfig tableConfig = buildingConfigService.getConfigOrDefault(building);
+
+        // 기본값 여부 확인
+        boolean isDefaultConfig = (tableConfig.getId() == null);
+
+        int startFloor = tableConfig.getStartFloor();
+        int endFloor = tableConfig.getEndFloor();
+        int startRoom = tableConfig.getStartRoom();
+        int endRoom = tableConfig.getEndRoom();
+        String roomNumberFormat = tableConfig.getRoomNumberFormat();
+
+        logger.info("테이블 설정 - 층: {}~{}, 호실: {}~{}, 형식: {}, 예시: {}",
+                startFloor, endFloor, startRoom, endRoom, roomNumberFormat, isDefaultConfig);
+
+        // 해당 기숙사의 모든 사용자를 호실별로 그룹화 (1회 순회)
+        Map<String, List<User>> usersByRoom = new HashMap<>();
+        List<String> encryptedNames = new ArrayList<>();
+        if (!isDefaultConfig) {
+            for (User user : userRepository.findByDormitoryBuildingAndIsActiveTrue(building)) {
+                if (user.getRoomNumber() != null) {
+                    usersByRoom.computeIfAbsent(user.getRoomNumber(), k -> new ArrayList<>()).add(user);
+                    encryptedNames.add(user.getName());
+                }
+            }
+        }
+        Map<String, String> userNames = encryptionUtil.decryptAll(encryptedNames);
+
+        // 해당 기숙사 사용자들의 해당 날짜 점호 기록 (오래된 순 → 사용자별 최신 기록이 남음)
+        Map<String, Inspection> userInspectionMap = new HashMap<>();
+        if (!isDefaultConfig) {
+            for (Inspection inspection : inspectionRepository.findByBuildingAndInspectionDateBetween(
+                    building, startOfDay, endOfDay)) {
+                userInspectionMap.put(inspection.getUserId(), inspection);
+            }
+        }
 
-            // 해당 날짜의 점호 기록 조회
-            List<Inspection> inspections = inspectionRepository.findByInspectionDateBetween(startOfDay, endOfDay);
+        // ✅ 동적 층/호실 목록 생성
+        List<Integer> floors = new ArrayList<>();
+        for (int f = startFloor; f <= endFloor; f++) {
+            floors.add(f);
+        }
 
-            // 해당 기숙사 사용자들의 점호 기록만 필터링
-            Map<String, Inspection> userInspectionMap = inspections.stream()
-                    .filter(i -> buildingUsers.stream().anyMatch(u -> u.getId().equals(i.getUserId())))
-                    .collect(Collectors.toMap(
-                            Inspection::getUserId,
-                            i -> i,
-                            (existing, replacement) -> replacement
-                    ));
+        List<Integer> rooms = new ArrayList<>();
+        for (int r = startRoom; r <= endRoom; r++) {
+            rooms.add(r);
+        }
 
-            // ✅ 동적 층/호실 목록 생성
-            List<Integer> floors = new ArrayList<>();
-            for (int f = startFloor; f <= endFloor; f++) {
-                floors.add(f);
-            }
+        // ✅ 예시 테이블용 상태 배열 (다양한 상태 순환 표시)
+        String[] exampleStatuses = {"PASS", "FAIL", "NOT_SUBMITTED", "REJECTED", "EMPTY"};
+        String[] exampleStatusTexts = {"통과", "실패", "미제출", "반려", "빈 방"};
+        String[] exampleDescriptions = {
+                "점호 통과",
+                "점호 실패",
+                "점호 미제출",
+                "점호 반려",
+                "빈 방"
+        };
+        int[] exampleScores = {85, 45, 0, 30, 0};
+        int exampleStatusIndex = 0;
+
+        // 호실별 상태 매트릭스 생성
+        Map<String, Map<String, Object>> matrix = new LinkedHashMap<>();
+
+        for (int floor : floors) {
+            Map<String, Object> floorData = new LinkedHashMap<>();
+
+            for (int room : rooms) {
+                // ✅ 방 번호 형식에 따라 생성
+                String roomNumber;
+                if ("FLOOR_ZERO_ROOM".equals(roomNumberFormat)) {
+                    roomNumber = String.valueOf(floor * 1000 + room);
+                } else {
+                    roomNumber = String.valueOf(floor * 100 + room);
+                }
 
-            List<Integer> rooms = new ArrayList<>();
-            for (int r = startRoom; r <= endRoom; r++) {
-                rooms.add(r);
-            }
+                Map<String, Object> roomStatus = new HashMap<>();
+                roomStatus.put("roomNumber", roomNumber);
+                roomStatus.put("floor", floor);
+                roomStatus.put("room", room);
+
+                // ✅ 예시 테이블일 경우 다양한 상태 표시
+                if (isDefaultConfig) {
+                    String status = exampleStatuses[exampleStatusIndex % exampleStatuses.length];
+                    String statusText = exampleStatusTexts[exampleStatusIndex % exampleStatusTexts.length];
+                    String description = exampleDescriptions[exampleStatusIndex % exampleDescriptions.length];
+                    int score = exampleScores[exampleStatusIndex % exampleScores.length];
+
+                    roomStatus.put("status", status);
+                    roomStatus.put("statusText", statusText);
+                    roomStatus.put("description", description);  // ✅ 상태 설명 추가
+
+                    // 빈 방이 아닌 경우 예시 사용자 데이터 추가
+                    if (!"EMPTY".equals(status)) {
+                        roomStatus.put("userCount", 1);
+                        roomStatus.put("submittedCount", "NOT_SUBMITTED".equals(status) ? 0 : 1);
+
+                        // 예시 사용자 정보
+                        List<Map<String, Object>> exampleUsers = new ArrayList<>();
+                        Map<String, Object> exampleUser = new HashMap<>();
+                        exampleUser.put("userId", "example_user_" + roomNumber);
+                        exampleUser.put("userName", "예시학생" + roomNumber);
+                        exampleUser.put("inspectionStatus", status);
+                        exampleUser.put("statusText", statusText);
+
+                        // 제출한 경우 점호 정보 추가
+                        if (!"NOT_SUBMITTED".equals(status)) {
+                            Map<String, Object> exampleInspection = new HashMap<>();
+                            exampleInspection.put("score", score);
+                            exampleInspection.put("inspectionDate", LocalDateTime.now().minusHours(2).toString());
+                            exampleInspection.put("geminiFeedback", getExampleFeedback(status));
+                            exampleUser.put("inspection", exampleInspection);
+                        }
 
-            // ✅ 예시 테이블용 상태 배열 (다양한 상태 순환 표시)
-            String[] exampleStatuses = {"PASS", "FAIL", "NOT_SUBMITTED", "REJECTED", "EMPTY"};
-            String[] exampleStatusTexts = {"통과", "실패", "미제출", "반려", "빈 방"};
-            String[] exampleDescriptions = {
-                    "점호 통과",
-                    "점호 실패",
-                    "점호 미제출",
-                    "점호 반려",
-                    "빈 방"
-            };
-            int[] exampleScores = {85, 45, 0, 30, 0};
-            int exampleStatusIndex = 0;
-
-            // 호실별 상태 매트릭스 생성
-            Map<String, Map<String, Object>> matrix = new LinkedHashMap<>();
-
-            for (int floor : floors) {
-                Map<String, Object> floorData = new LinkedHashMap<>();
-
-                for (int room : rooms) {
-                    // ✅ 방 번호 형식에 따라 생성
-                    String roomNumber;
-                    if ("FLOOR_ZERO_ROOM".equals(roomNumberFormat)) {
-                        roomNumber = String.valueOf(floor * 1000 + room);
+                        exampleUsers.add(exampleUser);
+                        roomStatus.put("users", exampleUsers);
                     } else {
-                        roomNumber = String.valueOf(floor * 100 + room);
+                        roomStatus.put("userCount", 0);
+                        roomStatus.put("submittedCount", 0);
                     }
 
-                    Map<String, Object> roomStatus = new HashMap<>();
-                    roomStatus.put("roomNumber", roomNumber);
-                    roomStatus.put("floor", floor);
-                    roomStatus.put("room", room);
-
-                    // ✅ 예시 테이블일 경우 다양한 상태 표시
-                    if (isDefaultConfig) {
-                        String status = exampleStatuses[exampleStatusIndex % exampleStatuses.length];
-                        String statusText = exampleStatusTexts[exampleStatusIndex % exampleStatusTexts.length];
-                        String description = exampleDescriptions[exampleStatusIndex % exampleDescriptions.length];
-                        int score = exampleScores[exampleStatusIndex % exampleScores.length];
-
-                        roomStatus.put("status", status);
-                        roomStatus.put("statusText", statusText);
-                        roomStatus.put("description", description);  // ✅ 상태 설명 추가
-
-                        // 빈 방이 아닌 경우 예시 사용자 데이터 추가
-                        if (!"EMPTY".equals(status)) {
-                            roomStatus.put("userCount", 1);
-                            roomStatus.put("submittedCount", "NOT_SUBMITTED".equals(status) ? 0 : 1);
-
-                            // 예시 사용자 정보
-                            List<Map<String, Object>> exampleUsers = new ArrayList<>();
-                            Map<String, Object> exampleUser = new HashMap<>();
-                            exampleUser.put("userId", "example_user_" + roomNumber);
-                            exampleUser.put("userName", "예시학생" + roomNumber);
-                            exampleUser.put("inspectionStatus", status);
-                            exampleUser.put("statusText", statusText);
-
-                            // 제출한 경우 점호 정보 추가
-                            if (!"NOT_SUBMITTED".equals(status)) {
-                                Map<String, Object> exampleInspection = new HashMap<>();
-                                exampleInspection.put("score", score);
-                                exampleInspection.put("inspectionDate", LocalDateTime.now().minusHours(2).toString());
-                                exampleInspection.put("geminiFeedback", getExampleFeedback(status));
-                                exampleUser.put("inspection", exampleInspection);
-                            }
-
-                            exampleUsers.add(exampleUser);
-                            roomStatus.put("users", exampleUsers);
-                        } else {
-                            roomStatus.put("userCount", 0);
-                            roomStatus.put("submittedCount", 0);
-                        }
-
-                        exampleStatusIndex++;
+                    exampleStatusIndex++;
+                } else {
+                    // ✅ 실제 데이터 처리 (기존 로직)
+                    // 해당 호실의 사용자 찾기
+                    List<User> roomUsers = usersByRoom.getOrDefault(roomNumber, List.of());
+
+                    if (roomUsers.isEmpty()) {
+                        roomStatus.put("status", "EMPTY");
+                        roomStatus.put("statusText", "빈 방");
+                        roomStatus.put("userCount", 0);
                     } else {
-                        // ✅ 실제 데이터 처리 (기존 로직)
-                        // 해당 호실의 사용자 찾기
-                        List<User> roomUsers = buildingUsers.stream()
-                                .filter(u -> roomNumber.equals(u.getRoomNumber()))
-                                .collect(Collectors.toList());
-
-                        if (roomUsers.isEmpty()) {
-                            roomStatus.put("status", "EMPTY");
-                            roomStatus.put("statusText", "빈 방");
-                            roomStatus.put("userCount", 0);
-                        } else {
-                            List<Map<String, Object>> userStatuses = new ArrayList<>();
-                            String overallStatus = "NOT_SUBMITTED";
-
-                            boolean hasPass = false;
-                            boolean hasFail = false;
-                            boolean hasRejected = false;
-                            boolean hasPending = false;
-                            int submittedCount = 0;
-
-                            for (User user : roomUsers) {
-                                Map<String, Object> userStatus = new HashMap<>();
-                                userStatus.put("userId", user.getId());
-                                userStatus.put("userName", decryptUserName(user.getName()));
-
-                                Inspection inspection = userInspectionMap.get(user.getId());
-
-                                if (inspection != null) {
-                                    submittedCount++;
-                                    userStatus.put("inspectionId", inspection.getId());
-                                    userStatus.put("inspectionStatus", inspection.getStatus());
-                                    userStatus.put("statusText", getStatusText(inspection.getStatus()));
-                                    userStatus.put("score", inspection.getScore());
-                                    userStatus.put("inspectionTime", inspection.getInspectionDate());
-
-                                    // ✅ inspection 상세 정보 추가
-                                    Map<String, Object> inspectionData = new HashMap<>();
-                                    inspectionData.put("id", inspection.getId());
-                                    inspectionData.put("score", inspection.getScore());
-                                    inspectionData.put("status", inspection.getStatus());
-                                    inspectionData.put("geminiFeedback", inspection.getGeminiFeedback());
-                                    inspectionData.put("inspectionDate", inspection.getInspectionDate());
-                                    userStatus.put("inspection", inspectionData);
-
-                                    String status = inspection.getStatus();
-                                    if ("PASS".equals(status)) hasPass = true;
-                                    else if ("FAIL".equals(status)) hasFail = true;
-                                    else if ("REJECTED".equals(status)) hasRejected = true;
-                                    else if ("PENDING".equals(status)) hasPending = true;
-                                } else {
-                                    userStatus.put("inspectionStatus", "NOT_SUBMITTED");
-                                    userStatus.put("statusText", "미제출");
-                                }
-
-                                userStatuses.add(userStatus);
+                        List<Map<String, Object>> userStatuses = new ArrayList<>();
+                        String overallStatus = "NOT_SUBMITTED";
+
+                        boolean hasPass = false;
+                        boolean hasFail = false;
+                        boolean hasRejected = false;
+                        boolean hasPending = false;
+                        int submittedCount = 0;
+
+                        for (User user : roomUsers) {
+                            Map<String, Object> userStatus = new HashMap<>();
+                            userStatus.put("userId", user.getId());
+                            userStatus.put("userName", decryptedUserName(userNames, user.getName()));
+
+                            Inspection inspection = userInspectionMap.get(user.getId());
+
+                            if (inspection != null) {
+                                submittedCount++;
+                                userStatus.put("inspectionId", inspection.getId());
+                                userStatus.put("inspectionStatus", inspection.getStatus());
+                                userStatus.put("statusText", getStatusText(inspection.getStatus()));
+                                userStatus.put("score", inspection.getScore());
+                                userStatus.put("inspectionTime", inspection.getInspectionDate());
+
+                                // ✅ inspection 상세 정보 추가
+                                Map<String, Object> inspectionData = new HashMap<>();
+                                inspectionData.put("id", inspection.getId());
+                                inspectionData.put("score", inspection.getScore());
+                                inspectionData.put("status", inspection.getStatus());
+                                inspectionData.put("geminiFeedback", inspection.getGeminiFeedback());
+                                inspectionData.put("inspectionDate", inspection.getInspectionDate());
+                                userStatus.put("inspection", inspectionData);
+
+                                String status = inspection.getStatus();
+                                if ("PASS".equals(status)) hasPass = true;
+                                else if ("FAIL".equals(status)) hasFail = true;
+                                else if ("REJECTED".equals(status)) hasRejected = true;
+                                else if ("PENDING".equals(status)) hasPending = true;
+                            } else {
+                                userStatus.put("inspectionStatus", "NOT_SUBMITTED");
+                                userStatus.put("statusText", "미제출");
                             }
 
-                            // 호실 전체 상태 결정
-                            if (hasRejected) overallStatus = "REJECTED";
-                            else if (hasFail) overallStatus = "FAIL";
-                            else if (hasPending) overallStatus = "PENDING";
-                            else if (submittedCount < roomUsers.size()) overallStatus = "NOT_SUBMITTED";
-                            else if (hasPass && submittedCount == roomUsers.size()) overallStatus = "PASS";
-
-                            roomStatus.put("status", overallStatus);
-                            roomStatus.put("statusText", getStatusText(overallStatus));
-                            roomStatus.put("userCount", roomUsers.size());
-                            roomStatus.put("submittedCount", submittedCount);
-                            roomStatus.put("users", userStatuses);
+                            userStatuses.add(userStatus);
                         }
-                    }
 
-                    floorData.put(String.valueOf(room), roomStatus);
-                }
-
-                matrix.put(String.valueOf(floor), floorData);
-            }
-
-            // 통계 정보
-            Map<String, Object> statistics = new HashMap<>();
-            int totalRooms = 0;
-            int passCount = 0;
-            int failCount = 0;
-            int rejectedCount = 0;
-            int pendingCount = 0;
-            int notSubmittedCount = 0;
-            int emptyCount = 0;
-
-            for (Map.Entry<String, Map<String, Object>> floorEntry : matrix.entrySet()) {
-                for (Map.Entry<String, Object> roomEntry : floorEntry.getValue().entrySet()) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> roomData = (Map<String, Object>) roomEntry.getValue();
-                    String status = (String) roomData.get("status");
-
-                    totalRooms++;
-                    switch (status) {
-                        case "PASS": passCount++; break;
-                        case "FAIL": failCount++; break;
-                        case "REJECTED": rejectedCount++; break;
-                        case "PENDING": pendingCount++; break;
-                        case "NOT_SUBMITTED": notSubmittedCount++; break;
-                        case "EMPTY": emptyCount++; break;
+                        // 호실 전체 상태 결정
+                        if (hasRejected) overallStatus = "REJECTED";
+                        else if (hasFail) overallStatus = "FAIL";
+                        else if (hasPending) overallStatus = "PENDING";
+                        else if (submittedCount < roomUsers.size()) overallStatus = "NOT_SUBMITTED";
+                        else if (hasPass && submittedCount == roomUsers.size()) overallStatus = "PASS";
+
+                        roomStatus.put("status", overallStatus);
+                        roomStatus.put("statusText", getStatusText(overallStatus));
+                        roomStatus.put("userCount", roomUsers.size());
+                        roomStatus.put("submittedCount", submittedCount);
+                        roomStatus.put("users", userStatuses);
                     }
                 }
+
+                floorData.put(String.valueOf(room), roomStatus);
             }
 
-            statistics.put("totalRooms", totalRooms);
-            statistics.put("occupiedRooms", totalRooms - emptyCount);
-            statistics.put("passCount", passCount);
-            statistics.put("failCount", failCount);
-            statistics.put("rejectedCount", rejectedCount);
-            statistics.put("pendingCount", pendingCount);
-            statistics.put("notSubmittedCount", notSubmittedCount);
-            statistics.put("emptyCount", emptyCount);
+            matrix.put(String.valueOf(floor), floorData);
+        }
 
-            // 결과 구성
-            Map<String, Object> result = new HashMap<>();
-            result.put("building", building);
-            result.put("date", targetDate.toString());
-            result.put("matrix", matrix);
-            result.put("statistics", statistics);
-            result.put("floors", floors);
-            result.put("rooms", rooms);
-
-            // ✅ 테이블 설정 정보 추가
-            Map<String, Object> configInfo = new HashMap<>();
-            configInfo.put("startFloor", startFloor);
-            configInfo.put("endFloor", endFloor);
-            configInfo.put("startRoom", startRoom);
-            configInfo.put("endRoom", endRoom);
-            configInfo.put("roomNumberFormat", roomNumberFormat);
-            configInfo.put("configId", tableConfig.getId());
-            configInfo.put("isDefault", isDefaultConfig);  // ✅ 기본값 여부
-            if (isDefaultConfig) {
-                configInfo.put("message", "⚠️ 예시 테이블입니다. 설정 버튼을 눌러 실제 층/호실 범위를 설정해주세요.");
+        // 통계 정보
+        Map<String, Object> statistics = new HashMap<>();
+        int totalRooms = 0;
+        int passCount = 0;
+        int failCount = 0;
+        int rejectedCount = 0;
+        int pendingCount = 0;
+        int notSubmittedCount = 0;
+        int emptyCount = 0;
+
+        for (Map.Entry<String, Map<String, Object>> floorEntry : matrix.entrySet()) {
+            for (Map.Entry<String, Object> roomEntry : floorEntry.getValue().entrySet()) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> roomData = (Map<String, Object>) roomEntry.getValue();
+                String status = (String) roomData.get("status");
+
+                totalRooms++;
+                switch (status) {
+                    case "PASS": passCount++; break;
+                    case "FAIL": failCount++; break;
+                    case "REJECTED": rejectedCount++; break;
+                    case "PENDING": pendingCount++; break;
+                    case "NOT_SUBMITTED": notSubmittedCount++; break;
+                    case "EMPTY": emptyCount++; break;
+                }
             }
-            result.put("tableConfig", configInfo);
+        }
 
-            logger.info("기숙사별 점호 현황 조회 완료 - 동: {}, 통과: {}, 실패: {}, 미제출: {}",
-                    building, passCount, failCount, notSubmittedCount);
+        statistics.put("totalRooms", totalRooms);
+        statistics.put("occupiedRooms", totalRooms - emptyCount);
+        statistics.put("passCount", passCount);
+        statistics.put("failCount", failCount);
+        statistics.put("rejectedCount", rejectedCount);
+        statistics.put("pendingCount", pendingCount);
+        statistics.put("notSubmittedCount", notSubmittedCount);
+        statistics.put("emptyCount", emptyCount);
+
+        // 결과 구성
+        Map<String, Object> result = new HashMap<>();
+        result.put("building", building);
+        result.put("date", targetDate.toString());
+        result.put("matrix", matrix);
+        result.put("statistics", statistics);
+        result.put("floors", floors);
+        result.put("rooms", rooms);
+
+        // ✅ 테이블 설정 정보 추가
+        Map<String, Object> configInfo = new HashMap<>();
+        configInfo.put("startFloor", startFloor);
+        configInfo.put("endFloor", endFloor);
+        configInfo.put("startRoom", startRoom);
+        configInfo.put("endRoom", endRoom);
+        configInfo.put("roomNumberFormat", roomNumberFormat);
+        configInfo.put("configId", tableConfig.getId());
+        configInfo.put("isDefault", isDefaultConfig);  // ✅ 기본값 여부
+        if (isDefaultConfig) {
+            configInfo.put("message", "⚠️ 예시 테이블입니다. 설정 버튼을 눌러 실제 층/호실 범위를 설정해주세요.");
+        }
+        result.put("tableConfig", configInfo);
 
-            return result;
+        logger.info("기숙사별 점호 현황 조회 완료 - 동: {}, 통과: {}, 실패: {}, 미제출: {}",
+                building, passCount, failCount, notSubmittedCount);
 
-        } catch (Exception e) {
-            logger.error("기숙사별 점호 현황 조회 실패 - 동: {}", building, e);
-            throw new RuntimeException("기숙사별 점호 현황 조회 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        return result;
     }
 
     /**
@@ -1010,6 +1324,14 @@ public class InspectionService {
         }
     }
 
+    /**
+     * 일괄 복호화 결과에서 사용자 이름 조회
+     */
+    private String decryptedUserName(Map<String, String> decryptedNames, String encryptedName) {
+        if (encryptedName == null) return "Unknown";
+        return decryptedNames.getOrDefault(encryptedName, encryptedName);
+    }
+
     /**
      * 호실 전체 상태 결정
      */
@@ -1058,7 +1380,49 @@ public class InspectionService {
         return response;
     }
 
-    private InspectionRequest.AdminResponse convertToAdminResponse(Inspection inspection) {
+    /**
+     * ✅ 관리자 응답 일괄 변환 - 사용자는 IN 쿼리 1회로 조회하고 이름은 사용자당 1회만 복호화
+     */
+    private List<InspectionRequest.AdminResponse> convertToAdminResponses(List<Inspection> inspections) {
+        if (inspections.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> userIds = new HashSet<>();
+        for (Inspection inspection : inspections) {
+            userIds.add(inspection.getUserId());
+        }
+
+        Map<String, User> usersById = new HashMap<>();
+        Map<String, String> userNames = new HashMap<>();
+        try {
+            List<String> encryptedNames = new ArrayList<>(userIds.size());
+            for (User user : userRepository.findAllById(userIds)) {
+                usersById.put(user.getId(), user);
+                encryptedNames.add(user.getName());
+            }
+            userNames = encryptionUtil.decryptAll(encryptedNames);
+        } catch (Exception e) {
+            logger.warn("사용자 정보 일괄 조회 실패: {}", e.getMessage());
+        }
+
+        List<InspectionRequest.AdminResponse> responses = new ArrayList<>(inspections.size());
+        for (Inspection inspection : inspections) {
+            InspectionRequest.AdminResponse response = toAdminResponse(inspection);
+            User user = usersById.get(inspection.getUserId());
+            if (user != null) {
+                response.setUserName(user.getName() != null
+                        ? decryptedUserName(userNames, user.getName()) : user.getId());
+                response.setDormitoryBuilding(user.getDormitoryBuilding());
+            } else {
+                response.setUserName(inspection.getUserId());
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private InspectionRequest.AdminResponse toAdminResponse(Inspection inspection) {
         InspectionRequest.AdminResponse response = new InspectionRequest.AdminResponse();
         response.setId(inspection.getId());
         response.setUserId(inspection.getUserId());
@@ -1072,6 +1436,11 @@ public class InspectionService {
         response.setInspectionDate(inspection.getInspectionDate());
         response.setCreatedAt(inspection.getCreatedAt());
         response.setUpdatedAt(inspection.getUpdatedAt());
+        return response;
+    }
+
+    private InspectionRequest.AdminResponse convertToAdminResponse(Inspection inspection) {
+        InspectionRequest.AdminResponse response = toAdminResponse(inspection);
 
         // 사용자 이름 조회 및 복호화
         try {
@@ -0,0 +1,279 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.dto.InspectionRequest;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점호 통계 집계 서비스 (메모리 롤업)
+ * ✅ 기동 시 그룹 쿼리 1회로 전체/날짜별/동별/날짜+동별 카운터 적재
+ * ✅ 이후 InspectionChangedEvent(커밋 후)로 증감만 반영 - 통계 조회 시 DB 조회 없음
+ * ✅ 동은 점호 기록에 저장된 제출 당시 동 기준 (재집계와 증감이 같은 동을 사용하므로 사용자가 동을 옮겨도 어긋나지 않음)
+ * ✅ 커밋 직전부터 반영까지 읽기 잠금을 유지 - 재집계 쿼리는 반영이 끝난 변경만 보므로 같은 점호가 두 번 반영되지 않음
+ * ✅ 인스턴스 로컬 집계이므로 다중 인스턴스 운영이나 대량 직접 수정 후에는 rebuild() 호출
+ */
+@Service
+public class InspectionStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InspectionStatisticsService.class);
+
+    private static final String UNASSIGNED_BUILDING = "";
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Counter total = new Counter();
+    private volatile Map<LocalDate, Counter> byDate = new ConcurrentHashMap<>();
+    private volatile Map<String, Counter> byBuilding = new ConcurrentHashMap<>();
+    private volatile Map<String, Counter> byDateAndBuilding = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    /**
+     * 상태별 누적 카운터
+     */
+    static class Counter {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder reInspections = new LongAdder();
+
+        void add(String status, boolean reInspection, long delta) {
+            total.add(delta);
+            if ("PASS".equals(status)) {
+                passed.add(delta);
+            } else if ("FAIL".equals(status)) {
+                failed.add(delta);
+            }
+            if (reInspection) {
+                reInspections.add(delta);
+            }
+        }
+
+        InspectionRequest.Statistics toStatistics(LocalDateTime date) {
+            return new InspectionRequest.Statistics(
+                    total.sum(), passed.sum(), failed.sum(), reInspections.sum(), date);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            Integer updated = new TransactionTemplate(transactionManager)
+                    .execute(status -> inspectionRepository.backfillDormitoryBuilding());
+            if (updated != null && updated > 0) {
+                logger.info("점호 기록 제출 당시 동 기입 - {}건", updated);
+            }
+        } catch (Exception e) {
+            logger.warn("점호 기록 동 기입 실패 - 동이 없는 기록은 미배정으로 집계됩니다: {}", e.getMessage());
+        }
+        ensureLoaded();
+    }
+
+    /**
+     * 점호 변경 반영 (발행 트랜잭션 커밋 후, 트랜잭션 없으면 즉시)
+     * 커밋 직전에 읽기 잠금을 잡아 커밋과 반영 사이에 재집계가 끼어들지 못하게 함
+     */
+    @EventListener
+    public void onInspectionChanged(InspectionChangedEvent event) {
+        if (event.getInspectionDate() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.readLock().lock();
+            try {
+                applyChange(event);
+            } finally {
+                lock.readLock().unlock();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!locked) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        applyChange(event);
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void applyChange(InspectionChangedEvent event) {
+        if (!loaded) {
+            // 적재 전 변경은 적재 쿼리에 포함됨
+            return;
+        }
+        LocalDate date = event.getInspectionDate().toLocalDate();
+        String building = event.getBuilding() != null ? event.getBuilding() : UNASSIGNED_BUILDING;
+
+        if (event.getPreviousStatus() != null) {
+            apply(date, building, event.getPreviousStatus(), event.isPreviousReInspection(), -1);
+        }
+        if (!event.isDeleted()) {
+            apply(date, building, event.getStatus(), event.isReInspection(), 1);
+        }
+    }
+
+    /**
+     * 전체 통계
+     */
+    public InspectionRequest.Statistics getTotalStatistics() {
+        ensureLoaded();
+        return total.toStatistics(LocalDateTime.now());
+    }
+
+    /**
+     * 날짜별 통계
+     */
+    public InspectionRequest.Statistics getStatisticsByDate(LocalDate date) {
+        ensureLoaded();
+        return statisticsOf(byDate.get(date), date.atStartOfDay());
+    }
+
+    /**
+     * 동별 통계 (전체 기간)
+     */
+    public InspectionRequest.Statistics getStatisticsByBuilding(String building) {
+        ensureLoaded();
+        return statisticsOf(byBuilding.get(building), LocalDateTime.now());
+    }
+
+    /**
+     * 날짜 + 동별 통계
+     */
+    public InspectionRequest.Statistics getStatisticsByDateAndBuilding(LocalDate date, String building) {
+        ensureLoaded();
+        return statisticsOf(byDateAndBuilding.get(dateBuildingKey(date, building)), date.atStartOfDay());
+    }
+
+    /**
+     * DB 기준 전체 재집계
+     */
+    public void rebuild() {
+        if (lock.getReadHoldCount() > 0) {
+            // 커밋 대기 중인 변경을 가진 스레드에서 재집계하면 자기 자신을 기다리게 됨
+            throw new RuntimeException("점호 변경 반영 중에는 통계를 재집계할 수 없습니다.");
+        }
+        lock.writeLock().lock();
+        try {
+            Counter newTotal = new Counter();
+            Map<LocalDate, Counter> newByDate = new ConcurrentHashMap<>();
+            Map<String, Counter> newByBuilding = new ConcurrentHashMap<>();
+            Map<String, Counter> newByDateAndBuilding = new ConcurrentHashMap<>();
+
+            List<Object[]> rows = inspectionRepository.countGroupedByDateBuildingAndStatus();
+            for (Object[] row : rows) {
+                LocalDate date = toLocalDate(row[0]);
+                String building = row[1] != null ? (String) row[1] : UNASSIGNED_BUILDING;
+                String status = (String) row[2];
+                boolean reInspection = Boolean.TRUE.equals(row[3]);
+                long count = ((Number) row[4]).longValue();
+
+                newTotal.add(status, reInspection, count);
+                if (date != null) {
+                    newByDate.computeIfAbsent(date, k -> new Counter()).add(status, reInspection, count);
+                    newByDateAndBuilding.computeIfAbsent(dateBuildingKey(date, building), k -> new Counter())
+                            .add(status, reInspection, count);
+                }
+                newByBuilding.computeIfAbsent(building, k -> new Counter()).add(status, reInspection, count);
+            }
+
+            this.total = newTotal;
+            this.byDate = newByDate;
+            this.byBuilding = newByBuilding;
+            this.byDateAndBuilding = newByDateAndBuilding;
+            this.loaded = true;
+
+            logger.info("점호 통계 집계 완료 - 그룹 수: {}, 전체: {}", rows.size(), newTotal.total.sum());
+
+        } catch (Exception e) {
+            logger.error("점호 통계 집계 중 오류 발생", e);
+            throw new RuntimeException("통계 집계에 실패했습니다: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void apply(LocalDate date, String building, String status, boolean reInspection, long delta) {
+        total.add(status, reInspection, delta);
+        byDate.computeIfAbsent(date, k -> new Counter()).add(status, reInspection, delta);
+        byBuilding.computeIfAbsent(building, k -> new Counter()).add(status, reInspection, delta);
+        byDateAndBuilding.computeIfAbsent(dateBuildingKey(date, building), k -> new Counter())
+                .add(status, reInspection, delta);
+    }
+
+    private InspectionRequest.Statistics statisticsOf(Counter counter, LocalDateTime date) {
+        return counter != null ? counter.toStatistics(date)
+                : new InspectionRequest.Statistics(0, 0, 0, 0, date);
+    }
+
+    private String dateBuildingKey(LocalDate date, String building) {
+        return date + "|" + (building != null ? building : UNASSIGNED_BUILDING);
+    }
+
+    /**
+     * DATE() 결과 변환 (방언에 따라 java.sql.Date 또는 LocalDate)
+     */
+    private LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toLocalDate();
+        }
+        return LocalDate.parse(value.toString().substring(0, 10));
+    }
+}
@@ -115,10 +115,13 @@ public class InspectionValidationService {
                 }
             }
 
-            // 3. AI 방 사진 검증
+            // 3. AI 분석 (단일 호출 결과를 방 사진 검증과 점수 평가에 공통 사용)
+            GeminiService.AnalysisResult analysis = geminiService.analyzeInspection(imageFile);
+
+            // 3-1. AI 방 사진 검증
             boolean isRoomPhoto = true;
             if (settings != null && Boolean.TRUE.equals(settings.getRoomPhotoValidationEnabled())) {
-                RoomPhotoValidationResult roomResult = validateRoomPhoto(imageFile);
+                RoomPhotoValidationResult roomResult = validateRoomPhoto(analysis);
                 isRoomPhoto = roomResult.isRoomPhoto;
                 details.put("isRoomPhoto", isRoomPhoto);
                 details.put("roomPhotoConfidence", roomResult.confidence);
@@ -133,8 +136,8 @@ public class InspectionValidationService {
             }
 
             // 4. AI 점호 평가
-            finalScore = geminiService.evaluateInspection(imageFile);
-            String geminiFeedback = geminiService.getInspectionFeedback(imageFile);
+            finalScore = analysis.getScore();
+            String geminiFeedback = analysis.getFeedback();
 
             details.put("aiScore", finalScore);
             details.put("aiFeedback", geminiFeedback);
@@ -158,10 +161,10 @@ public class InspectionValidationService {
         }
     }
 
-    private RoomPhotoValidationResult validateRoomPhoto(MultipartFile imageFile) {
+    private RoomPhotoValidationResult validateRoomPhoto(GeminiService.AnalysisResult analysis) {
         try {
-            String feedback = geminiService.getInspectionFeedback(imageFile);
-            boolean isRoom = !containsNonRoomIndicators(feedback);
+            String feedback = analysis.getFeedback();
+            boolean isRoom = !analysis.isNotRoomPhoto() && !containsNonRoomIndicators(feedback);
             String reason = isRoom ? "기숙사 방 사진으로 확인됨" : extractNonRoomReason(feedback);
             double confidence = isRoom ? 0.9 : 0.85;
 
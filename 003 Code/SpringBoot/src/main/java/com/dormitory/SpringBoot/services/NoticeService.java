@@ -1,24 +1,19 @@
 package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.Notice;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.repository.NoticeRepository;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 공지사항 비즈니스 로직 서비스
@@ -31,77 +26,31 @@ public class NoticeService {
     @Autowired
     private NoticeRepository noticeRepository;
 
-    @Value("${file.upload.path:/app/uploads}")
-    private String configuredUploadPath;
-
-    // 실제 사용할 업로드 경로 (런타임에 결정)
-    private String uploadBasePath;
-    private String noticeUploadDirectory;
-
-    /**
-     * 서비스 초기화 시 업로드 경로 설정
-     */
-    @PostConstruct
-    public void init() {
-        this.uploadBasePath = resolveUploadPath();
-        this.noticeUploadDirectory = uploadBasePath + "/notices/";
-
-        // 디렉토리 생성
-        ensureDirectoryExists(noticeUploadDirectory);
-
-        System.out.println("[NoticeService] 업로드 기본 경로: " + uploadBasePath);
-        System.out.println("[NoticeService] 공지사항 업로드 경로: " + noticeUploadDirectory);
-    }
+    @Autowired
+    private FileService fileService;
 
     /**
-     * 업로드 경로 결정
+     * 모든 공지사항 조회 (고정 공지사항 우선)
      */
-    private String resolveUploadPath() {
-        // 1. 환경변수 확인
-        String envPath = System.getenv("FILE_UPLOAD_PATH");
-        if (envPath != null && !envPath.isEmpty()) {
-            return envPath;
-        }
-
-        // 2. Railway Volume 경로 확인
-        File railwayVolume = new File("/app/uploads");
-        if (railwayVolume.exists() || isRunningOnRailway()) {
-            return "/app/uploads";
-        }
-
-        // 3. 로컬 개발 환경
-        return System.getProperty("user.dir") + "/uploads";
+    @Transactional(readOnly = true)
+    public List<Notice> getAllNotices() {
+        return noticeRepository.findAllOrderByPinnedAndCreatedAt();
     }
 
     /**
-     * Railway 환경인지 확인
+     * ✅ 공지사항 키셋 페이지 조회 (생성일시, ID 역순)
      */
-    private boolean isRunningOnRailway() {
-        return System.getenv("RAILWAY_ENVIRONMENT") != null ||
-                System.getenv("RAILWAY_PROJECT_ID") != null;
-    }
+    @Transactional(readOnly = true)
+    public CursorPage<Notice> getNoticesPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-    /**
-     * 디렉토리가 없으면 생성
-     */
-    private void ensureDirectoryExists(String path) {
-        try {
-            Path dirPath = Paths.get(path);
-            if (!Files.exists(dirPath)) {
-                Files.createDirectories(dirPath);
-                System.out.println("[NoticeService] 디렉토리 생성: " + path);
-            }
-        } catch (IOException e) {
-            System.err.println("[NoticeService] 디렉토리 생성 실패: " + path + " - " + e.getMessage());
-        }
-    }
+        List<Notice> fetched = after == null
+                ? noticeRepository.findFirstPage(limit)
+                : noticeRepository.findPageAfter(after.getTime(), after.getLongId(), limit);
 
-    /**
-     * 모든 공지사항 조회 (고정 공지사항 우선)
-     */
-    @Transactional(readOnly = true)
-    public List<Notice> getAllNotices() {
-        return noticeRepository.findAllOrderByPinnedAndCreatedAt();
+        return CursorPage.of(fetched, pageSize, Notice::getCreatedAt, Notice::getId, notice -> notice);
     }
 
     /**
@@ -171,12 +120,12 @@ public class NoticeService {
 
             // 새 파일이 업로드된 경우
             if (file != null && !file.isEmpty()) {
+                // 새 파일 저장 (같은 내용이면 참조 수만 증가하므로 기존 파일보다 먼저 저장)
+                String imagePath = saveUploadedFile(file);
                 // 기존 파일 삭제
                 if (notice.getImagePath() != null) {
                     deleteUploadedFile(notice.getImagePath());
                 }
-                // 새 파일 저장
-                String imagePath = saveUploadedFile(file);
                 notice.setImagePath(imagePath);
             }
 
@@ -282,53 +231,16 @@ public class NoticeService {
 
     /**
      * 파일 업로드 처리
-     * ✅ 수정: 동적 경로 사용
+     * ✅ 공용 파일 저장소 사용 (DB에는 URL 매핑용 "uploads/notices/..." 형식으로 저장)
      */
     private String saveUploadedFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 확인/생성
-        ensureDirectoryExists(noticeUploadDirectory);
-
-        // 파일명 생성 (UUID + 원본 확장자)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        String newFilename = UUID.randomUUID().toString() + extension;
-
-        // 파일 저장 (절대 경로)
-        Path filePath = Paths.get(noticeUploadDirectory, newFilename);
-        Files.copy(file.getInputStream(), filePath);
-
-        System.out.println("[NoticeService] 파일 저장 완료: " + filePath);
-
-        // DB에 저장할 상대 경로 반환 (URL 매핑용)
-        return "uploads/notices/" + newFilename;
+        return fileService.toLegacyPath(fileService.storeFile(file, "notices"));
     }
 
     /**
-     * 업로드된 파일 삭제
-     * ✅ 수정: 동적 경로 사용
+     * 업로드된 파일 삭제 (커밋된 뒤, 다른 공지사항이 같은 내용을 참조하면 참조 수만 감소)
      */
     private void deleteUploadedFile(String relativePath) {
-        try {
-            if (relativePath != null && !relativePath.isEmpty()) {
-                // 상대 경로에서 실제 파일 경로 생성
-                String actualPath;
-                if (relativePath.startsWith("uploads/")) {
-                    // "uploads/notices/xxx.jpg" -> "/app/uploads/notices/xxx.jpg"
-                    actualPath = uploadBasePath + "/" + relativePath.substring("uploads/".length());
-                } else {
-                    actualPath = uploadBasePath + "/" + relativePath;
-                }
-
-                Path path = Paths.get(actualPath);
-                if (Files.deleteIfExists(path)) {
-                    System.out.println("[NoticeService] 파일 삭제 완료: " + actualPath);
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("[NoticeService] 파일 삭제 실패: " + relativePath + " - " + e.getMessage());
-        }
+        fileService.deleteFileAfterCommit(relativePath);
     }
-}
\ No newline at end of file
+}
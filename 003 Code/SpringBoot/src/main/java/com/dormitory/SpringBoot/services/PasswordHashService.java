@@ -0,0 +1,157 @@
+package com.dormitory.SpringBoot.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시/검증 서비스
+ * ✅ BCrypt 연산을 전용 스레드 풀(passwordHashExecutor)에서 실행 - 로그인 폭주 시에도 CPU를 전부 점유하지 않음
+ * ✅ 대기열이 가득 차거나 제한 시간을 넘기면 즉시 OverloadedException (컨트롤러에서 503 응답)
+ * ✅ 저장된 해시의 강도가 설정과 다르면 재해시 필요 여부 판단 (로그인 성공 시 교체)
+ * ✅ 대기열 길이/실행 중 작업 수/거절 횟수/처리 시간을 /actuator/metrics 의 auth.password-hash.* 로 노출
+ */
+@Service
+public class PasswordHashService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashService.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.password-hash.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    private Counter rejectedCounter;
+    private Timer hashTimer;
+
+    /**
+     * 해시 작업 과부하 (대기열 포화 또는 대기 시간 초과)
+     */
+    public static class OverloadedException extends RuntimeException {
+        public OverloadedException(String message) {
+            super(message);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (meterRegistry == null) {
+            return;
+        }
+        ThreadPoolExecutor pool = passwordHashExecutor.getThreadPoolExecutor();
+        Gauge.builder("auth.password-hash.queue-size", pool, p -> p.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password-hash.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password-hash.rejected")
+                .description("과부하로 거절된 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        hashTimer = Timer.builder("auth.password-hash.duration")
+                .description("비밀번호 해시 작업 처리 시간 (대기 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시의 강도가 현재 설정과 다른지 확인 (BCrypt 형식이 아니면 재해시 대상)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long startedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = passwordHashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            if (rejectedCounter != null) {
+                rejectedCounter.increment();
+            }
+            logger.warn("비밀번호 해시 대기열 포화 - 대기: {}",
+                    passwordHashExecutor.getThreadPoolExecutor().getQueue().size());
+            throw new OverloadedException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            if (rejectedCounter != null) {
+                rejectedCounter.increment();
+            }
+            logger.warn("비밀번호 해시 대기 시간 초과 - {}ms", timeoutMillis);
+            throw new OverloadedException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("비밀번호 처리 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        } finally {
+            if (hashTimer != null) {
+                hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.Inspection;
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import com.dormitory.SpringBoot.utils.PerceptualHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 점호 사진 지각 해시 색인 (재사용 사진 탐지)
+ * ✅ 저장된 점호 사진마다 64비트 dHash를 inspections.image_hash에 보관하고, 메모리에 사용자별/(동, 호실)별 BK-트리로 색인
+ * ✅ 제출 시 조회는 해밍 거리 기준 트리 탐색만 수행 (파일 읽기/모델 호출 없음)
+ * ✅ 기동 시 DB의 해시로 색인 적재 후, 해시가 없는 기존 점호는 유지보수 스레드에서 uploads/inspections 사진을 읽어 보충
+ * ✅ 오늘 이전 사진만 비교 - 같은 날 재검이나 룸메이트가 같은 방을 찍은 사진은 재사용으로 보지 않음
+ */
+@Service
+public class PhotoHashIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoHashIndexService.class);
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("maintenanceTaskExecutor")
+    private ThreadPoolTaskExecutor maintenanceTaskExecutor;
+
+    @Autowired
+    @Qualifier("inspectionTaskExecutor")
+    private ThreadPoolTaskExecutor inspectionTaskExecutor;
+
+    @Value("${inspection.prescreen.sample-dimension:512}")
+    private int sampleDimension;
+
+    @Value("${inspection.photo-index.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${inspection.photo-index.backfill-chunk-size:100}")
+    private int backfillChunkSize;
+
+    @Value("${inspection.photo-index.auto-backfill:true}")
+    private boolean autoBackfill;
+
+    private volatile Index index = new Index();
+    private volatile Index building;
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile long backfilledCount = 0;
+    private volatile LocalDateTime lastRebuildAt;
+
+    /**
+     * 색인 항목
+     */
+    public static class Entry {
+        private final Long inspectionId;
+        private final String userId;
+        private final String dormitoryBuilding;
+        private final String roomNumber;
+        private final LocalDate date;
+        private final long hash;
+
+        public Entry(Long inspectionId, String userId, String dormitoryBuilding, String roomNumber,
+                     LocalDate date, long hash) {
+            this.inspectionId = inspectionId;
+            this.userId = userId;
+            this.dormitoryBuilding = dormitoryBuilding;
+            this.roomNumber = roomNumber;
+            this.date = date;
+            this.hash = hash;
+        }
+
+        public Long getInspectionId() { return inspectionId; }
+        public String getUserId() { return userId; }
+        public String getDormitoryBuilding() { return dormitoryBuilding; }
+        public String getRoomNumber() { return roomNumber; }
+        public LocalDate getDate() { return date; }
+        public long getHash() { return hash; }
+    }
+
+    /**
+     * 재사용 의심 결과
+     */
+    public static class Match {
+        private final Entry entry;
+        private final int distance;
+
+        public Match(Entry entry, int distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+
+        public Entry getEntry() { return entry; }
+        public int getDistance() { return distance; }
+    }
+
+    /**
+     * 사용자별/(동, 호실)별 트리 묶음 (재구성 시 새로 만들어 교체)
+     */
+    private static class Index {
+        private final Map<String, BkTree> userTrees = new ConcurrentHashMap<>();
+        private final Map<String, BkTree> roomTrees = new ConcurrentHashMap<>();
+        private final Set<Long> indexedIds = ConcurrentHashMap.newKeySet();
+
+        void add(Entry entry) {
+            if (!indexedIds.add(entry.getInspectionId())) {
+                return;
+            }
+            if (entry.getUserId() != null) {
+                userTrees.computeIfAbsent(entry.getUserId(), key -> new BkTree()).add(entry);
+            }
+            String roomKey = roomKey(entry.getDormitoryBuilding(), entry.getRoomNumber());
+            if (roomKey != null) {
+                roomTrees.computeIfAbsent(roomKey, key -> new BkTree()).add(entry);
+            }
+        }
+    }
+
+    /**
+     * 호실 트리 키 - 호실 번호는 동마다 반복되므로 동과 함께 구분 (동 정보가 없는 기록은 호실로만 묶음)
+     */
+    private static String roomKey(String dormitoryBuilding, String roomNumber) {
+        if (roomNumber == null) {
+            return null;
+        }
+        return (dormitoryBuilding != null ? dormitoryBuilding : "") + "|" + roomNumber;
+    }
+
+    /**
+     * 해밍 거리 BK-트리 (자식은 부모와의 거리별로 보관, 탐색 시 삼각 부등식으로 가지치기)
+     * 같은 키(사용자/호실)의 사진 수는 많지 않으므로 트리 단위 잠금으로 충분
+     */
+    static class BkTree {
+        private Node root;
+
+        private static class Node {
+            private final Entry entry;
+            private final Map<Integer, Node> children = new HashMap<>(4);
+
+            Node(Entry entry) {
+                this.entry = entry;
+            }
+        }
+
+        synchronized void add(Entry entry) {
+            if (root == null) {
+                root = new Node(entry);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = PerceptualHash.distance(node.entry.hash, entry.hash);
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(entry));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        synchronized List<Match> search(long hash, int maxDistance) {
+            List<Match> matches = new ArrayList<>();
+            if (root == null) {
+                return matches;
+            }
+            List<Node> stack = new ArrayList<>();
+            stack.add(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.remove(stack.size() - 1);
+                int distance = PerceptualHash.distance(node.entry.hash, hash);
+                if (distance <= maxDistance) {
+                    matches.add(new Match(node.entry, distance));
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        stack.add(child.getValue());
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.warn("사진 해시 색인 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인 재구성 시작 - DB의 해시로 다시 적재한 뒤 해시가 없는 점호를 보충 (유지보수 스레드)
+     */
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new RuntimeException("사진 해시 색인을 이미 재구성하고 있습니다.");
+        }
+        try {
+            maintenanceTaskExecutor.execute(this::runRebuild);
+        } catch (Exception e) {
+            rebuilding.set(false);
+            throw new RuntimeException("사진 해시 색인 재구성을 시작할 수 없습니다: " + e.getMessage());
+        }
+        return getStatus();
+    }
+
+    /**
+     * 색인 상태
+     */
+    public Map<String, Object> getStatus() {
+        Index current = index;
+        Map<String, Object> status = new HashMap<>();
+        status.put("rebuilding", rebuilding.get());
+        status.put("indexedCount", current.indexedIds.size());
+        status.put("removedCount", removedIds.size());
+        status.put("userCount", current.userTrees.size());
+        status.put("roomCount", current.roomTrees.size());
+        status.put("backfilledCount", backfilledCount);
+        status.put("lastRebuildAt", lastRebuildAt);
+        return status;
+    }
+
+    /**
+     * 재사용 의심 사진 조회 (본인/같은 동 같은 호실의 오늘 이전 사진)
+     * 같은 날 재검은 같은 방을 같은 자리에서 다시 찍는 것이므로 오늘 사진(방금 저장된 FAIL 포함)과는 비교하지 않음
+     *
+     * @return 가장 가까운 항목, 없으면 empty
+     */
+    public Optional<Match> findReuse(String userId, String dormitoryBuilding, String roomNumber,
+                                     long hash, int maxDistance) {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        Index current = index;
+        Match best = null;
+
+        BkTree userTree = userId != null ? current.userTrees.get(userId) : null;
+        if (userTree != null) {
+            best = closest(best, userTree.search(hash, maxDistance), today);
+        }
+        String roomKey = roomKey(dormitoryBuilding, roomNumber);
+        BkTree roomTree = roomKey != null ? current.roomTrees.get(roomKey) : null;
+        if (roomTree != null) {
+            best = closest(best, roomTree.search(hash, maxDistance), today);
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private Match closest(Match best, List<Match> matches, LocalDate before) {
+        for (Match match : matches) {
+            if (removedIds.contains(match.getEntry().getInspectionId())) {
+                continue;
+            }
+            if (before != null && !match.getEntry().getDate().isBefore(before)) {
+                continue;
+            }
+            if (best == null || match.getDistance() < best.getDistance()) {
+                best = match;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 점호 변경 반영 (커밋 후) - 새 기록은 색인 추가(해시가 없으면 사진을 읽어 계산), 삭제는 제외 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInspectionChanged(InspectionChangedEvent event) {
+        if (event.getInspectionId() == null) {
+            return;
+        }
+        if (event.isDeleted()) {
+            removedIds.add(event.getInspectionId());
+            return;
+        }
+        if (!event.isCreated()) {
+            return;
+        }
+
+        try {
+            inspectionRepository.findById(event.getInspectionId()).ifPresent(inspection -> {
+                if (inspection.getImageHash() != null) {
+                    add(inspection, inspection.getImageHash());
+                } else {
+                    inspectionTaskExecutor.execute(() -> hashAndIndex(inspection));
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("사진 해시 색인 추가 실패 - 점호 ID: {}, {}", event.getInspectionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 사진 파일의 dHash (제출 시 사전 검사와 같은 축소 디코딩)
+     *
+     * @return 파일이 없거나 디코딩할 수 없으면 null
+     */
+    public Long computeHash(String imagePath) {
+        String fullPath = imagePath != null ? fileService.getFullPath(imagePath) : null;
+        if (fullPath == null) {
+            return null;
+        }
+        Path path = Paths.get(fullPath);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            PerceptualHash.GraySample sample = PerceptualHash.readGraySample(in, sampleDimension);
+            return sample != null ? PerceptualHash.dHash(sample.getGray()) : null;
+        } catch (Exception e) {
+            logger.debug("사진 해시 계산 실패 - {}: {}", imagePath, e.getMessage());
+            return null;
+        }
+    }
+
+    private void hashAndIndex(Inspection inspection) {
+        Long hash = computeHash(inspection.getImagePath());
+        if (hash == null) {
+            return;
+        }
+        saveHash(inspection.getId(), hash);
+        add(inspection, hash);
+    }
+
+    private void saveHash(Long inspectionId, Long hash) {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> inspectionRepository.updateImageHash(inspectionId, hash));
+    }
+
+    private void add(Inspection inspection, long hash) {
+        LocalDate date = inspection.getInspectionDate() != null
+                ? inspection.getInspectionDate().toLocalDate() : LocalDate.now(KOREA_ZONE);
+        add(new Entry(inspection.getId(), inspection.getUserId(), inspection.getDormitoryBuilding(),
+                inspection.getRoomNumber(), date, hash));
+    }
+
+    /**
+     * 현재 색인에 추가 (재구성 중이면 새 색인에도 추가하여 교체 시 누락 방지)
+     */
+    private void add(Entry entry) {
+        index.add(entry);
+        Index next = building;
+        if (next != null) {
+            next.add(entry);
+        }
+    }
+
+    private void runRebuild() {
+        long startedAt = System.currentTimeMillis();
+        Index next = new Index();
+        building = next;
+        try {
+            LocalDateTime since = LocalDate.now(KOREA_ZONE).minusDays(retentionDays).atStartOfDay();
+
+            // 적재 전까지의 삭제 표시만 정리 대상 (적재 중 들어온 삭제는 새 색인에 반영되지 않았을 수 있음)
+            Set<Long> removedBeforeLoad = new HashSet<>(removedIds);
+
+            // 1. DB에 저장된 해시로 새 색인 적재 (파일 읽기 없음) 후 교체
+            List<Object[]> rows = inspectionRepository.findImageHashesSince(since);
+            for (Object[] row : rows) {
+                next.add(toEntry(row[0], row[1], row[5], row[2], row[4], (Long) row[3]));
+            }
+            index = next;
+            removedIds.removeAll(removedBeforeLoad);
+            logger.info("사진 해시 색인 적재 - {}건, {}ms", rows.size(), System.currentTimeMillis() - startedAt);
+
+            // 2. 해시가 없는 점호 보충 (uploads/inspections 사진 읽기)
+            if (autoBackfill) {
+                backfill(since);
+            }
+            lastRebuildAt = LocalDateTime.now();
+
+        } catch (Exception e) {
+            logger.error("사진 해시 색인 재구성 중 오류 발생", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private void backfill(LocalDateTime since) {
+        long lastId = 0L;
+        long count = 0;
+
+        while (true) {
+            List<Object[]> rows = inspectionRepository.findMissingImageHashes(lastId, since, PageRequest.of(0, backfillChunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                lastId = id;
+                Long hash = computeHash((String) row[1]);
+                if (hash == null) {
+                    continue;
+                }
+                saveHash(id, hash);
+                add(toEntry(id, row[2], row[5], row[3], row[4], hash));
+                count++;
+            }
+            backfilledCount = count;
+        }
+
+        if (count > 0) {
+            logger.info("사진 해시 보충 완료 - {}건", count);
+        }
+    }
+
+    private Entry toEntry(Object id, Object userId, Object dormitoryBuilding, Object roomNumber,
+                          Object inspectionDate, long hash) {
+        LocalDate date = inspectionDate != null
+                ? ((LocalDateTime) inspectionDate).toLocalDate() : LocalDate.now(KOREA_ZONE);
+        return new Entry((Long) id, (String) userId, (String) dormitoryBuilding, (String) roomNumber, date, hash);
+    }
+}
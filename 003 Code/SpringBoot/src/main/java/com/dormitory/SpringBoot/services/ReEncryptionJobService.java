@@ -0,0 +1,254 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.ReEncryptionProgress;
+import com.dormitory.SpringBoot.repository.ReEncryptionProgressRepository;
+import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 개인정보 재암호화 작업 (기존 AES/ECB 또는 이전 키 버전 → 활성 키 버전 AES-GCM)
+ * ✅ 유지보수 스레드에서 ID 순 키셋 청크로 진행, 청크마다 배치 UPDATE + 진행 상태를 같은 트랜잭션에 저장
+ * ✅ 청크 사이 대기 시간으로 DB 부하 제한, 중단/재시작 시 마지막 ID부터 이어서 진행
+ * ✅ UPDATE는 읽은 값과 현재 값이 같을 때만 적용 - 동시에 수정된 행은 앱이 이미 새 형식으로 저장한 것
+ * ✅ 진행 중에도 EncryptionUtil이 두 형식을 모두 복호화하므로 서비스 중단 없음
+ */
+@Service
+public class ReEncryptionJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReEncryptionJobService.class);
+
+    private static final String TARGET_USERS = "users";
+
+    private static final String UPDATE_USER_SQL =
+            "UPDATE users SET name_encrypted = ?, email_encrypted = ?, phone_encrypted = ? " +
+            "WHERE user_id = ? AND name_encrypted <=> ? AND email_encrypted <=> ? AND phone_encrypted <=> ?";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReEncryptionProgressRepository progressRepository;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("maintenanceTaskExecutor")
+    private ThreadPoolTaskExecutor maintenanceTaskExecutor;
+
+    @Value("${app.encryption.reencrypt.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.encryption.reencrypt.pause-ms:200}")
+    private long pauseMillis;
+
+    @Value("${app.encryption.reencrypt.auto-start:false}")
+    private boolean autoStart;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean pauseRequested = false;
+
+    /**
+     * 자동 시작 설정 시 기동 후 시작 (완료되지 않은 작업은 이어서 진행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!autoStart) {
+            return;
+        }
+        ReEncryptionProgress progress = progressRepository.findById(TARGET_USERS).orElse(null);
+        if (progress != null && "COMPLETED".equals(progress.getStatus())
+                && progress.getKeyVersion() == encryptionUtil.getActiveKeyVersion()) {
+            return;
+        }
+        start();
+    }
+
+    /**
+     * 재암호화 시작/재개
+     */
+    public Map<String, Object> start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("재암호화 작업이 이미 실행 중입니다.");
+        }
+        pauseRequested = false;
+
+        try {
+            maintenanceTaskExecutor.execute(this::run);
+        } catch (Exception e) {
+            running.set(false);
+            throw new RuntimeException("재암호화 작업을 시작할 수 없습니다: " + e.getMessage());
+        }
+
+        logger.info("재암호화 작업 시작 요청 - 활성 키 버전: {}", encryptionUtil.getActiveKeyVersion());
+        return getStatus();
+    }
+
+    /**
+     * 일시 중지 요청 (진행 중인 청크 완료 후 중지)
+     */
+    public Map<String, Object> pause() {
+        pauseRequested = true;
+        logger.info("재암호화 작업 일시 중지 요청");
+        return getStatus();
+    }
+
+    /**
+     * 진행 상태
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("running", running.get());
+        status.put("activeKeyVersion", encryptionUtil.getActiveKeyVersion());
+
+        progressRepository.findById(TARGET_USERS).ifPresent(progress -> {
+            status.put("target", progress.getTarget());
+            status.put("status", progress.getStatus());
+            status.put("keyVersion", progress.getKeyVersion());
+            status.put("lastId", progress.getLastId());
+            status.put("scannedCount", progress.getScannedCount());
+            status.put("updatedCount", progress.getUpdatedCount());
+            status.put("message", progress.getMessage());
+            status.put("startedAt", progress.getStartedAt());
+            status.put("completedAt", progress.getCompletedAt());
+            status.put("updatedAt", progress.getUpdatedAt());
+        });
+        return status;
+    }
+
+    private void run() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int activeVersion = encryptionUtil.getActiveKeyVersion();
+        ReEncryptionProgress progress = null;
+
+        try {
+            progress = progressRepository.findById(TARGET_USERS)
+                    .orElseGet(() -> new ReEncryptionProgress(TARGET_USERS, activeVersion));
+            if (progress.getKeyVersion() != activeVersion || "COMPLETED".equals(progress.getStatus())) {
+                progress.restart(activeVersion);
+            }
+            progress.setStatus("RUNNING");
+            progress.setMessage(null);
+            progress.setUpdatedAt(LocalDateTime.now());
+            progress = progressRepository.save(progress);
+
+            logger.info("재암호화 작업 진행 - 대상: {}, 시작 ID: '{}'", TARGET_USERS, progress.getLastId());
+
+            while (true) {
+                if (pauseRequested) {
+                    progress.setStatus("PAUSED");
+                    progress.setUpdatedAt(LocalDateTime.now());
+                    progressRepository.save(progress);
+                    logger.info("재암호화 작업 일시 중지 - 마지막 ID: {}", progress.getLastId());
+                    return;
+                }
+
+                List<Object[]> rows = userRepository.findEncryptedFieldsAfter(
+                        progress.getLastId(), PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    progress.setStatus("COMPLETED");
+                    progress.setCompletedAt(LocalDateTime.now());
+                    progress.setUpdatedAt(LocalDateTime.now());
+                    progressRepository.save(progress);
+                    logger.info("재암호화 작업 완료 - 검사: {}, 변경: {}",
+                            progress.getScannedCount(), progress.getUpdatedCount());
+                    return;
+                }
+
+                ReEncryptionProgress current = progress;
+                progress = transactionTemplate.execute(status -> processUserChunk(rows, current));
+
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(progress, "작업 스레드가 중단되었습니다.");
+        } catch (Exception e) {
+            logger.error("재암호화 작업 중 오류 발생", e);
+            markFailed(progress, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 청크 재암호화 + 진행 상태 저장 (하나의 트랜잭션)
+     */
+    private ReEncryptionProgress processUserChunk(List<Object[]> rows, ReEncryptionProgress progress) {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            String name = (String) row[1];
+            String email = (String) row[2];
+            String phoneNumber = (String) row[3];
+
+            if (encryptionUtil.needsReEncryption(name)
+                    || encryptionUtil.needsReEncryption(email)
+                    || encryptionUtil.needsReEncryption(phoneNumber)) {
+                batchArgs.add(new Object[]{
+                        encryptionUtil.reEncrypt(name),
+                        encryptionUtil.reEncrypt(email),
+                        encryptionUtil.reEncrypt(phoneNumber),
+                        row[0], name, email, phoneNumber
+                });
+            }
+        }
+
+        int updated = 0;
+        if (!batchArgs.isEmpty()) {
+            for (int count : jdbcTemplate.batchUpdate(UPDATE_USER_SQL, batchArgs)) {
+                // 드라이버가 건수를 알 수 없으면 SUCCESS_NO_INFO(-2)
+                updated += count > 0 ? count : (count == -2 ? 1 : 0);
+            }
+        }
+
+        progress.setLastId((String) rows.get(rows.size() - 1)[0]);
+        progress.setScannedCount(progress.getScannedCount() + rows.size());
+        progress.setUpdatedCount(progress.getUpdatedCount() + updated);
+        progress.setUpdatedAt(LocalDateTime.now());
+        return progressRepository.save(progress);
+    }
+
+    private void markFailed(ReEncryptionProgress progress, String message) {
+        if (progress == null) {
+            return;
+        }
+        try {
+            progress.setStatus("FAILED");
+            progress.setMessage(message != null && message.length() > 500 ? message.substring(0, 500) : message);
+            progress.setUpdatedAt(LocalDateTime.now());
+            progressRepository.save(progress);
+        } catch (Exception e) {
+            logger.error("재암호화 작업 상태 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.RefreshToken;
+import com.dormitory.SpringBoot.repository.RefreshTokenRepository;
+import com.dormitory.SpringBoot.utils.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/회전/폐기 서비스
+ * ✅ 원문은 클라이언트에만 전달하고 DB에는 SHA-256 해시만 저장
+ * ✅ 재발급마다 새 리프레시 토큰으로 교체 (회전), 이미 사용된 토큰이 다시 오면 탈취로 보고 계열 전체 폐기
+ * ✅ 재발급 시 사용자 상태(활성/잠금/관리자)를 다시 확인하여 새 액세스 토큰에 반영
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserStatusCacheService userStatusCacheService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${app.jwt.refresh-expiration:1209600000}") // 기본값: 14일
+    private long refreshExpirationMs;
+
+    /**
+     * 액세스 토큰 + 리프레시 토큰
+     */
+    public static class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
+        private final long expiresIn;
+
+        public TokenPair(String accessToken, String refreshToken, long expiresIn) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
+        }
+
+        public String getAccessToken() { return accessToken; }
+        public String getRefreshToken() { return refreshToken; }
+        public long getExpiresIn() { return expiresIn; }
+    }
+
+    /**
+     * 로그인 시 새 리프레시 토큰 발급 (새 계열)
+     */
+    public String issue(String userId) {
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 + 리프레시 토큰 회전
+     * 거절 시에도 계열 폐기는 유지되어야 하므로 예외로 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public TokenPair rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new IllegalArgumentException("리프레시 토큰이 필요합니다.");
+        }
+
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new RuntimeException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (token.getRevokedAt() != null) {
+            throw new RuntimeException("폐기된 리프레시 토큰입니다.");
+        }
+        if (token.isExpired()) {
+            throw new RuntimeException("리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
+        }
+
+        // 이미 사용된 토큰 재사용 (또는 동시 요청 경합) - 계열 전체 폐기
+        if (refreshTokenRepository.markUsed(token.getId(), LocalDateTime.now()) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now());
+            logger.warn("리프레시 토큰 재사용 감지 - 사용자: {}, 계열 전체 폐기", token.getUserId());
+            throw new RuntimeException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String userId = token.getUserId();
+        Optional<UserStatusCacheService.UserStatus> statusOptional = userStatusCacheService.getStatus(userId);
+        if (statusOptional.isEmpty() || !statusOptional.get().isActive() || statusOptional.get().isAccountLocked()) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now());
+            throw new RuntimeException("사용할 수 없는 계정입니다.");
+        }
+
+        String accessToken = jwtUtil.generateToken(userId, statusOptional.get().isAdmin());
+        String refreshToken = create(userId, token.getFamilyId());
+
+        logger.info("토큰 재발급 - 사용자: {}", userId);
+        return new TokenPair(accessToken, refreshToken, jwtUtil.getExpirationMs() / 1000);
+    }
+
+    /**
+     * 로그아웃 - 해당 리프레시 토큰 계열 폐기
+     */
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * 사용자의 모든 리프레시 토큰 폐기 (비활성화, 비밀번호 변경 등)
+     */
+    public void revokeAllForUser(String userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        if (revoked > 0) {
+            logger.info("사용자 리프레시 토큰 폐기 - 사용자: {}, {}건", userId, revoked);
+        }
+    }
+
+    /**
+     * 만료된 리프레시 토큰 정리 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 0 4 * * *}")
+    public void deleteExpired() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                logger.info("만료된 리프레시 토큰 삭제 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("만료된 리프레시 토큰 삭제 중 오류 발생", e);
+        }
+    }
+
+    private String create(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs));
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, familyId, expiresAt));
+        return rawToken;
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
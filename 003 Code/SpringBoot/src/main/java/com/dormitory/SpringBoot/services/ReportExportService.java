@@ -0,0 +1,459 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 관리자 보고서 내보내기 서비스 (출석 테이블, 점호 기록, 민원 목록)
+ * ✅ 전방 전용 JDBC 커서(MySQL 스트리밍 결과)로 한 행씩 읽어 바로 응답 스트림에 기록 - 전체 결과를 힙에 올리지 않음
+ * ✅ XLSX는 SXSSF(메모리에 일정 행 수만 유지, 나머지는 임시 파일), CSV는 UTF-8(BOM) 스트림
+ * ✅ 암호화된 이름은 행마다 복호화하되 크기 제한 캐시로 반복 복호화 방지
+ * ✅ 끝까지 기록한 경우에만 finish()로 마무리 - 중간에 실패하면 남은 내용을 쓰지 않고 자원만 정리 (잘린 파일이 정상 파일처럼 보이지 않도록)
+ */
+@Service
+public class ReportExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportService.class);
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String ATTENDANCE_SQL =
+            "SELECT a.inspection_date, a.room_number, a.user_id, a.user_name, a.is_submitted, " +
+            "a.submission_time, a.score, a.status, a.notes " +
+            "FROM attendance_table a " +
+            "WHERE a.inspection_date BETWEEN ? AND ? " +
+            "ORDER BY a.inspection_date, a.room_number";
+
+    private static final String INSPECTION_SQL =
+            "SELECT i.id, i.inspection_date, i.user_id, u.name_encrypted, i.dormitory_building, i.room_number, " +
+            "i.score, i.status, i.is_re_inspection, i.admin_comment, i.created_at " +
+            "FROM inspections i LEFT JOIN users u ON u.user_id = i.user_id " +
+            "WHERE i.inspection_date >= ? AND i.inspection_date < ? " +
+            "AND (? IS NULL OR i.dormitory_building = ?) " +
+            "ORDER BY i.inspection_date, i.id";
+
+    private static final String COMPLAINT_SQL =
+            "SELECT c.id, c.submitted_at, c.category, c.title, c.content, c.writer_id, c.writer_name, " +
+            "c.dormitory_building, c.room_number, c.status, c.admin_comment, c.processed_at " +
+            "FROM complaints c " +
+            "WHERE c.submitted_at >= ? AND c.submitted_at < ? " +
+            "AND (? IS NULL OR c.status = ?) " +
+            "ORDER BY c.submitted_at, c.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Value("${app.export.max-days:200}")
+    private int maxDays;
+
+    @Value("${app.export.xlsx-window-size:200}")
+    private int xlsxWindowSize;
+
+    @Value("${app.export.name-cache-size:5000}")
+    private int nameCacheSize;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+        CSV("csv", "text/csv; charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() { return extension; }
+        public String getContentType() { return contentType; }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return XLSX;
+            }
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (xlsx, csv)");
+            }
+        }
+    }
+
+    /**
+     * 기간 검증 (컨트롤러에서 응답 스트림을 열기 전에 호출)
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("시작일과 종료일은 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    /**
+     * 출석 테이블 내보내기
+     */
+    public void exportAttendance(LocalDate from, LocalDate to, Format format, OutputStream out) throws IOException {
+        NameDecryptor names = new NameDecryptor(nameCacheSize);
+
+        try (RowWriter writer = openWriter(format, "출석 테이블", out)) {
+            writer.writeRow("점호 날짜", "호실", "학번", "이름", "제출 여부", "제출 시각", "점수", "상태", "비고");
+
+            long count = stream(ATTENDANCE_SQL, ps -> {
+                ps.setDate(1, Date.valueOf(from));
+                ps.setDate(2, Date.valueOf(to));
+            }, rs -> writer.writeRow(
+                    dateOf(rs, "inspection_date"),
+                    rs.getString("room_number"),
+                    rs.getString("user_id"),
+                    names.decrypt(rs.getString("user_name")),
+                    rs.getBoolean("is_submitted") ? "제출" : "미제출",
+                    timestampOf(rs, "submission_time"),
+                    integerOf(rs, "score"),
+                    rs.getString("status"),
+                    rs.getString("notes")));
+
+            writer.finish();
+            logger.info("출석 테이블 내보내기 완료 - 기간: {} ~ {}, 형식: {}, {}행", from, to, format, count);
+        }
+    }
+
+    /**
+     * 점호 기록 내보내기 (동 필터 선택 - 사용자의 현재 동이 아닌 점호 당시 기록된 동 기준)
+     */
+    public void exportInspections(LocalDate from, LocalDate to, String building, Format format, OutputStream out) throws IOException {
+        NameDecryptor names = new NameDecryptor(nameCacheSize);
+        String buildingFilter = building != null && !building.isBlank() ? building.trim() : null;
+
+        try (RowWriter writer = openWriter(format, "점호 기록", out)) {
+            writer.writeRow("ID", "점호 일시", "학번", "이름", "기숙사", "호실", "점수", "상태", "재검", "관리자 코멘트", "제출 시각");
+
+            long count = stream(INSPECTION_SQL, ps -> {
+                ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+                ps.setString(3, buildingFilter);
+                ps.setString(4, buildingFilter);
+            }, rs -> writer.writeRow(
+                    rs.getLong("id"),
+                    timestampOf(rs, "inspection_date"),
+                    rs.getString("user_id"),
+                    names.decrypt(rs.getString("name_encrypted")),
+                    rs.getString("dormitory_building"),
+                    rs.getString("room_number"),
+                    integerOf(rs, "score"),
+                    rs.getString("status"),
+                    rs.getBoolean("is_re_inspection") ? "Y" : "N",
+                    rs.getString("admin_comment"),
+                    timestampOf(rs, "created_at")));
+
+            writer.finish();
+            logger.info("점호 기록 내보내기 완료 - 기간: {} ~ {}, 동: {}, 형식: {}, {}행", from, to, buildingFilter, format, count);
+        }
+    }
+
+    /**
+     * 민원 목록 내보내기 (상태 필터 선택)
+     */
+    public void exportComplaints(LocalDate from, LocalDate to, String status, Format format, OutputStream out) throws IOException {
+        String statusFilter = status != null && !status.isBlank() ? status.trim() : null;
+
+        try (RowWriter writer = openWriter(format, "민원 목록", out)) {
+            writer.writeRow("ID", "접수 시각", "분류", "제목", "내용", "작성자 학번", "작성자", "기숙사", "호실", "상태", "관리자 답변", "처리 시각");
+
+            long count = stream(COMPLAINT_SQL, ps -> {
+                ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+                ps.setString(3, statusFilter);
+                ps.setString(4, statusFilter);
+            }, rs -> writer.writeRow(
+                    rs.getLong("id"),
+                    timestampOf(rs, "submitted_at"),
+                    rs.getString("category"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getString("writer_id"),
+                    rs.getString("writer_name"),
+                    rs.getString("dormitory_building"),
+                    rs.getString("room_number"),
+                    rs.getString("status"),
+                    rs.getString("admin_comment"),
+                    timestampOf(rs, "processed_at")));
+
+            writer.finish();
+            logger.info("민원 목록 내보내기 완료 - 기간: {} ~ {}, 상태: {}, 형식: {}, {}행", from, to, statusFilter, format, count);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void setValues(PreparedStatement ps) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(ResultSet rs) throws SQLException, IOException;
+    }
+
+    /**
+     * 전방 전용/읽기 전용 커서로 한 행씩 처리
+     * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 번에 받지 않고 스트리밍
+     */
+    private long stream(String sql, ParameterSetter parameters, RowConsumer consumer) throws IOException {
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                parameters.setValues(ps);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    consumer.accept(rs);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 - 커서는 JdbcTemplate이 정리
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private RowWriter openWriter(Format format, String sheetName, OutputStream out) {
+        return format == Format.CSV ? new CsvRowWriter(out) : new XlsxRowWriter(sheetName, out, xlsxWindowSize);
+    }
+
+    private String dateOf(ResultSet rs, String column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+
+    private String timestampOf(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime().format(DATE_TIME_FORMAT) : null;
+    }
+
+    private Integer integerOf(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * 크기 제한 복호화 캐시 (같은 사용자가 여러 날짜에 반복 등장)
+     */
+    private class NameDecryptor {
+        private final Map<String, String> cache;
+
+        NameDecryptor(int maxSize) {
+            this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        String decrypt(String encrypted) {
+            if (encrypted == null) {
+                return null;
+            }
+            String cached = cache.get(encrypted);
+            if (cached == null) {
+                try {
+                    cached = encryptionUtil.decrypt(encrypted);
+                } catch (Exception e) {
+                    cached = encrypted;
+                }
+                cache.put(encrypted, cached);
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * 행 단위 출력
+     * finish()는 모든 행을 기록한 뒤에만 호출하고, close()는 기록 없이 자원만 정리
+     */
+    interface RowWriter extends AutoCloseable {
+        void writeRow(Object... values) throws IOException;
+
+        void finish() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * CSV 출력 (Excel에서 한글이 깨지지 않도록 UTF-8 BOM 포함, RFC 4180 인용)
+     */
+    static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            try {
+                writer.write('\uFEFF');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(values[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            // 수식으로 해석될 수 있는 값은 작은따옴표로 무력화 (CSV 인젝션 방지)
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() {
+            // 응답 스트림은 컨테이너가 닫음 - 실패 시 버퍼에 남은 행은 버림
+        }
+    }
+
+    /**
+     * XLSX 출력 (SXSSF - 메모리에는 windowSize 행만 유지)
+     */
+    private static class XlsxRowWriter implements RowWriter {
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final OutputStream out;
+        private final CellStyle headerStyle;
+        private final List<Integer> columnWidths = new ArrayList<>();
+        private int rowIndex = 0;
+
+        XlsxRowWriter(String sheetName, OutputStream out, int windowSize) {
+            this.workbook = new SXSSFWorkbook(windowSize);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet(sheetName);
+            this.out = out;
+
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            this.headerStyle = workbook.createCellStyle();
+            this.headerStyle.setFont(bold);
+        }
+
+        @Override
+        public void writeRow(Object... values) {
+            Row row = sheet.createRow(rowIndex);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+                if (rowIndex == 0) {
+                    cell.setCellStyle(headerStyle);
+                }
+                // 열 너비는 앞부분 행 기준으로만 계산 (autoSizeColumn은 전체 행 추적이 필요)
+                if (rowIndex < 100) {
+                    int width = Math.min(60, value.toString().length() * 2 + 2);
+                    while (columnWidths.size() <= i) {
+                        columnWidths.add(8);
+                    }
+                    columnWidths.set(i, Math.max(columnWidths.get(i), width));
+                }
+            }
+            if (rowIndex == 0) {
+                sheet.createFreezePane(0, 1);
+            }
+            rowIndex++;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            for (int i = 0; i < columnWidths.size(); i++) {
+                sheet.setColumnWidth(i, columnWidths.get(i) * 256);
+            }
+            workbook.write(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                workbook.close();
+            } finally {
+                workbook.dispose();
+            }
+        }
+    }
+}
@@ -3,18 +3,22 @@ package com.dormitory.SpringBoot.services;
 import com.dormitory.SpringBoot.domain.RoomTemplate;
 import com.dormitory.SpringBoot.domain.RoomTemplate.RoomType;
 import com.dormitory.SpringBoot.repository.RoomTemplateRepository;
-import org.apache.commons.codec.binary.Base64;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,8 @@ import java.util.Optional;
  * 방 템플릿 관리 서비스
  * - 관리자가 기준 방 사진을 등록/관리
  * - AI 점호 평가 시 비교 기준 제공
+ * ✅ 이미지는 파일로만 저장하고 엔티티에는 경로/해시/크기만 보관
+ * ✅ (방 타입, 동)별 전송용 템플릿 이미지 LRU 캐시 - 점호 제출마다 DB/디스크를 조회하지 않음
  */
 @Service
 @Transactional
@@ -35,6 +41,48 @@ public class RoomTemplateService {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private ImagePreprocessService imagePreprocessService;
+
+    @Value("${room-template.cache.max-size:32}")
+    private long payloadCacheMaxSize;
+
+    // 다른 인스턴스에서의 템플릿 변경/파일 교체도 이 시간 안에 반영
+    @Value("${room-template.cache.ttl-minutes:30}")
+    private long payloadCacheTtlMinutes;
+
+    /**
+     * (방 타입, 동) → 전송용 템플릿 이미지, 템플릿이 없는 조합도 빈 값으로 캐시 (로드 실패는 캐시하지 않음)
+     */
+    private Cache<String, Optional<TemplatePayload>> payloadCache;
+
+    /**
+     * AI 비교용 템플릿 이미지 (전처리 완료된 JPEG)
+     */
+    public static class TemplatePayload {
+        private final Long templateId;
+        private final String imageHash;
+        private final byte[] imageBytes;
+
+        public TemplatePayload(Long templateId, String imageHash, byte[] imageBytes) {
+            this.templateId = templateId;
+            this.imageHash = imageHash;
+            this.imageBytes = imageBytes;
+        }
+
+        public Long getTemplateId() { return templateId; }
+        public String getImageHash() { return imageHash; }
+        public byte[] getImageBytes() { return imageBytes; }
+    }
+
+    @PostConstruct
+    public void initPayloadCache() {
+        this.payloadCache = Caffeine.newBuilder()
+                .maximumSize(payloadCacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(payloadCacheTtlMinutes))
+                .build();
+    }
+
     /**
      * 템플릿 등록
      */
@@ -47,9 +95,6 @@ public class RoomTemplateService {
             // 이미지 업로드
             String imagePath = fileService.uploadImage(imageFile, "room-templates");
 
-            // Base64 인코딩 (AI 비교용)
-            String base64Image = encodeToBase64(imageFile);
-
             // 기본 템플릿으로 설정 시 기존 기본 템플릿 해제
             if (isDefault) {
                 templateRepository.findByRoomTypeAndIsDefaultTrueAndIsActiveTrue(roomType)
@@ -64,7 +109,8 @@ public class RoomTemplateService {
             template.setTemplateName(templateName);
             template.setRoomType(roomType);
             template.setImagePath(imagePath);
-            template.setImageBase64(base64Image);
+            template.setImageHash(fileService.computeContentHash(imagePath));
+            template.setImageSize(imageFile.getSize());
             template.setDescription(description);
             template.setBuildingName(buildingName);
             template.setIsDefault(isDefault);
@@ -72,6 +118,7 @@ public class RoomTemplateService {
             template.setCreatedBy(adminId);
 
             RoomTemplate saved = templateRepository.save(template);
+            invalidatePayloadCache();
             logger.info("방 템플릿 등록 완료 - ID: {}", saved.getId());
             return saved;
 
@@ -109,9 +156,9 @@ public class RoomTemplateService {
             // 새 이미지가 있으면 업데이트
             if (imageFile != null && !imageFile.isEmpty()) {
                 String imagePath = fileService.uploadImage(imageFile, "room-templates");
-                String base64Image = encodeToBase64(imageFile);
                 template.setImagePath(imagePath);
-                template.setImageBase64(base64Image);
+                template.setImageHash(fileService.computeContentHash(imagePath));
+                template.setImageSize(imageFile.getSize());
             }
 
             // 기본 템플릿 설정 변경
@@ -127,6 +174,7 @@ public class RoomTemplateService {
             template.setIsDefault(isDefault);
 
             RoomTemplate updated = templateRepository.save(template);
+            invalidatePayloadCache();
             logger.info("방 템플릿 수정 완료 - ID: {}", id);
             return updated;
 
@@ -148,6 +196,7 @@ public class RoomTemplateService {
         template.setIsActive(false);
         template.setIsDefault(false);
         templateRepository.save(template);
+        invalidatePayloadCache();
 
         logger.info("방 템플릿 삭제 완료 (비활성화) - ID: {}", id);
     }
@@ -158,6 +207,7 @@ public class RoomTemplateService {
     public void hardDeleteTemplate(Long id) {
         logger.info("방 템플릿 완전 삭제 - ID: {}", id);
         templateRepository.deleteById(id);
+        invalidatePayloadCache();
         logger.info("방 템플릿 완전 삭제 완료 - ID: {}", id);
     }
 
@@ -233,56 +283,93 @@ public class RoomTemplateService {
         }
 
         RoomTemplate updated = templateRepository.save(template);
+        invalidatePayloadCache();
         logger.info("템플릿 활성화 토글 - ID: {}, 활성화: {}", id, updated.getIsActive());
         return updated;
     }
 
     /**
-     * MultipartFile을 Base64로 인코딩
+     * ✅ AI 비교용 템플릿 이미지 조회 (캐시)
+     * 동 전용 템플릿 → 방 타입 기본 템플릿 순으로 선택하며, 캐시 적중 시 DB/디스크 접근 없음
      */
-    private String encodeToBase64(MultipartFile file) {
-        try {
-            if (file == null || file.isEmpty()) {
-                return null;
-            }
-            byte[] bytes = file.getBytes();
-            return Base64.encodeBase64String(bytes);
-        } catch (IOException e) {
-            logger.error("Base64 인코딩 실패", e);
-            return null;
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<TemplatePayload> getTemplatePayload(RoomType roomType, String buildingName) {
+        if (roomType == null) {
+            return Optional.empty();
         }
+        String key = roomType.name() + ":" + (buildingName != null ? buildingName : "");
+        Optional<TemplatePayload> payload = payloadCache.get(key, k -> loadTemplatePayload(roomType, buildingName));
+        return payload != null ? payload : Optional.empty();
     }
 
     /**
-     * 파일 경로에서 Base64 로드 (캐시 갱신용)
+     * 템플릿 이미지 로드 - 템플릿이 없으면 Optional.empty() (캐시됨), 로드 실패 시 null (캐시되지 않아 다음 요청에서 재시도)
      */
-    public String loadBase64FromPath(String imagePath) {
+    private Optional<TemplatePayload> loadTemplatePayload(RoomType roomType, String buildingName) {
         try {
-            Path path = Paths.get("uploads", imagePath);
-            if (!Files.exists(path)) {
-                logger.warn("이미지 파일이 존재하지 않음: {}", imagePath);
+            Optional<RoomTemplate> templateOpt = Optional.empty();
+            if (buildingName != null && !buildingName.isEmpty()) {
+                templateOpt = getTemplateForComparison(roomType, buildingName);
+            }
+            if (templateOpt.isEmpty()) {
+                templateOpt = templateRepository.findByRoomTypeAndIsDefaultTrueAndIsActiveTrue(roomType);
+            }
+            if (templateOpt.isEmpty()) {
+                return Optional.empty();
+            }
+
+            RoomTemplate template = templateOpt.get();
+            String fullPath = fileService.getFullPath(template.getImagePath());
+            if (fullPath == null || !fileService.fileExists(template.getImagePath())) {
+                logger.warn("템플릿 이미지 파일이 존재하지 않음 - ID: {}, 경로: {}", template.getId(), template.getImagePath());
+                return Optional.empty();
+            }
+
+            byte[] imageBytes = imagePreprocessService.prepareForAnalysis(new FileSystemResource(fullPath));
+            if (imageBytes == null) {
+                logger.warn("템플릿 이미지 전처리 실패 - ID: {}", template.getId());
                 return null;
             }
-            byte[] bytes = Files.readAllBytes(path);
-            return Base64.encodeBase64String(bytes);
-        } catch (IOException e) {
-            logger.error("이미지 로드 실패: {}", imagePath, e);
+
+            logger.info("템플릿 이미지 캐시 적재 - ID: {}, 방타입: {}, 동: {}, {} bytes",
+                    template.getId(), roomType, buildingName, imageBytes.length);
+            return Optional.of(new TemplatePayload(template.getId(), template.getImageHash(), imageBytes));
+
+        } catch (Exception e) {
+            logger.error("템플릿 이미지 로드 실패 - 방타입: {}, 동: {}", roomType, buildingName, e);
             return null;
         }
     }
 
     /**
-     * 템플릿 Base64 캐시 갱신
+     * 템플릿 변경 시 전송용 이미지 캐시 전체 무효화 (동 → 기본 템플릿 대체 관계 때문에 전체 비움)
+     */
+    public void invalidatePayloadCache() {
+        payloadCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 이전 상태로 다시 적재한 경우 대비
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    payloadCache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    /**
+     * 템플릿 이미지 해시 갱신 (해시가 없는 기존 템플릿용)
      */
-    public void refreshTemplateBase64(Long id) {
+    public void refreshTemplateHash(Long id) {
         RoomTemplate template = templateRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("템플릿을 찾을 수 없습니다: " + id));
 
-        String base64 = loadBase64FromPath(template.getImagePath());
-        if (base64 != null) {
-            template.setImageBase64(base64);
+        String hash = fileService.computeContentHash(template.getImagePath());
+        if (hash != null) {
+            template.setImageHash(hash);
             templateRepository.save(template);
-            logger.info("템플릿 Base64 캐시 갱신 완료 - ID: {}", id);
+            invalidatePayloadCache();
+            logger.info("템플릿 이미지 해시 갱신 완료 - ID: {}", id);
         }
     }
 }
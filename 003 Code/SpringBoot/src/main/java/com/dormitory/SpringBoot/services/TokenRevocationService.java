@@ -0,0 +1,229 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.RevokedAccessToken;
+import com.dormitory.SpringBoot.repository.RevokedAccessTokenRepository;
+import com.dormitory.SpringBoot.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * ✅ 토큰 만료 시각 기준 시간 버킷마다 블룸 필터 + 정확한 집합 - 대부분의 (폐기되지 않은) 토큰은 블룸 필터에서 바로 통과
+ * ✅ 사용자 단위 폐기는 "이 시각 이전 발급 토큰 무효" 기준 시각만 보관
+ * ✅ 요청 경로에서는 DB 조회/트랜잭션 없음, 만료된 버킷/기준 시각은 주기적으로 제거
+ * ✅ 개별 폐기 기록은 DB에도 저장하여 재시작 시 복원
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${app.jwt.revocation.expected-per-bucket:10000}")
+    private int expectedPerBucket;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private long bucketMillis;
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Long> userRevokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * 만료 시각 구간별 폐기 토큰 (블룸 필터로 빠르게 걸러내고 정확한 집합으로 확인)
+     */
+    private static class Bucket {
+        private final BloomFilter filter;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+
+        Bucket(int expectedInsertions, double falsePositiveRate) {
+            this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void add(String jti) {
+            exact.add(jti);
+            filter.put(jti);
+        }
+
+        boolean contains(String jti) {
+            return filter.mightContain(jti) && exact.contains(jti);
+        }
+    }
+
+    /**
+     * 잠금 없는 블룸 필터 (64비트 해시 두 개로 k개 위치 생성)
+     */
+    static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String value, long seed) {
+            long h = seed;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xff;
+                h *= 0x100000001B3L;
+            }
+            // 최종 혼합 (splitmix64)
+            h ^= h >>> 30;
+            h *= 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 27;
+            h *= 0x94D049BB133111EBL;
+            h ^= h >>> 31;
+            return h;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        // 버킷 하나가 액세스 토큰 유효 시간 한 구간을 담당
+        this.bucketMillis = Math.max(60_000L, jwtUtil.getExpirationMs());
+
+        try {
+            List<RevokedAccessToken> revoked = revokedAccessTokenRepository.findByExpiresAtAfter(LocalDateTime.now());
+            for (RevokedAccessToken token : revoked) {
+                addToBucket(token.getJti(), toEpochMillis(token.getExpiresAt()));
+            }
+            if (!revoked.isEmpty()) {
+                logger.info("액세스 토큰 폐기 목록 복원 - {}건", revoked.size());
+            }
+        } catch (Exception e) {
+            logger.error("액세스 토큰 폐기 목록 복원 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (JwtAuthenticationFilter에서 호출, DB 조회 없음)
+     */
+    public boolean isRevoked(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        if (issuedAt != null) {
+            Long revokedBefore = userRevokedBefore.get(claims.getSubject());
+            if (revokedBefore != null && issuedAt.getTime() <= revokedBefore) {
+                return true;
+            }
+        }
+
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null) {
+            return false;
+        }
+        Bucket bucket = buckets.get(expiration.getTime() / bucketMillis);
+        return bucket != null && bucket.contains(jti);
+    }
+
+    /**
+     * 개별 액세스 토큰 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        addToBucket(jti, expiration.getTime());
+        revokedAccessTokenRepository.save(new RevokedAccessToken(jti, claims.getSubject(),
+                LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault())));
+        logger.debug("액세스 토큰 폐기 - 사용자: {}", claims.getSubject());
+    }
+
+    /**
+     * 사용자의 현재까지 발급된 액세스 토큰 전체 폐기 (비활성화 등)
+     * JWT 발급 시각이 초 단위이므로 같은 초에 발급된 토큰까지 폐기
+     */
+    public void revokeAllForUser(String userId) {
+        long now = System.currentTimeMillis();
+        userRevokedBefore.merge(userId, now - now % 1000 + 999, Math::max);
+        logger.info("사용자 액세스 토큰 전체 폐기 - 사용자: {}", userId);
+    }
+
+    /**
+     * 만료된 버킷/기준 시각/폐기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        buckets.keySet().removeIf(index -> (index + 1) * bucketMillis <= now);
+        userRevokedBefore.values().removeIf(revokedBefore -> revokedBefore + jwtUtil.getExpirationMs() <= now);
+
+        try {
+            revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+        } catch (Exception e) {
+            logger.error("만료된 액세스 토큰 폐기 기록 삭제 중 오류 발생", e);
+        }
+    }
+
+    private void addToBucket(String jti, long expiresAtMillis) {
+        buckets.computeIfAbsent(expiresAtMillis / bucketMillis,
+                index -> new Bucket(expectedPerBucket, falsePositiveRate)).add(jti);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
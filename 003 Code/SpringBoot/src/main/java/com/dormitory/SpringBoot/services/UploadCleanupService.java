@@ -0,0 +1,415 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.repository.InspectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일 보관 기간 정리 + 고아 파일 회수
+ * ✅ 보관 기간이 지난 점호 사진은 image_path만 해제하고 파일 참조를 반납 (점수/상태/출석 기록은 유지)
+ * ✅ 실행마다 점호/민원/서류/공지/템플릿/프로필 참조 경로를 한 번 읽어 두고, 업로드 트리를 Files.walk로 순회하며 대조
+ * ✅ 어디에서도 참조하지 않고 유예 시간이 지난 파일과 남은 임시 파일을 초당 삭제 수 제한을 지켜 삭제 (또는 보관 경로로 이동)
+ * ✅ 회수한 용량은 upload.cleanup.reclaimed 지표로 기록
+ * ✅ inspections.image_path가 아직 NOT NULL이면 기동 시 보관 기간 정리를 끄고 오류 로그로 안내
+ */
+@Service
+public class UploadCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadCleanupService.class);
+
+    // 업로드 파일을 참조하는 컬럼 (새 업로드 대상이 생기면 함께 추가)
+    private static final String[][] REFERENCE_COLUMNS = {
+            {"inspections", "image_path"},
+            {"complaints", "image_path"},
+            {"documents", "image_path"},
+            {"notices", "image_path"},
+            {"room_templates", "image_path"},
+            {"users", "profile_image_path"}
+    };
+
+    private static final String IMAGE_PATH_NULLABLE_SQL =
+            "SELECT IS_NULLABLE FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'inspections' AND COLUMN_NAME = 'image_path'";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("maintenanceTaskExecutor")
+    private ThreadPoolTaskExecutor maintenanceTaskExecutor;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${inspection.auto-cleanup.enabled:true}")
+    private boolean retentionEnabled;
+
+    @Value("${inspection.auto-cleanup.days:30}")
+    private int retentionDays;
+
+    @Value("${upload.cleanup.orphan-enabled:true}")
+    private boolean orphanEnabled;
+
+    @Value("${upload.cleanup.orphan-grace-hours:24}")
+    private int orphanGraceHours;
+
+    @Value("${upload.cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${upload.cleanup.max-deletes-per-second:20}")
+    private int maxDeletesPerSecond;
+
+    @Value("${upload.cleanup.max-deletes-per-run:10000}")
+    private int maxDeletesPerRun;
+
+    @Value("${upload.cleanup.archive:false}")
+    private boolean archive;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean retentionSchemaReady = true;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private volatile Map<String, Object> lastResult;
+    private volatile LocalDateTime lastRunAt;
+
+    /**
+     * 한 번의 정리 실행 결과
+     */
+    private static class RunStats {
+        private long scannedFiles;
+        private long expiredFiles;
+        private long orphanFiles;
+        private long tempFiles;
+        private long reclaimedBytes;
+        private long operations;
+
+        Map<String, Object> toMap(long durationMs) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("scannedFiles", scannedFiles);
+            map.put("expiredFiles", expiredFiles);
+            map.put("orphanFiles", orphanFiles);
+            map.put("tempFiles", tempFiles);
+            map.put("reclaimedBytes", reclaimedBytes);
+            map.put("durationMs", durationMs);
+            return map;
+        }
+    }
+
+    /**
+     * 초당 삭제 수 제한 (삭제 사이 간격을 고르게 유지)
+     */
+    private static class Throttle {
+        private final long intervalNanos;
+        private long nextAt = System.nanoTime();
+
+        Throttle(int perSecond) {
+            this.intervalNanos = perSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / perSecond : 0;
+        }
+
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long wait = nextAt - now;
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            nextAt = Math.max(now, nextAt) + intervalNanos;
+        }
+    }
+
+    /**
+     * ✅ 기동 시 점호 사진 경로 컬럼 확인
+     * ddl-auto=update는 기존 NOT NULL 제약을 풀지 않으므로, 남아 있으면 경로 해제가 매번 실패함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkRetentionSchema() {
+        if (!retentionEnabled) {
+            return;
+        }
+        try {
+            List<String> nullable = namedParameterJdbcTemplate.getJdbcTemplate()
+                    .queryForList(IMAGE_PATH_NULLABLE_SQL, String.class);
+            if (!nullable.isEmpty() && "NO".equalsIgnoreCase(nullable.get(0))) {
+                retentionSchemaReady = false;
+                logger.error("inspections.image_path가 NOT NULL이라 점호 사진 보관 기간 정리를 끕니다. " +
+                        "ALTER TABLE inspections MODIFY image_path VARCHAR(500) NULL 실행 후 재시작해주세요.");
+            }
+        } catch (Exception e) {
+            logger.warn("점호 사진 경로 컬럼 확인 실패 - 보관 기간 정리는 그대로 진행합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정기 실행 (기본: 매일 04:30)
+     */
+    @Scheduled(cron = "${upload.cleanup.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledCleanup() {
+        if (!isRetentionActive() && !orphanEnabled) {
+            return;
+        }
+        try {
+            start();
+        } catch (RuntimeException e) {
+            logger.warn("업로드 정리 작업을 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 작업 시작 (유지보수 스레드에서 실행)
+     */
+    public Map<String, Object> start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("업로드 정리 작업이 이미 실행 중입니다.");
+        }
+        try {
+            maintenanceTaskExecutor.execute(this::runCleanup);
+        } catch (Exception e) {
+            running.set(false);
+            throw new RuntimeException("업로드 정리 작업을 시작할 수 없습니다: " + e.getMessage());
+        }
+        return getStatus();
+    }
+
+    /**
+     * 정리 작업 상태
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("running", running.get());
+        status.put("retentionEnabled", isRetentionActive());
+        status.put("retentionSchemaReady", retentionSchemaReady);
+        status.put("retentionDays", retentionDays);
+        status.put("orphanEnabled", orphanEnabled);
+        status.put("archive", archive && fileService.getArchivePath() != null);
+        status.put("lastRunAt", lastRunAt);
+        status.put("lastResult", lastResult);
+        return status;
+    }
+
+    private void runCleanup() {
+        long startedAt = System.currentTimeMillis();
+        RunStats stats = new RunStats();
+        Throttle throttle = new Throttle(maxDeletesPerSecond);
+
+        try {
+            if (isRetentionActive()) {
+                expireInspectionPhotos(stats, throttle);
+            }
+            if (orphanEnabled) {
+                collectOrphans(stats, throttle);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("업로드 정리 작업이 중단되었습니다.");
+        } catch (Exception e) {
+            logger.error("업로드 정리 작업 중 오류 발생", e);
+        } finally {
+            long durationMs = System.currentTimeMillis() - startedAt;
+            lastResult = stats.toMap(durationMs);
+            lastRunAt = LocalDateTime.now();
+            running.set(false);
+            logger.info("업로드 정리 완료 - 만료 {}건, 고아 {}건, 임시 {}건, 회수 {}bytes, 검사 {}개, {}ms",
+                    stats.expiredFiles, stats.orphanFiles, stats.tempFiles, stats.reclaimedBytes,
+                    stats.scannedFiles, durationMs);
+        }
+    }
+
+    // ==================== 보관 기간 정리 ====================
+
+    /**
+     * 보관 기간이 지난 점호 사진 정리 - 경로 해제를 먼저 커밋한 뒤 파일 참조 반납
+     * 반납 중 실패한 파일은 참조가 없으므로 다음 고아 파일 회수에서 정리됨
+     */
+    private void expireInspectionPhotos(RunStats stats, Throttle throttle) throws InterruptedException {
+        LocalDateTime before = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+
+        while (stats.operations < maxDeletesPerRun) {
+            List<Object[]> rows = inspectionRepository.findExpiredImagePaths(lastId, before, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(rows.size());
+            List<String> paths = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                ids.add((Long) row[0]);
+                paths.add((String) row[1]);
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            transactionTemplate.executeWithoutResult(status -> inspectionRepository.clearImagePaths(ids));
+
+            for (String path : paths) {
+                throttle.acquire();
+                stats.operations++;
+                long reclaimed = fileService.releaseFile(path, archive);
+                if (reclaimed >= 0) {
+                    stats.expiredFiles++;
+                    record(stats, "expired", reclaimed);
+                }
+            }
+        }
+    }
+
+    // ==================== 고아 파일 회수 ====================
+
+    /**
+     * 업로드 트리 순회 (보관 경로 제외, 유예 시간 안에 수정된 파일 제외)
+     */
+    private void collectOrphans(RunStats stats, Throttle throttle) throws InterruptedException {
+        Path base = Paths.get(fileService.getBaseUploadPath()).toAbsolutePath().normalize();
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+        Path tempPath = fileService.getTempPath();
+        Path archivePath = fileService.getArchivePath();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(orphanGraceHours);
+        long cutoffMillis = cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Set<String> referenced = loadReferencedPaths();
+
+        try (Stream<Path> stream = Files.walk(base)) {
+            Iterator<Path> iterator = stream.iterator();
+            while (iterator.hasNext() && stats.operations < maxDeletesPerRun) {
+                Path path = iterator.next();
+                if ((archivePath != null && path.startsWith(archivePath)) || !Files.isRegularFile(path)) {
+                    continue;
+                }
+                stats.scannedFiles++;
+                if (!isOlderThan(path, cutoffMillis)) {
+                    continue;
+                }
+
+                if (path.startsWith(tempPath)) {
+                    deleteStaleTempFile(path, stats, throttle);
+                    continue;
+                }
+
+                String relativePath = fileService.toRelativePath(path);
+                if (!referenced.contains(relativePath)) {
+                    purgeOrphan(relativePath, cutoff, stats, throttle);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("업로드 디렉토리 순회 실패: {}", base, e);
+        }
+    }
+
+    /**
+     * 참조가 없는 파일 정리
+     * 참조 경로를 읽어 둔 뒤 같은 내용이 다시 업로드된 파일은 참조 수 갱신 시각으로 purgeFile에서 건너뜀
+     */
+    private void purgeOrphan(String relativePath, LocalDateTime cutoff, RunStats stats, Throttle throttle)
+            throws InterruptedException {
+        throttle.acquire();
+        stats.operations++;
+        long reclaimed = fileService.purgeFile(relativePath, cutoff, archive);
+        if (reclaimed >= 0) {
+            stats.orphanFiles++;
+            record(stats, "orphan", reclaimed);
+            logger.debug("고아 파일 정리: {} ({}bytes)", relativePath, reclaimed);
+        }
+    }
+
+    /**
+     * 참조 중인 경로 전체 조회 (저장 형식 "{category}/..."와 "uploads/{category}/..."를 저장소 경로로 통일)
+     * 경로 컬럼에 인덱스가 없으므로 묶음마다 IN 조회하지 않고 테이블별로 한 번씩 순차 조회
+     */
+    private Set<String> loadReferencedPaths() {
+        Set<String> referenced = new HashSet<>();
+        for (String[] column : REFERENCE_COLUMNS) {
+            String sql = "SELECT " + column[1] + " FROM " + column[0] + " WHERE " + column[1] + " IS NOT NULL";
+            namedParameterJdbcTemplate.getJdbcTemplate().query(sql, (RowCallbackHandler) rs ->
+                    referenced.add(fileService.toStoragePath(rs.getString(1))));
+        }
+        logger.debug("참조 중인 업로드 경로 {}개", referenced.size());
+        return referenced;
+    }
+
+    private boolean isRetentionActive() {
+        return retentionEnabled && retentionSchemaReady;
+    }
+
+    private void deleteStaleTempFile(Path path, RunStats stats, Throttle throttle) throws InterruptedException {
+        throttle.acquire();
+        stats.operations++;
+        try {
+            long size = Files.size(path);
+            if (Files.deleteIfExists(path)) {
+                stats.tempFiles++;
+                record(stats, "temp", size);
+            }
+        } catch (IOException e) {
+            logger.warn("임시 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private boolean isOlderThan(Path path, long cutoffMillis) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis() < cutoffMillis;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void record(RunStats stats, String reason, long reclaimedBytes) {
+        stats.reclaimedBytes += reclaimedBytes;
+        if (meterRegistry == null) {
+            return;
+        }
+        counters.computeIfAbsent("files:" + reason, key -> Counter.builder("upload.cleanup.files")
+                .description("정리 작업에서 삭제(보관)하거나 참조를 반납한 업로드 파일 수")
+                .tag("reason", reason)
+                .register(meterRegistry)).increment();
+        counters.computeIfAbsent("bytes:" + reason, key -> Counter.builder("upload.cleanup.reclaimed")
+                .description("정리 작업으로 회수한 업로드 용량")
+                .baseUnit("bytes")
+                .tag("reason", reason)
+                .register(meterRegistry)).increment(reclaimedBytes);
+    }
+}
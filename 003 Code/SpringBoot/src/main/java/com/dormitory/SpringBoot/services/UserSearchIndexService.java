@@ -0,0 +1,204 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.domain.UserSearchToken;
+import com.dormitory.SpringBoot.repository.UserRepository;
+import com.dormitory.SpringBoot.repository.UserSearchTokenRepository;
+import com.dormitory.SpringBoot.utils.BlindIndexUtil;
+import com.dormitory.SpringBoot.utils.EncryptionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자 개인정보 블라인드 인덱스 관리/검색 서비스
+ * ✅ 이름/전화번호 저장 시 일치 토큰(users 컬럼) + 접두사 토큰(user_search_tokens) 갱신
+ * ✅ 관리자 검색은 토큰 인덱스 조회로 처리 (전체 복호화 스캔 없음)
+ * ✅ 기동 시 인덱스가 없는 기존 사용자를 청크 단위로 보충
+ */
+@Service
+@Transactional
+public class UserSearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndexService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSearchTokenRepository tokenRepository;
+
+    @Autowired
+    private BlindIndexUtil blindIndexUtil;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.search.blind-index.backfill-chunk-size:200}")
+    private int backfillChunkSize;
+
+    /**
+     * 이름 인덱스 갱신 (User 엔티티의 nameIndex 설정 + 접두사 토큰 교체, 저장은 호출 측에서)
+     */
+    public void indexName(User user, String plainName) {
+        String normalized = blindIndexUtil.normalizeName(plainName);
+        user.setNameIndex(blindIndexUtil.exactToken(BlindIndexUtil.FIELD_NAME, normalized));
+        replaceTokens(user.getId(), BlindIndexUtil.FIELD_NAME, blindIndexUtil.prefixTokens(BlindIndexUtil.FIELD_NAME, normalized));
+    }
+
+    /**
+     * 전화번호 인덱스 갱신 (User 엔티티의 phoneIndex 설정 + 접두사 토큰 교체, 저장은 호출 측에서)
+     */
+    public void indexPhone(User user, String plainPhone) {
+        String normalized = blindIndexUtil.normalizePhone(plainPhone);
+        user.setPhoneIndex(blindIndexUtil.exactToken(BlindIndexUtil.FIELD_PHONE, normalized));
+        replaceTokens(user.getId(), BlindIndexUtil.FIELD_PHONE, blindIndexUtil.prefixTokens(BlindIndexUtil.FIELD_PHONE, normalized));
+    }
+
+    /**
+     * 사용자 삭제 시 토큰 제거
+     */
+    public void removeUser(String userId) {
+        tokenRepository.deleteByUserId(userId);
+    }
+
+    public void removeAllUsers() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 이름으로 사용자 검색 (접두사 일치)
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchByName(String query) {
+        String normalized = blindIndexUtil.normalizeName(query);
+        return search(BlindIndexUtil.FIELD_NAME, normalized, User::getName, blindIndexUtil::normalizeName);
+    }
+
+    /**
+     * 전화번호로 사용자 검색 (접두사 일치, 숫자만 비교)
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchByPhone(String query) {
+        String normalized = blindIndexUtil.normalizePhone(query);
+        return search(BlindIndexUtil.FIELD_PHONE, normalized, User::getPhoneNumber, blindIndexUtil::normalizePhone);
+    }
+
+    private List<User> search(String field, String normalizedQuery,
+                              Function<User, String> encryptedValueOf,
+                              UnaryOperator<String> normalizer) {
+        String token = blindIndexUtil.queryPrefixToken(field, normalizedQuery);
+        if (token == null) {
+            return new ArrayList<>();
+        }
+
+        List<String> userIds = tokenRepository.findUserIdsByToken(token);
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<User> candidates = userRepository.findAllById(userIds);
+
+        // 검색어가 최대 접두사 길이 이하면 토큰 일치만으로 확정
+        if (normalizedQuery.codePointCount(0, normalizedQuery.length()) <= blindIndexUtil.getMaxPrefixLength()) {
+            return candidates;
+        }
+
+        // 긴 검색어는 후보만 복호화하여 재확인
+        List<String> encryptedValues = new ArrayList<>(candidates.size());
+        for (User candidate : candidates) {
+            encryptedValues.add(encryptedValueOf.apply(candidate));
+        }
+        Map<String, String> decrypted = encryptionUtil.decryptAll(encryptedValues);
+
+        List<User> matched = new ArrayList<>();
+        for (User candidate : candidates) {
+            String encrypted = encryptedValueOf.apply(candidate);
+            String plain = normalizer.apply(encrypted != null ? decrypted.getOrDefault(encrypted, encrypted) : null);
+            if (plain != null && plain.startsWith(normalizedQuery)) {
+                matched.add(candidate);
+            }
+        }
+        return matched;
+    }
+
+    private void replaceTokens(String userId, String field, List<String> tokens) {
+        tokenRepository.deleteByUserIdAndField(userId, field);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        List<UserSearchToken> entities = new ArrayList<>(tokens.size());
+        for (String token : new LinkedHashSet<>(tokens)) {
+            entities.add(new UserSearchToken(userId, field, token));
+        }
+        tokenRepository.saveAll(entities);
+    }
+
+    /**
+     * 인덱스가 없는 기존 사용자 보충 (청크마다 별도 트랜잭션)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillMissingIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String afterId = "";
+        int total = 0;
+
+        try {
+            while (true) {
+                List<User> chunk = userRepository.findUnindexedAfter(afterId, PageRequest.of(0, backfillChunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> indexChunk(chunk));
+                total += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            if (total > 0) {
+                logger.info("사용자 검색 인덱스 보충 완료 - {}명", total);
+            }
+        } catch (Exception e) {
+            logger.error("사용자 검색 인덱스 보충 중 오류 발생 - 마지막 사용자: {}", afterId, e);
+        }
+    }
+
+    private void indexChunk(List<User> users) {
+        Set<String> encryptedValues = new LinkedHashSet<>();
+        for (User user : users) {
+            encryptedValues.add(user.getName());
+            encryptedValues.add(user.getPhoneNumber());
+        }
+        Map<String, String> decrypted = encryptionUtil.decryptAll(encryptedValues);
+
+        for (User user : users) {
+            if (user.getName() != null) {
+                indexName(user, decrypted.getOrDefault(user.getName(), user.getName()));
+            }
+            if (user.getPhoneNumber() != null) {
+                indexPhone(user, decrypted.getOrDefault(user.getPhoneNumber(), user.getPhoneNumber()));
+            }
+        }
+        userRepository.saveAll(users);
+    }
+}
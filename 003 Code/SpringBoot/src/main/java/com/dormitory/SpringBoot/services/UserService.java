@@ -1,6 +1,7 @@
 package com.dormitory.SpringBoot.services;
 
 import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.dto.CursorPage;
 import com.dormitory.SpringBoot.dto.LoginRequest;
 import com.dormitory.SpringBoot.dto.RegisterRequest;
 import com.dormitory.SpringBoot.dto.UpdateUserRequest;
@@ -12,13 +13,21 @@ import com.dormitory.SpringBoot.utils.SecurityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -31,11 +40,18 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    // 연속 로그인 실패 잠금 기준 (User.incrementLoginAttempts와 동일)
+    private static final int MAX_LOGIN_ATTEMPTS = 5;
+    private static final int LOCKOUT_MINUTES = 30;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordHashService passwordHashService;
 
     @Autowired
     private JwtUtil jwtUtil;
@@ -43,11 +59,25 @@ public class UserService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private UserStatusCacheService userStatusCacheService;
+
+    @Autowired
+    private UserSearchIndexService userSearchIndexService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     /**
      * 사용자 회원가입
      * 관리자 계정: 거주 동/방 번호 자동으로 "관리실" 설정
      * 일반 사용자: 입력받은 거주 동/방 번호 사용
+     * ✅ BCrypt 해시는 트랜잭션 밖에서 계산 - 해시 대기 중 DB 커넥션을 점유하지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse register(RegisterRequest request) {
         try {
             logger.info("회원가입 처리 시작 - 사용자ID: {}, 관리자: {}", request.getId(), request.getIsAdmin());
@@ -65,67 +95,86 @@ public class UserService {
                 }
             }
 
-            // 사용자 생성
-            User user = new User();
-            user.setId(request.getId());
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-            user.setIsAdmin(request.getIsAdmin() != null ? request.getIsAdmin() : false);
-            user.setCreatedAt(LocalDateTime.now());
-            user.setUpdatedAt(LocalDateTime.now());
-            user.setIsActive(true);
+            // 비밀번호 해시 (전용 스레드 풀, 트랜잭션 밖)
+            String passwordHash = passwordHashService.encode(request.getPassword());
 
-            // ✅ 필수 필드: 이름 암호화 저장
-            if (request.getName() != null && !request.getName().trim().isEmpty()) {
-                user.setName(encryptionUtil.encrypt(request.getName()));
-            }
+            User saved = new TransactionTemplate(transactionManager)
+                    .execute(tx -> createUser(request, passwordHash));
+            logger.info("회원가입 완료 - 사용자ID: {}, 거주 동: {}, 방 번호: {}",
+                    saved.getId(), saved.getDormitoryBuilding(), saved.getRoomNumber());
 
-            // ✅ 관리자 여부에 따라 거주 동/방 번호 설정
-            if (Boolean.TRUE.equals(request.getIsAdmin())) {
-                // 관리자는 자동으로 "관리실" 설정
-                user.setDormitoryBuilding("관리실");
-                user.setRoomNumber("관리실");
-                logger.info("관리자 계정 - 거주 동/방 번호를 '관리실'로 자동 설정");
-            } else {
-                // 일반 사용자는 입력받은 값 사용 (필수)
-                if (request.getDormitoryBuilding() != null && !request.getDormitoryBuilding().trim().isEmpty()) {
-                    user.setDormitoryBuilding(request.getDormitoryBuilding());
-                } else {
-                    throw new RuntimeException("일반 사용자는 거주 동을 입력해야 합니다.");
-                }
+            return convertToResponse(saved);
 
-                if (request.getRoomNumber() != null && !request.getRoomNumber().trim().isEmpty()) {
-                    user.setRoomNumber(request.getRoomNumber());
-                } else {
-                    throw new RuntimeException("일반 사용자는 방 번호를 입력해야 합니다.");
-                }
-            }
+        } catch (PasswordHashService.OverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("회원가입 처리 중 오류 발생", e);
+            throw new RuntimeException("회원가입에 실패했습니다: " + e.getMessage());
+        }
+    }
 
-            // 선택 필드: 이메일
-            if (request.getEmail() != null && !request.getEmail().trim().isEmpty()) {
-                user.setEmail(encryptionUtil.encrypt(request.getEmail()));
-                user.setEmailHash(SecurityUtils.hashUserId(request.getEmail().trim()));
-            }
+    /**
+     * 회원가입 사용자 생성 및 저장 (호출 측 트랜잭션 안에서 실행)
+     */
+    private User createUser(RegisterRequest request, String passwordHash) {
+        // 사용자 생성
+        User user = new User();
+        user.setId(request.getId());
+        user.setPassword(passwordHash);
+        user.setIsAdmin(request.getIsAdmin() != null ? request.getIsAdmin() : false);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setIsActive(true);
+
+        // ✅ 필수 필드: 이름 암호화 저장
+        if (request.getName() != null && !request.getName().trim().isEmpty()) {
+            user.setName(encryptionUtil.encrypt(request.getName()));
+            userSearchIndexService.indexName(user, request.getName());
+        }
 
-            // 선택 필드: 전화번호
-            if (request.getPhoneNumber() != null && !request.getPhoneNumber().trim().isEmpty()) {
-                user.setPhoneNumber(encryptionUtil.encrypt(request.getPhoneNumber()));
+        // ✅ 관리자 여부에 따라 거주 동/방 번호 설정
+        if (Boolean.TRUE.equals(request.getIsAdmin())) {
+            // 관리자는 자동으로 "관리실" 설정
+            user.setDormitoryBuilding("관리실");
+            user.setRoomNumber("관리실");
+            logger.info("관리자 계정 - 거주 동/방 번호를 '관리실'로 자동 설정");
+        } else {
+            // 일반 사용자는 입력받은 값 사용 (필수)
+            if (request.getDormitoryBuilding() != null && !request.getDormitoryBuilding().trim().isEmpty()) {
+                user.setDormitoryBuilding(request.getDormitoryBuilding());
+            } else {
+                throw new RuntimeException("일반 사용자는 거주 동을 입력해야 합니다.");
             }
 
-            user = userRepository.save(user);
-            logger.info("회원가입 완료 - 사용자ID: {}, 거주 동: {}, 방 번호: {}",
-                    user.getId(), user.getDormitoryBuilding(), user.getRoomNumber());
+            if (request.getRoomNumber() != null && !request.getRoomNumber().trim().isEmpty()) {
+                user.setRoomNumber(request.getRoomNumber());
+            } else {
+                throw new RuntimeException("일반 사용자는 방 번호를 입력해야 합니다.");
+            }
+        }
 
-            return convertToResponse(user);
+        // 선택 필드: 이메일
+        if (request.getEmail() != null && !request.getEmail().trim().isEmpty()) {
+            user.setEmail(encryptionUtil.encrypt(request.getEmail()));
+            user.setEmailHash(SecurityUtils.hashUserId(request.getEmail().trim()));
+        }
 
-        } catch (Exception e) {
-            logger.error("회원가입 처리 중 오류 발생", e);
-            throw new RuntimeException("회원가입에 실패했습니다: " + e.getMessage());
+        // 선택 필드: 전화번호
+        if (request.getPhoneNumber() != null && !request.getPhoneNumber().trim().isEmpty()) {
+            user.setPhoneNumber(encryptionUtil.encrypt(request.getPhoneNumber()));
+            userSearchIndexService.indexPhone(user, request.getPhoneNumber());
         }
+
+        return userRepository.save(user);
     }
 
     /**
      * 사용자 로그인
+     * ✅ BCrypt 검증은 PasswordHashService 전용 스레드 풀에서 수행 - 검증 대기 중 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * ✅ 저장된 해시의 강도가 설정과 다르면 로그인 성공 시 재해시
+     * ✅ 실패 횟수/잠금/재해시는 조건부 UPDATE로 기록 - 동시 로그인 시도끼리 서로 덮어쓰지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String login(LoginRequest request) {
         try {
             logger.info("로그인 처리 시작 - 사용자ID: {}", request.getId());
@@ -145,17 +194,41 @@ public class UserService {
             }
 
             // 비밀번호 확인
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                // 로그인 실패 시 시도 횟수 증가
-                user.incrementLoginAttempts();
-                userRepository.save(user);
+            if (!passwordHashService.matches(request.getPassword(), user.getPassword())) {
+                // 로그인 실패 시 시도 횟수 증가 (DB에서 원자적으로), 잠금 여부는 다시 조회
+                LocalDateTime now = LocalDateTime.now();
+                executeInTransaction(() -> userRepository.recordLoginFailure(
+                        user.getId(), MAX_LOGIN_ATTEMPTS, now.plusMinutes(LOCKOUT_MINUTES), now));
+                if (userRepository.findIsLockedById(user.getId()).orElse(false)) {
+                    userStatusCacheService.invalidate(user.getId());
+                }
                 throw new RuntimeException("비밀번호가 일치하지 않습니다.");
             }
 
-            // 로그인 성공 처리
-            user.onLoginSuccess();
-            user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+            // 해시 강도 변경 시 재해시 (과부하로 실패하면 다음 로그인 때 다시 시도)
+            String rehashed = null;
+            if (passwordHashService.needsRehash(user.getPassword())) {
+                try {
+                    rehashed = passwordHashService.encode(request.getPassword());
+                } catch (PasswordHashService.OverloadedException e) {
+                    logger.warn("비밀번호 재해시 보류 (과부하) - 사용자ID: {}", user.getId());
+                }
+            }
+
+            // 로그인 성공 처리 - 검증 중 잠금/비활성화되었으면 거부
+            String newHash = rehashed;
+            int updated = executeInTransaction(() -> {
+                int reset = userRepository.recordLoginSuccess(user.getId(), LocalDateTime.now());
+                if (reset == 1 && newHash != null
+                        && userRepository.replacePasswordHash(user.getId(), user.getPassword(), newHash) == 1) {
+                    logger.info("비밀번호 재해시 완료 - 사용자ID: {}", user.getId());
+                }
+                return reset;
+            });
+            userStatusCacheService.invalidate(user.getId());
+            if (updated != 1) {
+                throw new RuntimeException("계정이 잠겨있거나 비활성화되었습니다. 잠시 후 다시 시도해주세요.");
+            }
 
             // JWT 토큰 생성
             String token = jwtUtil.generateToken(user.getId(), user.getIsAdmin());
@@ -163,6 +236,8 @@ public class UserService {
             logger.info("로그인 완료 - 사용자ID: {}", user.getId());
             return token;
 
+        } catch (PasswordHashService.OverloadedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("로그인 처리 중 오류 발생", e);
             throw new RuntimeException("로그인에 실패했습니다: " + e.getMessage());
@@ -204,6 +279,7 @@ public class UserService {
             // ✅ 수정 가능한 필드만 업데이트 (이름, 이메일, 전화번호)
             if (request.getName() != null && !request.getName().trim().isEmpty()) {
                 user.setName(encryptionUtil.encrypt(request.getName()));
+                userSearchIndexService.indexName(user, request.getName());
             }
             if (request.getEmail() != null && !request.getEmail().trim().isEmpty()) {
                 user.setEmail(encryptionUtil.encrypt(request.getEmail()));
@@ -211,6 +287,7 @@ public class UserService {
             }
             if (request.getPhoneNumber() != null && !request.getPhoneNumber().trim().isEmpty()) {
                 user.setPhoneNumber(encryptionUtil.encrypt(request.getPhoneNumber()));
+                userSearchIndexService.indexPhone(user, request.getPhoneNumber());
             }
 
             // ✅ 기숙사/호실 정보는 일반 사용자가 수정할 수 없음
@@ -235,7 +312,9 @@ public class UserService {
 
     /**
      * 비밀번호 변경
+     * ✅ BCrypt 검증/해시는 트랜잭션 밖에서 수행, 확인에 사용한 해시가 그대로일 때만 교체
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(String userId, String currentPassword, String newPassword) {
         try {
             logger.info("비밀번호 변경 - 사용자ID: {}", userId);
@@ -244,18 +323,27 @@ public class UserService {
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
             // 현재 비밀번호 확인
-            if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            if (!passwordHashService.matches(currentPassword, user.getPassword())) {
                 throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
             }
 
             // 새 비밀번호 설정
-            user.setPassword(passwordEncoder.encode(newPassword));
-            user.setPasswordChangedAt(LocalDateTime.now());
-            user.setUpdatedAt(LocalDateTime.now());
-
-            userRepository.save(user);
+            String newHash = passwordHashService.encode(newPassword);
+            int updated = executeInTransaction(() -> {
+                int changed = userRepository.changePassword(userId, user.getPassword(), newHash, LocalDateTime.now());
+                if (changed == 1) {
+                    // 다른 기기의 로그인 유지 중단 (현재 액세스 토큰은 만료까지 유효)
+                    refreshTokenService.revokeAllForUser(userId);
+                }
+                return changed;
+            });
+            if (updated != 1) {
+                throw new RuntimeException("비밀번호가 다른 요청에 의해 변경되었습니다. 다시 시도해주세요.");
+            }
             logger.info("비밀번호 변경 완료 - 사용자ID: {}", userId);
 
+        } catch (PasswordHashService.OverloadedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("비밀번호 변경 중 오류 발생", e);
             throw new RuntimeException("비밀번호 변경에 실패했습니다: " + e.getMessage());
@@ -278,6 +366,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             userRepository.save(user);
+            userStatusCacheService.invalidate(userId);
             logger.info("계정 잠금 해제 완료 - 사용자ID: {}", userId);
 
         } catch (Exception e) {
@@ -300,6 +389,11 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             userRepository.save(user);
+            userStatusCacheService.invalidate(userId);
+
+            // 발급된 토큰 즉시 무효화
+            refreshTokenService.revokeAllForUser(userId);
+            tokenRevocationService.revokeAllForUser(userId);
             logger.info("사용자 비활성화 완료 - 사용자ID: {}", userId);
 
         } catch (Exception e) {
@@ -322,6 +416,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             userRepository.save(user);
+            userStatusCacheService.invalidate(userId);
             logger.info("사용자 활성화 완료 - 사용자ID: {}", userId);
 
         } catch (Exception e) {
@@ -335,21 +430,11 @@ public class UserService {
      */
     public void incrementLoginAttempts(String userId) {
         try {
-            Optional<User> userOptional = userRepository.findById(userId);
-            if (userOptional.isPresent()) {
-                User user = userOptional.get();
-                int attempts = (user.getLoginAttempts() != null ? user.getLoginAttempts() : 0) + 1;
-                user.setLoginAttempts(attempts);
-
-                // 5회 이상 실패 시 계정 잠금 (30분)
-                if (attempts >= 5) {
-                    user.setIsLocked(true);
-                    user.setLockedUntil(LocalDateTime.now().plusMinutes(30));
-                    logger.warn("계정 잠금 - 사용자ID: {}, 잠금해제시간: {}", userId, user.getLockedUntil());
-                }
-
-                user.setUpdatedAt(LocalDateTime.now());
-                userRepository.save(user);
+            LocalDateTime now = LocalDateTime.now();
+            if (userRepository.recordLoginFailure(userId, MAX_LOGIN_ATTEMPTS, now.plusMinutes(LOCKOUT_MINUTES), now) == 1
+                    && userRepository.findIsLockedById(userId).orElse(false)) {
+                logger.warn("계정 잠금 - 사용자ID: {}", userId);
+                userStatusCacheService.invalidate(userId);
             }
         } catch (Exception e) {
             logger.error("로그인 실패 횟수 증가 중 오류 발생", e);
@@ -370,6 +455,7 @@ public class UserService {
                 user.setLastLoginAt(LocalDateTime.now());
                 user.setUpdatedAt(LocalDateTime.now());
                 userRepository.save(user);
+                userStatusCacheService.invalidate(userId);
             }
         } catch (Exception e) {
             logger.error("로그인 성공 처리 중 오류 발생", e);
@@ -382,9 +468,24 @@ public class UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         logger.info("전체 사용자 목록 조회");
-        return userRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return convertToResponses(userRepository.findAll());
+    }
+
+    /**
+     * ✅ 사용자 키셋 페이지 조회 (생성일시, ID 역순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsersPage(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<User> fetched = after == null
+                ? userRepository.findFirstPage(limit)
+                : userRepository.findPageAfter(after.getTime(), after.getId(), limit);
+
+        CursorPage<User> page = CursorPage.of(fetched, pageSize, User::getCreatedAt, User::getId, user -> user);
+        return page.withContent(convertToResponses(page.getContent()));
     }
 
     /**
@@ -393,28 +494,80 @@ public class UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> getActiveUsers() {
         logger.info("활성 사용자 목록 조회");
-        return userRepository.findByIsActiveTrue().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return convertToResponses(userRepository.findByIsActiveTrue());
+    }
+
+    /**
+     * ✅ 관리자용 사용자 검색 (이름/전화번호 앞부분, 블라인드 인덱스 사용)
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> searchUsers(String name, String phoneNumber) {
+        logger.info("사용자 검색 - 이름 조건: {}, 전화번호 조건: {}", name != null, phoneNumber != null);
+
+        List<User> users;
+        if (name != null && !name.trim().isEmpty()) {
+            users = userSearchIndexService.searchByName(name);
+            if (phoneNumber != null && !phoneNumber.trim().isEmpty()) {
+                Set<String> phoneMatches = userSearchIndexService.searchByPhone(phoneNumber).stream()
+                        .map(User::getId)
+                        .collect(Collectors.toSet());
+                users = users.stream().filter(user -> phoneMatches.contains(user.getId())).collect(Collectors.toList());
+            }
+        } else if (phoneNumber != null && !phoneNumber.trim().isEmpty()) {
+            users = userSearchIndexService.searchByPhone(phoneNumber);
+        } else {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        return convertToResponses(users);
+    }
+
+    /**
+     * 트랜잭션 없이 실행되는 메서드(login 등)에서 DB 쓰기만 짧은 트랜잭션으로 실행
+     */
+    private int executeInTransaction(IntSupplier work) {
+        Integer result = new TransactionTemplate(transactionManager).execute(tx -> work.getAsInt());
+        return result != null ? result : 0;
     }
 
     /**
      * User Entity를 UserResponse DTO로 변환
      */
     private UserResponse convertToResponse(User user) {
+        return convertToResponse(user, encryptionUtil::decrypt);
+    }
+
+    /**
+     * ✅ 목록용 일괄 변환 - 이름/이메일/전화번호를 한 번에 복호화 (중복 값은 1회)
+     */
+    private List<UserResponse> convertToResponses(List<User> users) {
+        List<String> encryptedValues = new ArrayList<>(users.size() * 3);
+        for (User user : users) {
+            encryptedValues.add(user.getName());
+            encryptedValues.add(user.getEmail());
+            encryptedValues.add(user.getPhoneNumber());
+        }
+        Map<String, String> decrypted = encryptionUtil.decryptAll(encryptedValues);
+
+        return users.stream()
+                .map(user -> convertToResponse(user, value -> decrypted.getOrDefault(value, value)))
+                .collect(Collectors.toList());
+    }
+
+    private UserResponse convertToResponse(User user, Function<String, String> decryptor) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
 
         // 암호화된 필드 복호화
         try {
             if (user.getName() != null) {
-                response.setName(encryptionUtil.decrypt(user.getName()));
+                response.setName(decryptor.apply(user.getName()));
             }
             if (user.getEmail() != null) {
-                response.setEmail(encryptionUtil.decrypt(user.getEmail()));
+                response.setEmail(decryptor.apply(user.getEmail()));
             }
             if (user.getPhoneNumber() != null) {
-                response.setPhoneNumber(encryptionUtil.decrypt(user.getPhoneNumber()));
+                response.setPhoneNumber(decryptor.apply(user.getPhoneNumber()));
             }
         } catch (Exception e) {
             logger.warn("사용자 정보 복호화 실패 - 사용자ID: {}", user.getId());
@@ -0,0 +1,119 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.domain.User;
+import com.dormitory.SpringBoot.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 인증용 사용자 상태 캐시 (JwtAuthenticationFilter)
+ * ✅ 활성/잠금/관리자 여부만 짧은 TTL로 보관하여 매 요청 DB 조회 제거
+ * ✅ UserService의 상태 변경(비활성화/활성화/잠금/잠금 해제) 시 즉시 + 커밋 후 무효화
+ */
+@Service
+public class UserStatusCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusCacheService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.auth.user-status-cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.auth.user-status-cache-max-size:10000}")
+    private long cacheMaxSize;
+
+    private Cache<String, Optional<UserStatus>> statusCache;
+
+    /**
+     * 인증에 필요한 사용자 상태 스냅샷
+     */
+    public static class UserStatus {
+        private final boolean active;
+        private final boolean locked;
+        private final LocalDateTime lockedUntil;
+        private final boolean admin;
+
+        public UserStatus(boolean active, boolean locked, LocalDateTime lockedUntil, boolean admin) {
+            this.active = active;
+            this.locked = locked;
+            this.lockedUntil = lockedUntil;
+            this.admin = admin;
+        }
+
+        static UserStatus from(User user) {
+            return new UserStatus(Boolean.TRUE.equals(user.getIsActive()), Boolean.TRUE.equals(user.getIsLocked()),
+                    user.getLockedUntil(), Boolean.TRUE.equals(user.getIsAdmin()));
+        }
+
+        public boolean isActive() { return active; }
+        public boolean isAdmin() { return admin; }
+
+        /**
+         * 잠금 여부 (User.isAccountLocked와 동일 - 잠금 만료 시각이 지나면 해제로 판단)
+         */
+        public boolean isAccountLocked() {
+            if (!locked) {
+                return false;
+            }
+            return lockedUntil == null || LocalDateTime.now().isBefore(lockedUntil);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        this.statusCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자 상태 조회 (캐시 미스 시 DB 조회)
+     *
+     * @return 사용자가 없으면 empty
+     */
+    public Optional<UserStatus> getStatus(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return statusCache.get(userId, id -> userRepository.findById(id).map(UserStatus::from));
+    }
+
+    /**
+     * 사용자 상태 캐시 무효화 (트랜잭션 중이면 커밋 후 한 번 더)
+     */
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        statusCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 이전 상태로 다시 적재한 경우 대비
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statusCache.invalidate(userId);
+                }
+            });
+        }
+        logger.debug("사용자 상태 캐시 무효화 - 사용자ID: {}", userId);
+    }
+
+    public void invalidateAll() {
+        statusCache.invalidateAll();
+    }
+}
@@ -0,0 +1,162 @@
+package com.dormitory.SpringBoot.utils;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 암호화된 개인정보 검색용 블라인드 인덱스 유틸리티
+ * ✅ HMAC-SHA256(필드명 + 정규화된 값)을 잘라 Base64URL 토큰으로 저장 - 평문 없이 일치 검색 가능
+ * ✅ 앞부분 검색용 접두사 토큰 생성 (min ~ max 길이)
+ * ✅ 암호화 키와 분리된 키 사용 (미설정 시 암호화 키에서 파생)
+ */
+@Component
+public class BlindIndexUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlindIndexUtil.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TOKEN_BYTES = 16;
+
+    public static final String FIELD_NAME = "NAME";
+    public static final String FIELD_PHONE = "PHONE";
+
+    @Value("${app.encryption.blind-index-key:}")
+    private String blindIndexKey;
+
+    @Value("${app.encryption.secret-key}")
+    private String encryptionKey;
+
+    @Value("${app.search.blind-index.min-prefix-length:1}")
+    private int minPrefixLength;
+
+    @Value("${app.search.blind-index.max-prefix-length:10}")
+    private int maxPrefixLength;
+
+    private SecretKeySpec keySpec;
+
+    private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(this::createMac);
+
+    @PostConstruct
+    public void init() {
+        byte[] key;
+        if (blindIndexKey != null && !blindIndexKey.isBlank()) {
+            key = blindIndexKey.getBytes(StandardCharsets.UTF_8);
+        } else {
+            logger.warn("블라인드 인덱스 키가 설정되지 않아 암호화 키에서 파생합니다 (app.encryption.blind-index-key 설정 권장)");
+            key = hmac(new SecretKeySpec(encryptionKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM),
+                    "blind-index-v1".getBytes(StandardCharsets.UTF_8));
+        }
+        this.keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * 이름 정규화 (공백 제거 + 소문자)
+     */
+    public String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 전화번호 정규화 (숫자만)
+     */
+    public String normalizePhone(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String normalized = phoneNumber.replaceAll("[^0-9]", "");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 정규화된 값의 일치 검색 토큰
+     */
+    public String exactToken(String field, String normalizedValue) {
+        if (normalizedValue == null) {
+            return null;
+        }
+        return token(field + "=" + normalizedValue);
+    }
+
+    /**
+     * 정규화된 값의 접두사 검색 토큰 (min ~ max 길이, 코드 포인트 기준)
+     */
+    public List<String> prefixTokens(String field, String normalizedValue) {
+        List<String> tokens = new ArrayList<>();
+        if (normalizedValue == null) {
+            return tokens;
+        }
+        int length = normalizedValue.codePointCount(0, normalizedValue.length());
+        for (int n = minPrefixLength; n <= Math.min(length, maxPrefixLength); n++) {
+            tokens.add(prefixToken(field, normalizedValue, n));
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어의 접두사 토큰 (검색어가 최대 길이를 넘으면 최대 길이까지만 사용 - 결과는 호출 측에서 재확인)
+     *
+     * @return 검색어가 최소 길이보다 짧으면 null
+     */
+    public String queryPrefixToken(String field, String normalizedQuery) {
+        if (normalizedQuery == null) {
+            return null;
+        }
+        int length = normalizedQuery.codePointCount(0, normalizedQuery.length());
+        if (length < minPrefixLength) {
+            return null;
+        }
+        return prefixToken(field, normalizedQuery, Math.min(length, maxPrefixLength));
+    }
+
+    public int getMaxPrefixLength() {
+        return maxPrefixLength;
+    }
+
+    private String prefixToken(String field, String normalizedValue, int codePoints) {
+        int end = normalizedValue.offsetByCodePoints(0, codePoints);
+        return token(field + "^" + normalizedValue.substring(0, end));
+    }
+
+    private String token(String input) {
+        Mac mac = macHolder.get();
+        byte[] digest = mac.doFinal(input.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TOKEN_BYTES));
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] hmac(SecretKeySpec key, byte[] input) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(input);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.dormitory.SpringBoot.utils;
 
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 개인정보 암호화/복호화를 위한 유틸리티 클래스
+ * ✅ 키와 스레드별 Cipher를 재사용하고, 목록 화면용 일괄 복호화(decryptAll) 제공
+ * ✅ 신규 암호화는 AES-GCM + 키 버전 ("v{버전}:" + Base64(IV + 암호문 + 태그))
+ * ✅ 기존 AES/ECB 값(접두사 없음)도 계속 복호화 - 재암호화 작업(ReEncryptionJobService)으로 점진 전환
  */
 @Component
 public class EncryptionUtil {
@@ -19,16 +31,64 @@ public class EncryptionUtil {
     private static final Logger logger = LoggerFactory.getLogger(EncryptionUtil.class);
 
     private static final String ALGORITHM = "AES";
-    private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final char VERSION_PREFIX = 'v';
+    private static final char VERSION_SEPARATOR = ':';
 
     @Value("${app.encryption.secret-key}")
     private String secretKey;
 
     /**
-     * 문자열 암호화
+     * 버전별 GCM 키 ("1:Base64키,2:Base64키"), 비어 있으면 secret-key에서 버전 1 키 파생
+     */
+    @Value("${app.encryption.gcm-keys:}")
+    private String gcmKeysConfig;
+
+    @Value("${app.encryption.active-key-version:1}")
+    private int activeKeyVersion;
+
+    private SecretKeySpec legacyKeySpec;
+    private final Map<Integer, SecretKeySpec> gcmKeys = new HashMap<>();
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * 스레드별 Cipher 재사용 (Cipher는 스레드 안전하지 않음)
+     * - ECB 복호화는 IV가 없어 재초기화 불필요, GCM은 값마다 IV로 재초기화
+     */
+    private final ThreadLocal<Cipher> legacyDecryptCipher = ThreadLocal.withInitial(this::createLegacyDecryptCipher);
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(this::createGcmCipher);
+
+    @PostConstruct
+    public void init() {
+        this.legacyKeySpec = new SecretKeySpec(getKeyBytes(), ALGORITHM);
+
+        if (gcmKeysConfig != null && !gcmKeysConfig.isBlank()) {
+            for (String entry : gcmKeysConfig.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("잘못된 암호화 키 설정입니다: app.encryption.gcm-keys");
+                }
+                byte[] key = Base64.getDecoder().decode(parts[1].trim());
+                gcmKeys.put(Integer.parseInt(parts[0].trim()), new SecretKeySpec(key, ALGORITHM));
+            }
+        } else {
+            gcmKeys.put(1, new SecretKeySpec(deriveKey(getKeyBytes(), "aes-gcm-v1"), ALGORITHM));
+        }
+
+        if (!gcmKeys.containsKey(activeKeyVersion)) {
+            throw new IllegalStateException("활성 암호화 키 버전 " + activeKeyVersion + "의 키가 없습니다.");
+        }
+        logger.info("개인정보 암호화 초기화 - 활성 키 버전: {}, 등록된 키 버전: {}", activeKeyVersion, gcmKeys.keySet());
+    }
+
+    /**
+     * 문자열 암호화 (AES-GCM, 활성 키 버전)
      *
      * @param plainText 암호화할 문자열
-     * @return 암호화된 문자열 (Base64 인코딩)
+     * @return 암호화된 문자열 ("v{버전}:" + Base64)
      */
     public String encrypt(String plainText) {
         if (plainText == null || plainText.isEmpty()) {
@@ -36,12 +96,23 @@ public class EncryptionUtil {
         }
 
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(getKeyBytes(), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+            byte[] iv = new byte[GCM_IV_BYTES];
+            secureRandom.nextBytes(iv);
+
+            Cipher cipher = gcmCipher.get();
+            byte[] encryptedBytes;
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, gcmKeys.get(activeKeyVersion), new GCMParameterSpec(GCM_TAG_BITS, iv));
+                encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            } catch (GeneralSecurityException | RuntimeException e) {
+                gcmCipher.remove();
+                throw e;
+            }
 
-            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedBytes);
+            ByteBuffer payload = ByteBuffer.allocate(iv.length + encryptedBytes.length);
+            payload.put(iv).put(encryptedBytes);
+            return VERSION_PREFIX + String.valueOf(activeKeyVersion) + VERSION_SEPARATOR
+                    + Base64.getEncoder().encodeToString(payload.array());
 
         } catch (Exception e) {
             logger.error("암호화 중 오류 발생", e);
@@ -50,9 +121,9 @@ public class EncryptionUtil {
     }
 
     /**
-     * 문자열 복호화
+     * 문자열 복호화 (GCM/기존 ECB 형식 자동 판별)
      *
-     * @param encryptedText 암호화된 문자열 (Base64 인코딩)
+     * @param encryptedText 암호화된 문자열
      * @return 복호화된 문자열
      */
     public String decrypt(String encryptedText) {
@@ -61,13 +132,7 @@ public class EncryptionUtil {
         }
 
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(getKeyBytes(), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-            byte[] decryptedBytes = cipher.doFinal(decodedBytes);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            return decryptValue(encryptedText);
 
         } catch (Exception e) {
             logger.error("복호화 중 오류 발생", e);
@@ -77,6 +142,173 @@ public class EncryptionUtil {
         }
     }
 
+    /**
+     * ✅ 일괄 복호화 (목록 화면용)
+     * 중복 값은 한 번만 복호화하고, 실패한 값은 decrypt와 같이 원본을 그대로 사용
+     *
+     * @param encryptedTexts 암호화된 문자열 목록 (null/빈 값 허용)
+     * @return 암호문 → 평문 맵 (null/빈 값은 포함하지 않음)
+     */
+    public Map<String, String> decryptAll(Collection<String> encryptedTexts) {
+        Map<String, String> result = new HashMap<>();
+        if (encryptedTexts == null || encryptedTexts.isEmpty()) {
+            return result;
+        }
+
+        int failed = 0;
+        for (String encryptedText : encryptedTexts) {
+            if (encryptedText == null || encryptedText.isEmpty() || result.containsKey(encryptedText)) {
+                continue;
+            }
+            try {
+                result.put(encryptedText, decryptValue(encryptedText));
+            } catch (Exception e) {
+                result.put(encryptedText, encryptedText);
+                failed++;
+            }
+        }
+
+        if (failed > 0) {
+            logger.warn("일괄 복호화 중 {}건 실패 - 원본 텍스트 사용", failed);
+        }
+        return result;
+    }
+
+    /**
+     * 활성 키 버전의 GCM 형식이 아닌 값인지 확인 (재암호화 대상)
+     */
+    public boolean needsReEncryption(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        return keyVersionOf(value) != activeKeyVersion;
+    }
+
+    /**
+     * 활성 키 버전으로 재암호화
+     * 접두사 없는 값 중 기존 ECB로 복호화되지 않는 값은 평문으로 저장된 것으로 보고 그대로 암호화
+     *
+     * @throws RuntimeException 알 수 없는 키 버전이거나 GCM 인증 실패
+     */
+    public String reEncrypt(String value) {
+        if (!needsReEncryption(value)) {
+            return value;
+        }
+
+        String plainText;
+        if (keyVersionOf(value) < 0) {
+            try {
+                plainText = decryptLegacy(value);
+            } catch (Exception e) {
+                plainText = value;
+            }
+        } else {
+            try {
+                plainText = decryptValue(value);
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException("재암호화 대상 복호화에 실패했습니다: " + e.getMessage());
+            }
+        }
+        return encrypt(plainText);
+    }
+
+    public int getActiveKeyVersion() {
+        return activeKeyVersion;
+    }
+
+    /**
+     * 형식 판별 후 복호화 (실패 시 예외)
+     */
+    private String decryptValue(String encryptedText) throws GeneralSecurityException {
+        int version = keyVersionOf(encryptedText);
+        if (version < 0) {
+            return decryptLegacy(encryptedText);
+        }
+
+        SecretKeySpec key = gcmKeys.get(version);
+        if (key == null) {
+            throw new GeneralSecurityException("등록되지 않은 키 버전입니다: " + version);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(encryptedText.substring(encryptedText.indexOf(VERSION_SEPARATOR) + 1));
+        if (payload.length <= GCM_IV_BYTES) {
+            throw new GeneralSecurityException("암호문 길이가 올바르지 않습니다.");
+        }
+
+        Cipher cipher = gcmCipher.get();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_BYTES));
+            byte[] decryptedBytes = cipher.doFinal(payload, GCM_IV_BYTES, payload.length - GCM_IV_BYTES);
+            return new String(decryptedBytes, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            gcmCipher.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * 기존 AES/ECB 형식 복호화 (예외 발생 시 해당 스레드의 Cipher는 버리고 새로 생성)
+     */
+    private String decryptLegacy(String encryptedText) throws GeneralSecurityException {
+        byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
+        try {
+            byte[] decryptedBytes = legacyDecryptCipher.get().doFinal(decodedBytes);
+            return new String(decryptedBytes, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            legacyDecryptCipher.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * "v{버전}:" 접두사의 키 버전 (Base64에는 ':'가 없으므로 접두사가 없으면 기존 형식, -1)
+     */
+    private int keyVersionOf(String value) {
+        if (value.length() < 3 || value.charAt(0) != VERSION_PREFIX) {
+            return -1;
+        }
+        int separator = value.indexOf(VERSION_SEPARATOR);
+        if (separator < 2 || separator > 5) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.substring(1, separator));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Cipher createLegacyDecryptCipher() {
+        try {
+            Cipher cipher = Cipher.getInstance(LEGACY_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, legacyKeySpec);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 초기화에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private Cipher createGcmCipher() {
+        try {
+            return Cipher.getInstance(GCM_TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 초기화에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기존 키에서 용도별 키 파생 (HMAC-SHA256)
+     */
+    private byte[] deriveKey(byte[] baseKey, String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(baseKey, "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("키 파생에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 암호화된 텍스트인지 확인
      *
@@ -89,11 +321,8 @@ public class EncryptionUtil {
         }
 
         try {
-            // Base64 디코딩이 가능한지 확인
-            Base64.getDecoder().decode(text);
-
-            // 복호화 시도
-            decrypt(text);
+            // 형식 판별 후 복호화 시도
+            decryptValue(text);
             return true;
 
         } catch (Exception e) {
@@ -0,0 +1,462 @@
+package com.dormitory.SpringBoot.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 경량 EXIF 헤더 파서
+ * ✅ 이미지 디코딩(ImageIO) 없이 파일 앞부분(기본 64KB)만 읽어 TIFF/EXIF 태그를 직접 해석
+ * ✅ JPEG은 세그먼트를 따라가 APP1(Exif)만 읽고, HEIC/HEIF는 읽은 범위에서 Exif 블록 서명을 찾아 해석
+ * ✅ 촬영 시각(+ 기록된 경우 UTC 오프셋), 제조사/모델, 소프트웨어, 방향(Orientation), GPS 좌표만 추출하여 ExifMetadata로 반환
+ */
+public final class ExifHeaderParser {
+
+    public static final int DEFAULT_WINDOW_BYTES = 64 * 1024;
+
+    private static final DateTimeFormatter EXIF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    // IFD0
+    private static final int TAG_MAKE = 0x010F;
+    private static final int TAG_MODEL = 0x0110;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_SOFTWARE = 0x0131;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+    // Exif IFD
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_OFFSET_TIME = 0x9010;
+    private static final int TAG_OFFSET_TIME_ORIGINAL = 0x9011;
+    // GPS IFD
+    private static final int TAG_GPS_LATITUDE_REF = 0x0001;
+    private static final int TAG_GPS_LATITUDE = 0x0002;
+    private static final int TAG_GPS_LONGITUDE_REF = 0x0003;
+    private static final int TAG_GPS_LONGITUDE = 0x0004;
+
+    private static final int TYPE_ASCII = 2;
+    private static final int TYPE_SHORT = 3;
+    private static final int TYPE_LONG = 4;
+    private static final int TYPE_RATIONAL = 5;
+
+    private static final int MAX_IFD_ENTRIES = 512;
+
+    private ExifHeaderParser() {}
+
+    /**
+     * 추출된 EXIF 정보 (없는 항목은 null)
+     */
+    public static final class ExifMetadata {
+        private static final ExifMetadata EMPTY = formatOnly(null);
+
+        private final String format;
+        private final LocalDateTime dateTimeOriginal;
+        private final LocalDateTime dateTime;
+        private final String make;
+        private final String model;
+        private final String software;
+        private final Double latitude;
+        private final Double longitude;
+        private final ZoneOffset offsetTimeOriginal;
+        private final ZoneOffset offsetTime;
+        private final Integer orientation;
+
+        public ExifMetadata(String format, LocalDateTime dateTimeOriginal, LocalDateTime dateTime,
+                            String make, String model, String software, Double latitude, Double longitude) {
+            this(format, dateTimeOriginal, dateTime, make, model, software, latitude, longitude, null, null);
+        }
+
+        public ExifMetadata(String format, LocalDateTime dateTimeOriginal, LocalDateTime dateTime,
+                            String make, String model, String software, Double latitude, Double longitude,
+                            ZoneOffset offsetTimeOriginal, ZoneOffset offsetTime) {
+            this(format, dateTimeOriginal, dateTime, make, model, software, latitude, longitude,
+                    offsetTimeOriginal, offsetTime, null);
+        }
+
+        public ExifMetadata(String format, LocalDateTime dateTimeOriginal, LocalDateTime dateTime,
+                            String make, String model, String software, Double latitude, Double longitude,
+                            ZoneOffset offsetTimeOriginal, ZoneOffset offsetTime, Integer orientation) {
+            this.format = format;
+            this.dateTimeOriginal = dateTimeOriginal;
+            this.dateTime = dateTime;
+            this.make = make;
+            this.model = model;
+            this.software = software;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.offsetTimeOriginal = offsetTimeOriginal;
+            this.offsetTime = offsetTime;
+            this.orientation = orientation;
+        }
+
+        public static ExifMetadata empty() { return EMPTY; }
+
+        static ExifMetadata formatOnly(String format) {
+            return new ExifMetadata(format, null, null, null, null, null, null, null);
+        }
+
+        public String getFormat() { return format; }
+        public LocalDateTime getDateTimeOriginal() { return dateTimeOriginal; }
+        public LocalDateTime getDateTime() { return dateTime; }
+        public String getMake() { return make; }
+        public String getModel() { return model; }
+        public String getSoftware() { return software; }
+        public Double getLatitude() { return latitude; }
+        public Double getLongitude() { return longitude; }
+        public ZoneOffset getOffsetTimeOriginal() { return offsetTimeOriginal; }
+        public ZoneOffset getOffsetTime() { return offsetTime; }
+        public Integer getOrientation() { return orientation; }
+
+        /**
+         * 촬영 시각 (DateTimeOriginal 우선, 없으면 DateTime)
+         */
+        public LocalDateTime getCaptureTime() {
+            return dateTimeOriginal != null ? dateTimeOriginal : dateTime;
+        }
+
+        /**
+         * 촬영 시각을 지정한 시간대로 변환
+         * EXIF 촬영 시각은 카메라의 현지 시각이므로, 오프셋(OffsetTimeOriginal/OffsetTime)이 있으면 그 기준으로 환산하고
+         * 없으면 defaultZone의 현지 시각으로 간주
+         */
+        public ZonedDateTime getCaptureTime(ZoneId defaultZone) {
+            LocalDateTime local = getCaptureTime();
+            if (local == null) {
+                return null;
+            }
+            ZoneOffset offset = dateTimeOriginal != null ? offsetTimeOriginal : offsetTime;
+            return offset != null ? local.atOffset(offset).atZoneSameInstant(defaultZone) : local.atZone(defaultZone);
+        }
+
+        public boolean hasGps() {
+            return latitude != null && longitude != null;
+        }
+
+        /**
+         * 응답/로그용 맵 (기존 EXIF 맵 키와 동일)
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            putIfNotNull(map, "Format", format);
+            putIfNotNull(map, "DateTimeOriginal", dateTimeOriginal != null ? dateTimeOriginal.format(EXIF_DATE_FORMAT) : null);
+            putIfNotNull(map, "OffsetTimeOriginal", offsetTimeOriginal != null ? offsetTimeOriginal.getId() : null);
+            putIfNotNull(map, "DateTime", dateTime != null ? dateTime.format(EXIF_DATE_FORMAT) : null);
+            putIfNotNull(map, "OffsetTime", offsetTime != null ? offsetTime.getId() : null);
+            putIfNotNull(map, "Make", make);
+            putIfNotNull(map, "Model", model);
+            putIfNotNull(map, "Software", software);
+            putIfNotNull(map, "Orientation", orientation);
+            putIfNotNull(map, "GPSLatitude", latitude);
+            putIfNotNull(map, "GPSLongitude", longitude);
+            return map;
+        }
+
+        private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+            if (value != null) {
+                map.put(key, value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+
+    /**
+     * 스트림 앞부분만 읽어 EXIF 추출 (스트림은 닫지 않음)
+     *
+     * @param windowBytes 처음에 읽을 최대 바이트 수 (JPEG APP1이 경계를 넘으면 그 세그먼트 끝까지만 추가로 읽음)
+     */
+    public static ExifMetadata parse(InputStream in, int windowBytes) throws IOException {
+        byte[] head = in.readNBytes(windowBytes);
+
+        if (isJpeg(head)) {
+            return parseJpeg(head, in);
+        }
+        if (isIsoBmff(head)) {
+            int tiffStart = findExifBlock(head);
+            return tiffStart >= 0 ? parseTiff(head, tiffStart, head.length, "HEIC") : ExifMetadata.formatOnly("HEIC");
+        }
+        return ExifMetadata.empty();
+    }
+
+    private static boolean isJpeg(byte[] data) {
+        return data.length >= 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF;
+    }
+
+    private static boolean isIsoBmff(byte[] data) {
+        return data.length >= 12 && data[4] == 'f' && data[5] == 't' && data[6] == 'y' && data[7] == 'p';
+    }
+
+    /**
+     * JPEG 세그먼트 순회 - APP1(Exif)을 찾으면 해당 세그먼트만 해석, 영상 데이터(SOS) 전에 중단
+     */
+    private static ExifMetadata parseJpeg(byte[] head, InputStream in) throws IOException {
+        byte[] data = head;
+        int pos = 2;
+
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                break;
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;  // 채움 바이트
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                break;  // SOS/EOI - 이후는 영상 데이터
+            }
+
+            int length = readUnsignedShort(data, pos + 2, false);
+            int segmentStart = pos + 4;
+            int segmentEnd = pos + 2 + length;
+            if (length < 2) {
+                break;
+            }
+
+            if (marker == 0xE1 && startsWith(data, segmentStart, EXIF_HEADER)) {
+                if (segmentEnd > data.length) {
+                    byte[] rest = in.readNBytes(segmentEnd - data.length);
+                    data = Arrays.copyOf(data, data.length + rest.length);
+                    System.arraycopy(rest, 0, data, data.length - rest.length, rest.length);
+                }
+                int end = Math.min(segmentEnd, data.length);
+                return parseTiff(data, segmentStart + EXIF_HEADER.length, end, "JPEG");
+            }
+            pos = segmentEnd;
+        }
+        return ExifMetadata.formatOnly("JPEG");
+    }
+
+    /**
+     * HEIC의 Exif 항목은 "Exif\0\0" + TIFF 헤더로 시작 - 읽은 범위에서 서명 검색
+     */
+    private static int findExifBlock(byte[] data) {
+        for (int i = 0; i + EXIF_HEADER.length + 4 <= data.length; i++) {
+            if (data[i] == 'E' && startsWith(data, i, EXIF_HEADER)) {
+                int tiff = i + EXIF_HEADER.length;
+                if (isTiffHeader(data, tiff)) {
+                    return tiff;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTiffHeader(byte[] data, int offset) {
+        if (offset + 4 > data.length) {
+            return false;
+        }
+        return (data[offset] == 'I' && data[offset + 1] == 'I' && data[offset + 2] == 0x2A && data[offset + 3] == 0)
+                || (data[offset] == 'M' && data[offset + 1] == 'M' && data[offset + 2] == 0 && data[offset + 3] == 0x2A);
+    }
+
+    /**
+     * TIFF 구조 해석 (IFD0 → Exif IFD, GPS IFD)
+     */
+    private static ExifMetadata parseTiff(byte[] data, int tiffStart, int end, String format) {
+        if (!isTiffHeader(data, tiffStart)) {
+            return ExifMetadata.formatOnly(format);
+        }
+        Tiff tiff = new Tiff(data, tiffStart, end, data[tiffStart] == 'I');
+        if (!tiff.inRange(4, 4)) {
+            return ExifMetadata.formatOnly(format);
+        }
+
+        Map<Integer, Object> ifd0 = tiff.readIfd(tiff.readInt(4));
+        Map<Integer, Object> exifIfd = ifd0.get(TAG_EXIF_IFD) instanceof Long offset ? tiff.readIfd(offset) : Map.of();
+        Map<Integer, Object> gpsIfd = ifd0.get(TAG_GPS_IFD) instanceof Long offset ? tiff.readIfd(offset) : Map.of();
+
+        return new ExifMetadata(
+                format,
+                parseDateTime(exifIfd.get(TAG_DATE_TIME_ORIGINAL)),
+                parseDateTime(ifd0.get(TAG_DATE_TIME)),
+                asString(ifd0.get(TAG_MAKE)),
+                asString(ifd0.get(TAG_MODEL)),
+                asString(ifd0.get(TAG_SOFTWARE)),
+                toDegrees(gpsIfd.get(TAG_GPS_LATITUDE), gpsIfd.get(TAG_GPS_LATITUDE_REF), "S"),
+                toDegrees(gpsIfd.get(TAG_GPS_LONGITUDE), gpsIfd.get(TAG_GPS_LONGITUDE_REF), "W"),
+                parseOffset(exifIfd.get(TAG_OFFSET_TIME_ORIGINAL)),
+                parseOffset(exifIfd.get(TAG_OFFSET_TIME)),
+                parseOrientation(ifd0.get(TAG_ORIENTATION)));
+    }
+
+    /**
+     * TIFF 블록 읽기 (오프셋은 TIFF 헤더 기준, 범위를 벗어나면 해당 항목 무시)
+     */
+    private static class Tiff {
+        private final byte[] data;
+        private final int base;
+        private final int end;
+        private final boolean littleEndian;
+
+        Tiff(byte[] data, int base, int end, boolean littleEndian) {
+            this.data = data;
+            this.base = base;
+            this.end = end;
+            this.littleEndian = littleEndian;
+        }
+
+        boolean inRange(long offset, long length) {
+            return offset >= 0 && length >= 0 && base + offset + length <= end;
+        }
+
+        int readShort(long offset) {
+            return readUnsignedShort(data, (int) (base + offset), littleEndian);
+        }
+
+        long readInt(long offset) {
+            int p = (int) (base + offset);
+            return littleEndian
+                    ? (data[p] & 0xFFL) | (data[p + 1] & 0xFFL) << 8 | (data[p + 2] & 0xFFL) << 16 | (data[p + 3] & 0xFFL) << 24
+                    : (data[p] & 0xFFL) << 24 | (data[p + 1] & 0xFFL) << 16 | (data[p + 2] & 0xFFL) << 8 | (data[p + 3] & 0xFFL);
+        }
+
+        /**
+         * 관심 태그만 값으로 변환 (ASCII → String, SHORT/LONG → Long, RATIONAL → double[])
+         */
+        Map<Integer, Object> readIfd(long offset) {
+            Map<Integer, Object> values = new LinkedHashMap<>();
+            if (!inRange(offset, 2)) {
+                return values;
+            }
+            int count = Math.min(readShort(offset), MAX_IFD_ENTRIES);
+            for (int i = 0; i < count; i++) {
+                long entry = offset + 2 + i * 12L;
+                if (!inRange(entry, 12)) {
+                    break;
+                }
+                int tag = readShort(entry);
+                int type = readShort(entry + 2);
+                long components = readInt(entry + 4);
+                Object value = readValue(type, components, entry + 8);
+                if (value != null) {
+                    values.put(tag, value);
+                }
+            }
+            return values;
+        }
+
+        private Object readValue(int type, long components, long valueField) {
+            int unitSize = switch (type) {
+                case TYPE_ASCII -> 1;
+                case TYPE_SHORT -> 2;
+                case TYPE_LONG -> 4;
+                case TYPE_RATIONAL -> 8;
+                default -> 0;
+            };
+            if (unitSize == 0 || components <= 0 || components > 4096) {
+                return null;
+            }
+            long size = unitSize * components;
+            long valueOffset = size <= 4 ? valueField : readInt(valueField);
+            if (!inRange(valueOffset, size)) {
+                return null;
+            }
+
+            switch (type) {
+                case TYPE_ASCII: {
+                    int start = (int) (base + valueOffset);
+                    int length = (int) components;
+                    while (length > 0 && (data[start + length - 1] == 0 || data[start + length - 1] == ' ')) {
+                        length--;
+                    }
+                    return length > 0 ? new String(data, start, length, StandardCharsets.UTF_8) : null;
+                }
+                case TYPE_SHORT:
+                    return (long) readShort(valueOffset);
+                case TYPE_LONG:
+                    return readInt(valueOffset);
+                default: {
+                    double[] rationals = new double[(int) components];
+                    for (int i = 0; i < rationals.length; i++) {
+                        long numerator = readInt(valueOffset + i * 8L);
+                        long denominator = readInt(valueOffset + i * 8L + 4);
+                        rationals[i] = denominator == 0 ? 0 : (double) numerator / denominator;
+                    }
+                    return rationals;
+                }
+            }
+        }
+    }
+
+    private static LocalDateTime parseDateTime(Object value) {
+        if (!(value instanceof String text) || text.length() < 19) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(text.substring(0, 19), EXIF_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;  // "0000:00:00 00:00:00" 등
+        }
+    }
+
+    /**
+     * EXIF 오프셋 문자열 ("+09:00") 해석, 비어 있거나 형식이 다르면 null
+     */
+    private static ZoneOffset parseOffset(Object value) {
+        if (!(value instanceof String text)) {
+            return null;
+        }
+        try {
+            return ZoneOffset.of(text.trim());
+        } catch (DateTimeException e) {
+            return null;  // "   :  " 등
+        }
+    }
+
+    /**
+     * Orientation (1~8, 범위 밖 값은 무시)
+     */
+    private static Integer parseOrientation(Object value) {
+        return value instanceof Long orientation && orientation >= 1 && orientation <= 8
+                ? orientation.intValue() : null;
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String text ? text.trim() : null;
+    }
+
+    private static Double toDegrees(Object value, Object ref, String negativeRef) {
+        if (!(value instanceof double[] dms) || dms.length < 3) {
+            return null;
+        }
+        double degrees = dms[0] + dms[1] / 60.0 + dms[2] / 3600.0;
+        if (degrees == 0) {
+            return null;  // GPS 미수신 시 0으로 기록하는 기기
+        }
+        return negativeRef.equals(asString(ref)) ? -degrees : degrees;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean littleEndian) {
+        return littleEndian
+                ? (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8
+                : (data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF);
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (offset < 0 || offset + prefix.length > data.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.dormitory.SpringBoot.utils;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +12,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT 토큰 관련 유틸리티 클래스 - 완성된 버전
@@ -23,14 +25,26 @@ public class JwtUtil {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
-    @Value("${app.jwt.expiration:86400000}") // 기본값: 24시간
+    @Value("${app.jwt.expiration:900000}") // 기본값: 15분 (리프레시 토큰으로 재발급)
     private long jwtExpirationMs;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    /**
+     * 서명용 키/파서는 한 번만 생성하여 재사용
+     */
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     /**
-     * 서명용 키 생성
+     * 서명용 키
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 
     /**
@@ -50,6 +64,7 @@ public class JwtUtil {
             claims.put("iat", now.getTime() / 1000);
 
             String token = Jwts.builder()
+                    .id(UUID.randomUUID().toString()) // 개별 폐기용 식별자 (TokenRevocationService)
                     .subject(userId)
                     .claims(claims)
                     .issuedAt(now)
@@ -67,6 +82,13 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 액세스 토큰 유효 시간 (ms)
+     */
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
     /**
      * 토큰 유효성 검증
      *
@@ -74,38 +96,45 @@ public class JwtUtil {
      * @return 유효성 여부
      */
     public boolean isTokenValid(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    /**
+     * ✅ 토큰 검증 + 클레임 추출 (1회 파싱)
+     *
+     * @param token 검증할 토큰
+     * @return 유효한 토큰의 클레임, 유효하지 않으면 null
+     */
+    public Claims parseValidClaims(String token) {
         try {
             if (token == null || token.trim().isEmpty()) {
                 logger.debug("토큰이 null이거나 비어있음");
-                return false;
+                return null;
             }
 
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
             logger.debug("토큰 유효성 검증 성공");
-            return true;
+            return claims;
 
         } catch (ExpiredJwtException e) {
             logger.debug("토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             logger.debug("지원되지 않는 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (MalformedJwtException e) {
             logger.debug("잘못된 형식의 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (SecurityException e) {
             logger.debug("JWT 토큰 서명이 유효하지 않음: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             logger.debug("JWT 토큰이 비어있음: {}", e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
             logger.error("토큰 검증 중 예상치 못한 오류", e);
-            return false;
+            return null;
         }
     }
 
@@ -181,11 +210,7 @@ public class JwtUtil {
      */
     private Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             logger.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
             throw new RuntimeException("토큰이 만료되었습니다");
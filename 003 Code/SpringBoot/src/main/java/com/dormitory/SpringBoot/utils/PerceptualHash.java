@@ -0,0 +1,133 @@
+package com.dormitory.SpringBoot.utils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * 64비트 지각 해시 (dHash) 유틸리티
+ * ✅ 9x8 회색조로 축소한 뒤 가로로 이웃한 픽셀의 밝기 비교 결과를 비트로 기록
+ * ✅ 재압축/축소/약간의 밝기 변화에도 해밍 거리가 작게 유지되어 같은 사진 재사용 탐지에 사용
+ * ✅ 제출 시 사전 검사와 저장된 사진 색인이 같은 축소 디코딩(readGraySample)을 사용하여 해시가 일치
+ */
+public final class PerceptualHash {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    private PerceptualHash() {}
+
+    /**
+     * 축소 디코딩된 회색조 샘플 + 원본 정보
+     */
+    public static final class GraySample {
+        private final String format;
+        private final int width;
+        private final int height;
+        private final BufferedImage gray;
+
+        GraySample(String format, int width, int height, BufferedImage gray) {
+            this.format = format;
+            this.width = width;
+            this.height = height;
+            this.gray = gray;
+        }
+
+        public String getFormat() { return format; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public BufferedImage getGray() { return gray; }
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 서브샘플링 디코딩 후 회색조 변환
+     *
+     * @return 디코딩할 수 없는 형식(HEIC 등)이면 null
+     */
+    public static GraySample readGraySample(InputStream in, int maxDimension) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / maxDimension);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+
+                BufferedImage gray = toGray(reader.read(0, param), maxDimension);
+                return new GraySample(reader.getFormatName().toUpperCase(Locale.ROOT), width, height, gray);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage toGray(BufferedImage image, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return gray;
+    }
+
+    /**
+     * 이미지의 dHash 계산
+     */
+    public static long dHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = small.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        } finally {
+            g.dispose();
+        }
+
+        byte[] pixels = new byte[HASH_WIDTH * HASH_HEIGHT];
+        small.getRaster().getDataElements(0, 0, HASH_WIDTH, HASH_HEIGHT, pixels);
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = pixels[y * HASH_WIDTH + x] & 0xFF;
+                int right = pixels[y * HASH_WIDTH + x + 1] & 0xFF;
+                hash = (hash << 1) | (left < right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리 (0~64)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
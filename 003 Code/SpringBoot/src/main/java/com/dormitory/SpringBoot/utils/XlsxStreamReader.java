@@ -0,0 +1,101 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * .xlsx 첫 번째 시트 스트리밍 읽기 유틸리티 (SAX 이벤트 모델)
+ * ✅ 시트 DOM을 만들지 않고 행 단위로 콜백 - 행 수와 관계없이 메모리 사용 일정
+ * ✅ 셀 값은 엑셀 표시 형식 그대로 문자열로 전달 (학번/호실번호 등 숫자 셀도 "20231234" 형태)
+ */
+public final class XlsxStreamReader {
+
+    private XlsxStreamReader() {}
+
+    /**
+     * 행 처리 콜백
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber 엑셀 행 번호 (1부터)
+         * @param cells     열 순서대로의 셀 값 (빈 셀은 null)
+         */
+        void handle(int rowNumber, List<String> cells);
+    }
+
+    /**
+     * 파일의 첫 번째 시트를 행 단위로 읽기
+     */
+    public static void readFirstSheet(File file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, sharedStrings, new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("엑셀 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 셀 이벤트를 모아 행 단위로 전달 (중간의 빈 셀은 null로 채움)
+     */
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.handle(rowNum + 1, new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+}
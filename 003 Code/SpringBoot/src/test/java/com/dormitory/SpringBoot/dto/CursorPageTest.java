@@ -0,0 +1,109 @@
+package com.dormitory.SpringBoot.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void roundTripsTimeAndId() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 21, 30, 15, 123_000_000);
+
+        CursorPage.Cursor cursor = CursorPage.decode(CursorPage.encode(time, "42"));
+
+        assertEquals(time, cursor.getTime());
+        assertEquals("42", cursor.getId());
+        assertEquals(Long.valueOf(42L), cursor.getLongId());
+    }
+
+    @Test
+    void roundTripsNullTime() {
+        // 시각이 없는 이전 데이터 - 시각 부분을 비워 인코딩
+        CursorPage.Cursor cursor = CursorPage.decode(CursorPage.encode(null, "7"));
+
+        assertNull(cursor.getTime());
+        assertEquals(Long.valueOf(7L), cursor.getLongId());
+    }
+
+    @Test
+    void roundTripsStringIdContainingSeparator() {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+        CursorPage.Cursor cursor = CursorPage.decode(CursorPage.encode(time, "user|01"));
+
+        assertEquals(time, cursor.getTime());
+        assertEquals("user|01", cursor.getId());
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String encoded = CursorPage.encode(LocalDateTime.of(2024, 12, 31, 23, 59, 59), "1000");
+
+        assertFalse(encoded.contains("="));
+        assertFalse(encoded.contains("+"));
+        assertFalse(encoded.contains("/"));
+    }
+
+    @Test
+    void returnsNullForMissingCursor() {
+        assertNull(CursorPage.decode(null));
+        assertNull(CursorPage.decode(" "));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode("!!!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode(raw("no-separator")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode(raw("2024-01-01T00:00|")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode(raw("not-a-time|1")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode(raw("|abc")).getLongId());
+    }
+
+    @Test
+    void buildsNextCursorFromLastItemOfPage() {
+        List<Item> fetched = List.of(
+                new Item(3L, LocalDateTime.of(2024, 3, 3, 0, 0)),
+                new Item(2L, null),
+                new Item(1L, null));
+
+        CursorPage<Long> page = CursorPage.of(fetched, 2, Item::time, Item::id, Item::id);
+
+        assertTrue(page.isHasNext());
+        assertEquals(List.of(3L, 2L), page.getContent());
+        CursorPage.Cursor next = CursorPage.decode(page.getNextCursor());
+        assertNull(next.getTime());
+        assertEquals(Long.valueOf(2L), next.getLongId());
+    }
+
+    @Test
+    void omitsNextCursorOnLastPage() {
+        List<Item> fetched = List.of(new Item(1L, LocalDateTime.of(2024, 3, 3, 0, 0)));
+
+        CursorPage<Long> page = CursorPage.of(fetched, 2, Item::time, Item::id, Item::id);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(List.of(1L), page.getContent());
+    }
+
+    @Test
+    void clampsRequestedSize() {
+        assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.clampSize(null));
+        assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.clampSize(0));
+        assertEquals(50, CursorPage.clampSize(50));
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.clampSize(1000));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Item(Long id, LocalDateTime time) {
+    }
+}
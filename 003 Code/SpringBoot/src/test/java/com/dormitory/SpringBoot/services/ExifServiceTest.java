@@ -0,0 +1,70 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.ExifHeaderParser.ExifMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExifServiceTest {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ExifService exifService = new ExifService();
+
+    @Test
+    void acceptsKoreanLocalCaptureTimeOnUtcServer() {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            ExifMetadata metadata = captured(LocalDateTime.now(KOREA_ZONE).minusMinutes(5), null);
+
+            assertTrue(exifService.validateCaptureTime(metadata, 30));
+            assertTrue(exifService.validateCaptureDate(metadata));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void usesRecordedOffsetWhenPresent() {
+        // 해외 시간대로 설정된 기기 - 현지 시각은 다르지만 같은 순간
+        ZonedDateTime now = ZonedDateTime.now(KOREA_ZONE).minusMinutes(5);
+        LocalDateTime utcLocal = now.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        ExifMetadata metadata = captured(utcLocal, ZoneOffset.UTC);
+
+        assertTrue(exifService.validateCaptureTime(metadata, 30));
+        assertTrue(exifService.validateCaptureDate(metadata));
+    }
+
+    @Test
+    void rejectsCaptureOutsideTolerance() {
+        ExifMetadata metadata = captured(LocalDateTime.now(KOREA_ZONE).minusHours(2), ZoneOffset.ofHours(9));
+
+        assertFalse(exifService.validateCaptureTime(metadata, 30));
+    }
+
+    @Test
+    void rejectsCaptureFromPreviousDay() {
+        ExifMetadata metadata = captured(LocalDateTime.now(KOREA_ZONE).minusDays(1), null);
+
+        assertFalse(exifService.validateCaptureDate(metadata));
+    }
+
+    @Test
+    void passesWhenCaptureTimeMissing() {
+        ExifMetadata metadata = ExifMetadata.empty();
+
+        assertTrue(exifService.validateCaptureTime(metadata, 30));
+        assertTrue(exifService.validateCaptureDate(metadata));
+    }
+
+    private static ExifMetadata captured(LocalDateTime dateTimeOriginal, ZoneOffset offset) {
+        return new ExifMetadata("JPEG", dateTimeOriginal, null, null, null, null, null, null, offset, null);
+    }
+}
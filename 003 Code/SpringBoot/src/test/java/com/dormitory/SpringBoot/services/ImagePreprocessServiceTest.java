@@ -0,0 +1,157 @@
+package com.dormitory.SpringBoot.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImagePreprocessServiceTest {
+
+    private final ImagePreprocessService service = new ImagePreprocessService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxDimension", 1024);
+        ReflectionTestUtils.setField(service, "jpegQuality", 0.9f);
+        ReflectionTestUtils.setField(service, "maxOriginalBytes", 10L * 1024 * 1024);
+    }
+
+    @Test
+    void rotatesPortraitShotStoredSideways() throws IOException {
+        // 세로로 찍었지만 센서 방향(가로)으로 저장된 사진 - Orientation 6 (시계 방향 90도 회전해서 표시)
+        byte[] jpeg = jpegWithOrientation(quadrants(80, 40), 6);
+
+        BufferedImage result = decode(service.prepareForAnalysis(new ByteArrayResource(jpeg)));
+
+        assertEquals(40, result.getWidth());
+        assertEquals(80, result.getHeight());
+        // 원본 왼쪽 아래(파랑) → 왼쪽 위, 원본 왼쪽 위(빨강) → 오른쪽 위
+        assertColor(Color.BLUE, result, 10, 10);
+        assertColor(Color.RED, result, 30, 10);
+        assertColor(Color.YELLOW, result, 10, 70);
+        assertColor(Color.GREEN, result, 30, 70);
+    }
+
+    @Test
+    void rotatesUpsideDownShot() throws IOException {
+        byte[] jpeg = jpegWithOrientation(quadrants(80, 40), 3);
+
+        BufferedImage result = decode(service.prepareForAnalysis(new ByteArrayResource(jpeg)));
+
+        assertEquals(80, result.getWidth());
+        assertEquals(40, result.getHeight());
+        assertColor(Color.YELLOW, result, 10, 10);
+        assertColor(Color.RED, result, 70, 30);
+    }
+
+    @Test
+    void keepsImageWithoutOrientation() throws IOException {
+        byte[] jpeg = encode(quadrants(80, 40));
+
+        BufferedImage result = decode(service.prepareForAnalysis(new ByteArrayResource(jpeg)));
+
+        assertEquals(80, result.getWidth());
+        assertEquals(40, result.getHeight());
+        assertColor(Color.RED, result, 10, 10);
+        assertColor(Color.YELLOW, result, 70, 30);
+    }
+
+    @Test
+    void rotatesBeforeScalingToMaxDimension() throws IOException {
+        ReflectionTestUtils.setField(service, "maxDimension", 40);
+        byte[] jpeg = jpegWithOrientation(quadrants(80, 40), 8);
+
+        BufferedImage result = decode(service.prepareForAnalysis(new ByteArrayResource(jpeg)));
+
+        assertEquals(20, result.getWidth());
+        assertEquals(40, result.getHeight());
+        // Orientation 8 (반시계 방향 90도) - 원본 오른쪽 위(초록) → 왼쪽 위
+        assertColor(Color.GREEN, result, 5, 5);
+    }
+
+    @Test
+    void appliesEveryOrientationTransform() {
+        BufferedImage source = quadrants(80, 40);
+        // 각 Orientation 적용 후 왼쪽 위 사분면 색
+        Color[] topLeft = {null, Color.RED, Color.GREEN, Color.YELLOW, Color.BLUE,
+                Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
+
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            BufferedImage result = ImagePreprocessService.applyOrientation(source, orientation);
+            boolean swapped = orientation >= 5;
+            assertEquals(swapped ? 40 : 80, result.getWidth(), "orientation " + orientation);
+            assertEquals(swapped ? 80 : 40, result.getHeight(), "orientation " + orientation);
+            assertEquals(topLeft[orientation].getRGB(), result.getRGB(5, 5) | 0xFF000000, "orientation " + orientation);
+        }
+    }
+
+    /**
+     * 사분면 색: 왼쪽 위 빨강, 오른쪽 위 초록, 왼쪽 아래 파랑, 오른쪽 아래 노랑
+     */
+    private static BufferedImage quadrants(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean right = x >= width / 2;
+                boolean bottom = y >= height / 2;
+                Color color = bottom ? (right ? Color.YELLOW : Color.BLUE) : (right ? Color.GREEN : Color.RED);
+                image.setRGB(x, y, color.getRGB());
+            }
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif) 삽입
+     */
+    private static byte[] jpegWithOrientation(BufferedImage image, int orientation) throws IOException {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        byte[] jpeg = encode(image);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        int length = 2 + 6 + tiff.length;
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        assertNotNull(bytes);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertNotNull(image);
+        return image;
+    }
+
+    /**
+     * JPEG 손실 압축을 고려해 채널별 오차 허용
+     */
+    private static void assertColor(Color expected, BufferedImage image, int x, int y) {
+        Color actual = new Color(image.getRGB(x, y));
+        assertTrue(Math.abs(expected.getRed() - actual.getRed()) < 60
+                        && Math.abs(expected.getGreen() - actual.getGreen()) < 60
+                        && Math.abs(expected.getBlue() - actual.getBlue()) < 60,
+                "(" + x + ", " + y + ") 기대 " + expected + ", 실제 " + actual);
+    }
+}
@@ -0,0 +1,261 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.utils.PerceptualHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사전 검사 기준값 양쪽의 합성 이미지로 각 검사 확인
+ * 회색조 PNG는 무손실이고 샘플 크기(512) 이하이므로 검사가 보는 픽셀 값이 그대로 유지됨
+ */
+class ImagePrescreenServiceTest {
+
+    private final ImagePrescreenService service = new ImagePrescreenService();
+    private final StoredHashIndex photoHashIndex = new StoredHashIndex();
+
+    @BeforeEach
+    void setUp() {
+        ExifService exifService = new ExifService();
+        ReflectionTestUtils.setField(exifService, "headerWindowBytes", 64 * 1024);
+
+        ReflectionTestUtils.setField(service, "exifService", exifService);
+        ReflectionTestUtils.setField(service, "photoHashIndexService", photoHashIndex);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "sampleDimension", 512);
+        ReflectionTestUtils.setField(service, "minWidth", 480);
+        ReflectionTestUtils.setField(service, "minHeight", 480);
+        ReflectionTestUtils.setField(service, "darkMeanThreshold", 20.0);
+        ReflectionTestUtils.setField(service, "brightMeanThreshold", 245.0);
+        ReflectionTestUtils.setField(service, "uniformRatioThreshold", 0.95);
+        ReflectionTestUtils.setField(service, "uniformBand", 8);
+        ReflectionTestUtils.setField(service, "blurVarianceThreshold", 40.0);
+        ReflectionTestUtils.setField(service, "requireCameraExif", false);
+        ReflectionTestUtils.setField(service, "screenshotFormats", "PNG");
+        ReflectionTestUtils.setField(service, "repeatMaxDistance", 6);
+        service.init();
+    }
+
+    // ==================== 해상도 (짧은 변 480) ====================
+
+    @Test
+    void rejectsShortSideBelowMinimum() throws IOException {
+        assertRejectedBy("resolution", prescreen(png(gradient(512, 479, 0, 255, 6))));
+    }
+
+    @Test
+    void acceptsShortSideAtMinimum() throws IOException {
+        assertNotRejectedBy("resolution", prescreen(png(gradient(512, 480, 0, 255, 6))));
+    }
+
+    // ==================== 밝기 (평균 20 ~ 245, 단색 비율 0.95) ====================
+
+    @Test
+    void rejectsDarkImage() throws IOException {
+        // 평균 약 18
+        assertRejectedBy("luminance", prescreen(png(gradient(512, 480, 0, 30, 6))));
+    }
+
+    @Test
+    void acceptsDimImageAboveDarkThreshold() throws IOException {
+        // 평균 약 23
+        assertNotRejectedBy("luminance", prescreen(png(gradient(512, 480, 6, 34, 6))));
+    }
+
+    @Test
+    void rejectsBrightImage() throws IOException {
+        // 평균 약 247
+        assertRejectedBy("luminance", prescreen(png(gradient(512, 480, 238, 250, 6))));
+    }
+
+    @Test
+    void acceptsLightImageBelowBrightThreshold() throws IOException {
+        // 평균 약 242
+        assertNotRejectedBy("luminance", prescreen(png(gradient(512, 480, 232, 246, 6))));
+    }
+
+    @Test
+    void rejectsMostlyUniformImage() throws IOException {
+        // 97%가 같은 밝기 구간
+        assertRejectedBy("luminance", prescreen(png(mostlyUniform(0.97))));
+    }
+
+    @Test
+    void acceptsImageBelowUniformRatio() throws IOException {
+        // 90%가 같은 밝기 구간
+        assertNotRejectedBy("luminance", prescreen(png(mostlyUniform(0.90))));
+    }
+
+    // ==================== 흔들림 (라플라시안 분산 40) ====================
+
+    @Test
+    void rejectsBlurryImage() throws IOException {
+        // 체크 무늬 진폭 1 → 분산 약 16
+        assertRejectedBy("blur", prescreen(png(gradient(512, 480, 0, 255, 1))));
+    }
+
+    @Test
+    void acceptsSharpImage() throws IOException {
+        // 체크 무늬 진폭 2 → 분산 약 64
+        assertNotRejectedBy("blur", prescreen(png(gradient(512, 480, 0, 255, 2))));
+    }
+
+    // ==================== 카메라 EXIF ====================
+
+    @Test
+    void rejectsPngWithoutCameraExif() throws IOException {
+        assertRejectedBy("camera-exif", prescreen(png(gradient(512, 480, 0, 255, 6))));
+    }
+
+    @Test
+    void acceptsJpegWithoutCameraExifByDefault() throws IOException {
+        ImagePrescreenService.Result result = prescreen(jpeg(gradient(512, 480, 0, 255, 40), null));
+
+        assertTrue(result.isPassed(), "부적합: " + result.getCheckName());
+    }
+
+    @Test
+    void requiresCameraExifWhenConfigured() throws IOException {
+        ReflectionTestUtils.setField(service, "requireCameraExif", true);
+        BufferedImage image = gradient(512, 480, 0, 255, 40);
+
+        assertRejectedBy("camera-exif", prescreen(jpeg(image, null)));
+        assertTrue(prescreen(jpeg(image, "samsung")).isPassed());
+    }
+
+    // ==================== 이전 사진 재사용 (dHash 거리 6) ====================
+
+    @Test
+    void rejectsPhotoWithinRepeatDistance() throws IOException {
+        byte[] photo = png(gradient(512, 480, 0, 255, 6));
+        photoHashIndex.storedHash = hashOf(photo) ^ 0b111111L;  // 6비트 차이
+        ReflectionTestUtils.setField(service, "screenshotFormats", "");
+
+        assertRejectedBy("repeat", prescreen(photo));
+    }
+
+    @Test
+    void acceptsPhotoBeyondRepeatDistance() throws IOException {
+        byte[] photo = png(gradient(512, 480, 0, 255, 6));
+        photoHashIndex.storedHash = hashOf(photo) ^ 0b1111111L;  // 7비트 차이
+        ReflectionTestUtils.setField(service, "screenshotFormats", "");
+
+        assertTrue(prescreen(photo).isPassed());
+    }
+
+    // ==================== 도우미 ====================
+
+    private ImagePrescreenService.Result prescreen(byte[] bytes) {
+        return service.prescreen("user1", "A동", "301", new MockMultipartFile("image", bytes));
+    }
+
+    private static void assertRejectedBy(String checkName, ImagePrescreenService.Result result) {
+        assertFalse(result.isPassed(), checkName + " 검사에서 부적합이어야 함");
+        assertEquals(checkName, result.getCheckName());
+    }
+
+    private static void assertNotRejectedBy(String checkName, ImagePrescreenService.Result result) {
+        assertNotEquals(checkName, result.getCheckName());
+    }
+
+    /**
+     * 가로 방향 밝기 그라데이션 + 체크 무늬 (진폭 a → 라플라시안 분산 약 16a²)
+     */
+    private static BufferedImage gradient(int width, int height, int from, int to, int checker) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int base = from + (int) Math.round((double) (to - from) * x / (width - 1));
+                int value = base + ((x + y) % 2 == 0 ? checker : 0);
+                image.getRaster().setSample(x, y, 0, Math.min(255, value));
+            }
+        }
+        return image;
+    }
+
+    /**
+     * 왼쪽 ratio 비율은 128 부근 체크 무늬, 나머지는 밝은 그라데이션
+     */
+    private static BufferedImage mostlyUniform(double ratio) {
+        int width = 500;
+        int height = 480;
+        int uniformColumns = (int) Math.round(width * ratio);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int value = x < uniformColumns
+                        ? 128 + ((x + y) % 2 == 0 ? 6 : 0)
+                        : 160 + (x - uniformColumns) * 90 / Math.max(1, width - uniformColumns);
+                image.getRaster().setSample(x, y, 0, value);
+            }
+        }
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG (make가 있으면 SOI 뒤에 제조사만 담은 APP1(Exif) 삽입)
+     */
+    private static byte[] jpeg(BufferedImage image, String make) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", encoded);
+        byte[] body = encoded.toByteArray();
+        if (make == null) {
+            return body;
+        }
+
+        byte[] value = (make + "\0").getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.write(new byte[]{'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1});
+        tiff.write(new byte[]{0x01, 0x0F, 0, 2, 0, 0, 0, (byte) value.length, 0, 0, 0, 26, 0, 0, 0, 0});
+        tiff.write(value);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(body, 0, 2);
+        int length = 2 + 6 + tiff.size();
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff.toByteArray());
+        out.write(body, 2, body.length - 2);
+        return out.toByteArray();
+    }
+
+    private static long hashOf(byte[] bytes) throws IOException {
+        return PerceptualHash.dHash(PerceptualHash.readGraySample(new ByteArrayInputStream(bytes), 512).getGray());
+    }
+
+    /**
+     * 저장된 해시 하나와 해밍 거리만 비교하는 색인 (BK-트리 탐색 결과와 같은 판정)
+     */
+    private static class StoredHashIndex extends PhotoHashIndexService {
+        private Long storedHash;
+
+        @Override
+        public Optional<Match> findReuse(String userId, String dormitoryBuilding, String roomNumber,
+                                         long hash, int maxDistance) {
+            if (storedHash == null) {
+                return Optional.empty();
+            }
+            int distance = Long.bitCount(hash ^ storedHash);
+            return distance <= maxDistance
+                    ? Optional.of(new Match(new Entry(1L, userId, dormitoryBuilding, roomNumber, null, storedHash), distance))
+                    : Optional.empty();
+        }
+    }
+}
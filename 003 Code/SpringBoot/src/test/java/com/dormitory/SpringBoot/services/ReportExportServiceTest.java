@@ -0,0 +1,58 @@
+package com.dormitory.SpringBoot.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportExportServiceTest {
+
+    private static final String BOM = "\uFEFF";
+
+    @Test
+    void writesBomAndCrlfRows() throws IOException {
+        assertEquals(BOM + "a,b\r\nc,d\r\n", csv(new Object[]{"a", "b"}, new Object[]{"c", "d"}));
+    }
+
+    @Test
+    void neutralizesFormulaPrefixes() throws IOException {
+        String output = csv(new Object[]{"=HYPERLINK(\"http://evil\")", "+1+2", "-2+3", "@SUM(A1)"});
+
+        assertEquals(BOM + "\"'=HYPERLINK(\"\"http://evil\"\")\",'+1+2,'-2+3,'@SUM(A1)\r\n", output);
+    }
+
+    @Test
+    void keepsNegativeNumbersAsNumbers() throws IOException {
+        assertEquals(BOM + "-5,-1.5\r\n", csv(new Object[]{-5, -1.5}));
+    }
+
+    @Test
+    void leavesOrdinaryTextAndFormulaCharactersInsideValue() throws IOException {
+        assertEquals(BOM + "홍길동,A=1,2024-05-01\r\n", csv(new Object[]{"홍길동", "A=1", "2024-05-01"}));
+    }
+
+    @Test
+    void quotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        String output = csv(new Object[]{"a,b", "say \"hi\"", "line1\nline2", null, ""});
+
+        assertEquals(BOM + "\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",,\r\n", output);
+    }
+
+    @Test
+    void quotesNeutralizedFormulaContainingSeparator() throws IOException {
+        assertEquals(BOM + "\"'=1,2\"\r\n", csv(new Object[]{"=1,2"}));
+    }
+
+    private static String csv(Object[]... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportExportService.CsvRowWriter writer = new ReportExportService.CsvRowWriter(out);
+        for (Object[] row : rows) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dormitory.SpringBoot.services;
+
+import com.dormitory.SpringBoot.repository.RevokedAccessTokenRepository;
+import com.dormitory.SpringBoot.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceTest {
+
+    private static final long EXPIRATION_MS = 15 * 60 * 1000L;
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        TokenRevocationService.BloomFilter filter = new TokenRevocationService.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("revoked-" + i), "revoked-" + i);
+        }
+    }
+
+    @Test
+    void bloomFilterStaysNearConfiguredFalsePositiveRate() {
+        TokenRevocationService.BloomFilter filter = new TokenRevocationService.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐 " + falsePositives + "건 / 100000");
+    }
+
+    @Test
+    void detectsRevokedTokenOnly() {
+        TokenRevocationService service = create(10_000, 0.01);
+        Claims revoked = claims("user1", "jti-1", 0);
+        Claims active = claims("user1", "jti-2", 0);
+
+        service.revoke(revoked);
+
+        assertTrue(service.isRevoked(revoked));
+        assertFalse(service.isRevoked(active));
+    }
+
+    @Test
+    void exactSetRejectsBloomFilterFalsePositives() {
+        // 버킷당 예상 1건/오탐률 0.5 - 64비트 필터가 금방 가득 차 대부분 "있을 수 있음"으로 판정됨
+        TokenRevocationService service = create(1, 0.5);
+        for (int i = 0; i < 200; i++) {
+            service.revoke(claims("user1", "revoked-" + i, 0));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(service.isRevoked(claims("user1", "revoked-" + i, 0)));
+            assertFalse(service.isRevoked(claims("user1", "active-" + i, 0)), "active-" + i);
+        }
+    }
+
+    @Test
+    void ignoresExpiredTokenAndTokenWithoutId() {
+        TokenRevocationService service = create(10_000, 0.01);
+        Claims expired = claims("user1", "jti-expired", -EXPIRATION_MS - 1000);
+        Claims withoutId = claims("user1", null, 0);
+
+        service.revoke(expired);
+        service.revoke(withoutId);
+
+        assertFalse(service.isRevoked(expired));
+        assertFalse(service.isRevoked(withoutId));
+    }
+
+    @Test
+    void revokesEveryTokenIssuedBeforeUserRevocation() {
+        TokenRevocationService service = create(10_000, 0.01);
+        Claims issuedEarlier = claims("user1", "jti-1", -60_000);
+        Claims otherUser = claims("user2", "jti-2", -60_000);
+
+        service.revokeAllForUser("user1");
+
+        assertTrue(service.isRevoked(issuedEarlier));
+        assertFalse(service.isRevoked(otherUser));
+        assertFalse(service.isRevoked(claims("user1", "jti-3", 2_000)));
+    }
+
+    private static TokenRevocationService create(int expectedPerBucket, double falsePositiveRate) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", EXPIRATION_MS);
+
+        TokenRevocationService service = new TokenRevocationService();
+        ReflectionTestUtils.setField(service, "revokedAccessTokenRepository", mock(RevokedAccessTokenRepository.class));
+        ReflectionTestUtils.setField(service, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(service, "expectedPerBucket", expectedPerBucket);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", falsePositiveRate);
+        service.init();
+        return service;
+    }
+
+    /**
+     * 현재 시각 + issuedOffsetMs에 발급된 액세스 토큰 클레임
+     */
+    private static Claims claims(String userId, String jti, long issuedOffsetMs) {
+        long issuedAt = System.currentTimeMillis() + issuedOffsetMs;
+        return Jwts.claims()
+                .subject(userId)
+                .id(jti)
+                .issuedAt(new Date(issuedAt))
+                .expiration(new Date(issuedAt + EXPIRATION_MS))
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.dormitory.SpringBoot.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncryptionUtilTest {
+
+    private static final String SECRET_KEY = "test-secret-key-for-encryption";
+    private static final String KEY_V1 = Base64.getEncoder().encodeToString(filled(32, 1));
+    private static final String KEY_V2 = Base64.getEncoder().encodeToString(filled(32, 2));
+
+    private EncryptionUtil encryptionUtil;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = create("", 1);
+    }
+
+    @Test
+    void encryptsWithActiveKeyVersionPrefix() {
+        String encrypted = encryptionUtil.encrypt("홍길동");
+
+        assertTrue(encrypted.startsWith("v1:"));
+        assertEquals("홍길동", encryptionUtil.decrypt(encrypted));
+        assertFalse(encryptionUtil.needsReEncryption(encrypted));
+    }
+
+    @Test
+    void usesFreshIvForEachEncryption() {
+        assertNotEquals(encryptionUtil.encrypt("010-1234-5678"), encryptionUtil.encrypt("010-1234-5678"));
+    }
+
+    @Test
+    void decryptsLegacyEcbValue() throws Exception {
+        String legacy = legacyEncrypt("20231234");
+
+        assertEquals("20231234", encryptionUtil.decrypt(legacy));
+        assertTrue(encryptionUtil.isEncrypted(legacy));
+        assertTrue(encryptionUtil.needsReEncryption(legacy));
+    }
+
+    @Test
+    void reEncryptsLegacyEcbValueToGcm() throws Exception {
+        String legacy = legacyEncrypt("student@example.com");
+
+        String reEncrypted = encryptionUtil.reEncrypt(legacy);
+
+        assertTrue(reEncrypted.startsWith("v1:"));
+        assertEquals("student@example.com", encryptionUtil.decrypt(reEncrypted));
+        assertFalse(encryptionUtil.needsReEncryption(reEncrypted));
+        assertEquals(reEncrypted, encryptionUtil.reEncrypt(reEncrypted));
+    }
+
+    @Test
+    void reEncryptsPlainTextStoredWithoutEncryption() {
+        String reEncrypted = encryptionUtil.reEncrypt("평문 이름");
+
+        assertTrue(reEncrypted.startsWith("v1:"));
+        assertEquals("평문 이름", encryptionUtil.decrypt(reEncrypted));
+    }
+
+    @Test
+    void rotatesToNewKeyVersion() {
+        EncryptionUtil before = create("1:" + KEY_V1, 1);
+        EncryptionUtil after = create("1:" + KEY_V1 + ",2:" + KEY_V2, 2);
+        String v1 = before.encrypt("홍길동");
+
+        assertEquals("홍길동", after.decrypt(v1));
+        assertTrue(after.needsReEncryption(v1));
+
+        String v2 = after.reEncrypt(v1);
+        assertTrue(v2.startsWith("v2:"));
+        assertEquals("홍길동", after.decrypt(v2));
+        assertFalse(after.needsReEncryption(v2));
+    }
+
+    @Test
+    void returnsOriginalForUnknownKeyVersion() {
+        String v2 = create("1:" + KEY_V1 + ",2:" + KEY_V2, 2).encrypt("홍길동");
+        EncryptionUtil v1Only = create("1:" + KEY_V1, 1);
+
+        assertEquals(v2, v1Only.decrypt(v2));
+        assertFalse(v1Only.isEncrypted(v2));
+        assertThrows(RuntimeException.class, () -> v1Only.reEncrypt(v2));
+    }
+
+    @Test
+    void rejectsTamperedCiphertext() {
+        String encrypted = encryptionUtil.encrypt("홍길동");
+        byte[] payload = Base64.getDecoder().decode(encrypted.substring(3));
+        payload[payload.length - 1] ^= 1;
+        String tampered = "v1:" + Base64.getEncoder().encodeToString(payload);
+
+        assertEquals(tampered, encryptionUtil.decrypt(tampered));
+        assertFalse(encryptionUtil.isEncrypted(tampered));
+    }
+
+    @Test
+    void decryptsMixedFormatsInBulk() throws Exception {
+        String gcm = encryptionUtil.encrypt("김철수");
+        String legacy = legacyEncrypt("이영희");
+
+        Map<String, String> result = encryptionUtil.decryptAll(Arrays.asList(gcm, legacy, gcm, null, "", "not-encrypted"));
+
+        assertEquals(3, result.size());
+        assertEquals("김철수", result.get(gcm));
+        assertEquals("이영희", result.get(legacy));
+        assertEquals("not-encrypted", result.get("not-encrypted"));
+    }
+
+    private static EncryptionUtil create(String gcmKeys, int activeKeyVersion) {
+        EncryptionUtil util = new EncryptionUtil();
+        ReflectionTestUtils.setField(util, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(util, "gcmKeysConfig", gcmKeys);
+        ReflectionTestUtils.setField(util, "activeKeyVersion", activeKeyVersion);
+        util.init();
+        return util;
+    }
+
+    /**
+     * 전환 전 형식 (AES/ECB, secret-key를 32바이트로 0 패딩한 키, 접두사 없음)
+     */
+    private static String legacyEncrypt(String plainText) throws Exception {
+        byte[] key = Arrays.copyOf(SECRET_KEY.getBytes(StandardCharsets.UTF_8), 32);
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+}
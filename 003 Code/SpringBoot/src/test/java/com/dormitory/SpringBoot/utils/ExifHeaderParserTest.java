@@ -0,0 +1,284 @@
+package com.dormitory.SpringBoot.utils;
+
+import com.dormitory.SpringBoot.utils.ExifHeaderParser.ExifMetadata;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExifHeaderParserTest {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void parsesJpegApp1LittleEndian() throws IOException {
+        Map<Integer, Object> exif = new LinkedHashMap<>();
+        exif.put(0x9003, "2026:03:02 21:15:30");
+        exif.put(0x9011, "+09:00");
+        Map<Integer, Object> gps = new LinkedHashMap<>();
+        gps.put(0x0001, "N");
+        gps.put(0x0002, new long[]{37, 1, 30, 1, 0, 1});
+        gps.put(0x0003, "E");
+        gps.put(0x0004, new long[]{127, 1, 15, 1, 36, 1});
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x010F, "samsung");
+        ifd0.put(0x0110, "SM-S918N");
+        ifd0.put(0x0112, 6);
+        ifd0.put(0x0131, "S918NKSU2BWK1");
+        ifd0.put(0x0132, "2026:03:02 21:15:31");
+        ifd0.put(0x8769, exif);
+        ifd0.put(0x8825, gps);
+
+        ExifMetadata metadata = parse(jpegWithExif(tiff(ByteOrder.LITTLE_ENDIAN, ifd0)));
+
+        assertEquals("JPEG", metadata.getFormat());
+        assertEquals(LocalDateTime.of(2026, 3, 2, 21, 15, 30), metadata.getDateTimeOriginal());
+        assertEquals(LocalDateTime.of(2026, 3, 2, 21, 15, 31), metadata.getDateTime());
+        assertEquals(ZoneOffset.ofHours(9), metadata.getOffsetTimeOriginal());
+        assertEquals("samsung", metadata.getMake());
+        assertEquals("SM-S918N", metadata.getModel());
+        assertEquals("S918NKSU2BWK1", metadata.getSoftware());
+        assertEquals(Integer.valueOf(6), metadata.getOrientation());
+        assertEquals(37.5, metadata.getLatitude(), 1e-9);
+        assertEquals(127.26, metadata.getLongitude(), 1e-9);
+        assertEquals(ZonedDateTime.of(2026, 3, 2, 21, 15, 30, 0, KOREA_ZONE), metadata.getCaptureTime(KOREA_ZONE));
+    }
+
+    @Test
+    void convertsCaptureTimeUsingRecordedOffset() throws IOException {
+        Map<Integer, Object> exif = new LinkedHashMap<>();
+        exif.put(0x9003, "2026:03:02 23:30:00");
+        exif.put(0x9011, "+00:00");
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x8769, exif);
+
+        ExifMetadata metadata = parse(jpegWithExif(tiff(ByteOrder.BIG_ENDIAN, ifd0)));
+
+        // UTC 23:30 = 한국 다음날 08:30
+        assertEquals(ZonedDateTime.of(2026, 3, 3, 8, 30, 0, 0, KOREA_ZONE), metadata.getCaptureTime(KOREA_ZONE));
+    }
+
+    @Test
+    void treatsCaptureTimeWithoutOffsetAsLocalTime() throws IOException {
+        Map<Integer, Object> exif = new LinkedHashMap<>();
+        exif.put(0x9003, "2026:03:02 07:45:00");
+        exif.put(0x9011, "   :  ");
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x8769, exif);
+
+        ExifMetadata metadata = parse(jpegWithExif(tiff(ByteOrder.LITTLE_ENDIAN, ifd0)));
+
+        assertNull(metadata.getOffsetTimeOriginal());
+        assertEquals(ZonedDateTime.of(2026, 3, 2, 7, 45, 0, 0, KOREA_ZONE), metadata.getCaptureTime(KOREA_ZONE));
+    }
+
+    @Test
+    void readsApp1SegmentBeyondWindow() throws IOException {
+        Map<Integer, Object> exif = new LinkedHashMap<>();
+        exif.put(0x9003, "2026:03:02 21:15:30");
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x010F, "Apple");
+        ifd0.put(0x8769, exif);
+
+        byte[] jpeg = jpegWithExif(tiff(ByteOrder.BIG_ENDIAN, ifd0));
+        ExifMetadata metadata = ExifHeaderParser.parse(new ByteArrayInputStream(jpeg), 32);
+
+        assertEquals("Apple", metadata.getMake());
+        assertEquals(LocalDateTime.of(2026, 3, 2, 21, 15, 30), metadata.getDateTimeOriginal());
+    }
+
+    @Test
+    void jpegWithoutExifHasFormatOnly() throws IOException {
+        ExifMetadata metadata = parse(encodedJpeg());
+
+        assertEquals("JPEG", metadata.getFormat());
+        assertNull(metadata.getCaptureTime());
+        assertNull(metadata.getMake());
+        assertFalse(metadata.hasGps());
+    }
+
+    @Test
+    void parsesHeicExifBlock() throws IOException {
+        Map<Integer, Object> exif = new LinkedHashMap<>();
+        exif.put(0x9003, "2026:03:02 21:15:30");
+        exif.put(0x9011, "+09:00");
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x010F, "Apple");
+        ifd0.put(0x0110, "iPhone 15");
+        ifd0.put(0x8769, exif);
+
+        ExifMetadata metadata = parse(heicWithExif(tiff(ByteOrder.BIG_ENDIAN, ifd0)));
+
+        assertEquals("HEIC", metadata.getFormat());
+        assertEquals("Apple", metadata.getMake());
+        assertEquals("iPhone 15", metadata.getModel());
+        assertEquals(ZoneOffset.ofHours(9), metadata.getOffsetTimeOriginal());
+        assertEquals(LocalDateTime.of(2026, 3, 2, 21, 15, 30), metadata.getDateTimeOriginal());
+    }
+
+    @Test
+    void unknownFormatIsEmpty() throws IOException {
+        ExifMetadata metadata = parse("not an image at all".getBytes(StandardCharsets.US_ASCII));
+
+        assertNull(metadata.getFormat());
+        assertNull(metadata.getCaptureTime());
+    }
+
+    @Test
+    void ignoresOutOfRangeOffsets() throws IOException {
+        Map<Integer, Object> ifd0 = new LinkedHashMap<>();
+        ifd0.put(0x010F, "samsung");
+        byte[] tiff = tiff(ByteOrder.LITTLE_ENDIAN, ifd0);
+        // 제조사 값 오프셋을 블록 밖으로 변경 (잘린 헤더)
+        ByteBuffer.wrap(tiff).order(ByteOrder.LITTLE_ENDIAN).putInt(8 + 2 + 8, 60_000);
+
+        ExifMetadata metadata = parse(jpegWithExif(tiff));
+
+        assertEquals("JPEG", metadata.getFormat());
+        assertNull(metadata.getMake());
+    }
+
+    private static ExifMetadata parse(byte[] data) throws IOException {
+        return ExifHeaderParser.parse(new ByteArrayInputStream(data), ExifHeaderParser.DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * ImageIO로 인코딩한 실제 JPEG (SOI 뒤 APP0/JFIF, DQT, SOF, SOS 순)
+     */
+    private static byte[] encodedJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 실제 JPEG의 SOI 바로 뒤에 APP1(Exif) 세그먼트 삽입 (카메라 출력과 같은 배치)
+     */
+    private static byte[] jpegWithExif(byte[] tiff) throws IOException {
+        byte[] jpeg = encodedJpeg();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        int length = 2 + 6 + tiff.length;
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    /**
+     * ftyp(heic) + meta 상자 + Exif 항목 (항목 앞 4바이트는 TIFF 헤더까지의 오프셋)
+     */
+    private static byte[] heicWithExif(byte[] tiff) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(box("ftyp", "heic\0\0\0\0mif1heic".getBytes(StandardCharsets.US_ASCII)));
+        out.write(box("meta", new byte[]{0, 0, 0, 0}));
+        ByteArrayOutputStream item = new ByteArrayOutputStream();
+        item.write(new byte[]{0, 0, 0, 6});
+        item.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        item.write(tiff);
+        out.write(box("mdat", item.toByteArray()));
+        return out.toByteArray();
+    }
+
+    private static byte[] box(String type, byte[] payload) {
+        return ByteBuffer.allocate(8 + payload.length)
+                .putInt(8 + payload.length)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * TIFF 블록 작성 - 값: String(ASCII), Integer(SHORT), Long(LONG), long[](RATIONAL 분자/분모 쌍), Map(하위 IFD)
+     */
+    private static byte[] tiff(ByteOrder order, Map<Integer, Object> ifd0) {
+        ByteBuffer buf = ByteBuffer.allocate(4096).order(order);
+        buf.put(order == ByteOrder.LITTLE_ENDIAN ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        buf.putShort((short) 42);
+        buf.putInt(8);
+        writeIfd(buf, ifd0);
+        byte[] result = new byte[buf.position()];
+        System.arraycopy(buf.array(), 0, result, 0, result.length);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeIfd(ByteBuffer buf, Map<Integer, Object> entries) {
+        int start = buf.position();
+        int data = start + 2 + entries.size() * 12 + 4;
+        Map<Integer, Map<Integer, Object>> children = new LinkedHashMap<>();
+
+        buf.putShort((short) entries.size());
+        for (Map.Entry<Integer, Object> entry : entries.entrySet()) {
+            int field = buf.position();
+            buf.putShort((short) (int) entry.getKey());
+            Object value = entry.getValue();
+            byte[] bytes;
+            int type;
+            int count;
+            if (value instanceof Map<?, ?> child) {
+                children.put(field + 8, (Map<Integer, Object>) child);
+                type = 4;
+                count = 1;
+                bytes = new byte[4];
+            } else if (value instanceof String text) {
+                bytes = (text + "\0").getBytes(StandardCharsets.US_ASCII);
+                type = 2;
+                count = bytes.length;
+            } else if (value instanceof Integer number) {
+                bytes = ByteBuffer.allocate(4).order(buf.order()).putShort((short) (int) number).array();
+                type = 3;
+                count = 1;
+            } else if (value instanceof Long number) {
+                bytes = ByteBuffer.allocate(4).order(buf.order()).putInt((int) (long) number).array();
+                type = 4;
+                count = 1;
+            } else {
+                long[] rationals = (long[]) value;
+                ByteBuffer rational = ByteBuffer.allocate(rationals.length * 4).order(buf.order());
+                for (long part : rationals) {
+                    rational.putInt((int) part);
+                }
+                bytes = rational.array();
+                type = 5;
+                count = rationals.length / 2;
+            }
+            buf.putShort((short) type);
+            buf.putInt(count);
+            if (bytes.length <= 4) {
+                buf.put(bytes);
+                buf.position(field + 12);
+            } else {
+                buf.putInt(data);
+                int back = buf.position();
+                buf.position(data);
+                buf.put(bytes);
+                data = buf.position() + (buf.position() & 1);
+                buf.position(back);
+            }
+        }
+        buf.putInt(0);
+        buf.position(data);
+
+        for (Map.Entry<Integer, Map<Integer, Object>> child : children.entrySet()) {
+            buf.putInt(child.getKey(), buf.position());
+            writeIfd(buf, child.getValue());
+        }
+    }
+}